@@ -0,0 +1,51 @@
+package com.sportradar.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Runs every benchmark with the GC profiler enabled, so allocation rates are
+ * reported next to the timings. The steady-state benchmarks are run once
+ * single-threaded for all repositories and then with each thread count in
+ * {@link #THREAD_COUNTS} for the {@code concurrent} and {@code ringBuffer}
+ * repositories, which are the only ones that support concurrent writers. Standard JMH command line
+ * options, such as {@code -p matchCount=1000}, are applied to every run.
+ * </p>
+ */
+public final class BenchmarkRunner {
+    private static final int[] THREAD_COUNTS = { 4, 16 };
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        new Runner(options(commandLine)
+                .include(ScoreboardBenchmark.class.getSimpleName())
+                .include(MatchLifecycleBenchmark.class.getSimpleName())
+                .threads(1)
+                .build()).run();
+
+        for (int threads : THREAD_COUNTS) {
+            new Runner(options(commandLine)
+                    .include(ScoreboardBenchmark.class.getSimpleName())
+                    .param("repository", "concurrent", "ringBuffer")
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+
+    private static ChainedOptionsBuilder options(CommandLineOptions commandLine) {
+        return new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sportradar.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sportradar.service.ScoreboardService;
+
+/**
+ * Single-shot benchmarks of starting and finishing matches in isolation.
+ * <p>
+ * Starting and finishing change the size of the board, so they cannot run in
+ * a steady-state loop. Each iteration instead rebuilds a board of
+ * {@code matchCount} matches plus {@value #BATCH_SIZE} extra matches and then
+ * measures a batch of {@value #BATCH_SIZE} starts or finishes. Because two
+ * boards are rebuilt for every iteration, the board size stops at 100,000
+ * matches; {@link ScoreboardBenchmark} covers 1M. These benchmarks are
+ * single-threaded.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = MatchLifecycleBenchmark.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = MatchLifecycleBenchmark.BATCH_SIZE)
+@Fork(1)
+public class MatchLifecycleBenchmark {
+    static final int BATCH_SIZE = 1000;
+
+    @Param({ "10", "1000", "100000" })
+    public int matchCount;
+
+    @Param({ ScoreboardFixture.TOTAL_SCORE_AND_TIME, ScoreboardFixture.HOME_TEAM_ALPHABETICAL })
+    public String comparator;
+
+    @Param({ "inMemory", "concurrent", "packedKeys", "offHeap", "journaled", "ringBuffer" })
+    public String repository;
+
+    private ScoreboardService startBoard;
+    private ScoreboardService finishBoard;
+    private String[] batchHomeTeamNames;
+    private String[] batchAwayTeamNames;
+    private int nextStart;
+    private int nextFinish;
+
+    @Setup(Level.Trial)
+    public void setUpNames() {
+        batchHomeTeamNames = new String[BATCH_SIZE];
+        batchAwayTeamNames = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batchHomeTeamNames[i] = "Batch home " + i;
+            batchAwayTeamNames[i] = "Batch away " + i;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpBoards() {
+        startBoard = ScoreboardFixture.createScoreboard(comparator, repository);
+        ScoreboardFixture.populate(startBoard, matchCount);
+        finishBoard = ScoreboardFixture.createScoreboard(comparator, repository);
+        ScoreboardFixture.populate(finishBoard, matchCount);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            finishBoard.startMatch(batchHomeTeamNames[i], batchAwayTeamNames[i]);
+        }
+        nextStart = 0;
+        nextFinish = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownBoards() throws Exception {
+        ScoreboardFixture.close(startBoard);
+        ScoreboardFixture.close(finishBoard);
+    }
+
+    @Benchmark
+    public void startMatch() {
+        int i = nextStart++;
+        startBoard.startMatch(batchHomeTeamNames[i], batchAwayTeamNames[i]);
+    }
+
+    @Benchmark
+    public void finishMatch() {
+        int i = nextFinish++;
+        finishBoard.finishMatch(batchHomeTeamNames[i], batchAwayTeamNames[i]);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sportradar.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sportradar.domain.Match;
+import com.sportradar.service.ScoreboardService;
+
+/**
+ * Steady-state benchmarks of the scoreboard operations.
+ * <p>
+ * The board is populated once per trial with {@code matchCount} live matches.
+ * Score updates run against random live matches, while
+ * {@link #startAndFinishMatch(ThreadState)} keeps the board size constant by
+ * finishing every match it starts. Run with more than one thread only with
+ * the {@code concurrent} and {@code ringBuffer} repositories.
+ * </p>
+ * <p>
+ * The summary of an unchanged board is a cached list, so reading it alone
+ * would only measure a field read. {@link #getSummary(ThreadState)} therefore
+ * updates a score before every read, so each read builds the list of a new
+ * snapshot; its cost is the difference to {@link #updateScore(ThreadState)}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreboardBenchmark {
+
+    @Param({ "10", "1000", "100000", "1000000" })
+    public int matchCount;
+
+    @Param({ ScoreboardFixture.TOTAL_SCORE_AND_TIME, ScoreboardFixture.HOME_TEAM_ALPHABETICAL })
+    public String comparator;
+
+    @Param({ "inMemory", "concurrent", "packedKeys", "offHeap", "journaled", "ringBuffer" })
+    public String repository;
+
+    private ScoreboardService scoreboard;
+    private String[] homeTeamNames;
+    private String[] awayTeamNames;
+    private final AtomicInteger nextThreadId = new AtomicInteger();
+
+    /**
+     * Per-thread state holding the names of the spare matches a thread starts
+     * and finishes, so that threads never compete for the same teams.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        String spareHomeTeamName;
+        String spareAwayTeamName;
+        int goals;
+
+        @Setup(Level.Trial)
+        public void setUp(ScoreboardBenchmark benchmark) {
+            int threadId = benchmark.nextThreadId.getAndIncrement();
+            spareHomeTeamName = "Spare home " + threadId;
+            spareAwayTeamName = "Spare away " + threadId;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = ScoreboardFixture.createScoreboard(comparator, repository);
+        ScoreboardFixture.populate(scoreboard, matchCount);
+        homeTeamNames = new String[matchCount];
+        awayTeamNames = new String[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            homeTeamNames[i] = ScoreboardFixture.homeTeamName(i);
+            awayTeamNames[i] = ScoreboardFixture.awayTeamName(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        ScoreboardFixture.close(scoreboard);
+    }
+
+    @Benchmark
+    public void updateScore(ThreadState state) {
+        int i = ThreadLocalRandom.current().nextInt(matchCount);
+        int goals = state.goals++ & 15;
+        scoreboard.updateScore(homeTeamNames[i], awayTeamNames[i], goals, i & 3);
+    }
+
+    @Benchmark
+    public List<Match> getSummary(ThreadState state) {
+        updateScore(state);
+        return scoreboard.getSummary();
+    }
+
+    @Benchmark
+    public void startAndFinishMatch(ThreadState state) {
+        scoreboard.startMatch(state.spareHomeTeamName, state.spareAwayTeamName);
+        scoreboard.finishMatch(state.spareHomeTeamName, state.spareAwayTeamName);
+    }
+}
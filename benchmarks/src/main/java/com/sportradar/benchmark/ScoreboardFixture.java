@@ -0,0 +1,170 @@
+package com.sportradar.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.TeamRegistry;
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.repository.ConcurrentMatchRepository;
+import com.sportradar.repository.InMemoryMatchRepository;
+import com.sportradar.repository.JournaledMatchRepository;
+import com.sportradar.repository.OffHeapMatchRepository;
+import com.sportradar.repository.PackedKeyMatchRepository;
+import com.sportradar.service.JournaledScoreboardService;
+import com.sportradar.service.RingBufferScoreboardService;
+import com.sportradar.service.ScoreboardService;
+import com.sportradar.service.ScoreboardServiceImpl;
+
+/**
+ * Builds the scoreboards measured by the benchmarks.
+ * <p>
+ * Benchmarks select a comparator and a repository by name, so that every
+ * combination can be passed as a JMH parameter.
+ * </p>
+ */
+final class ScoreboardFixture {
+    /**
+     * Comparator parameter value selecting
+     * {@link ScoreboardServiceFactory#TOTAL_SCORE_AND_TIME_COMPARATOR}.
+     */
+    static final String TOTAL_SCORE_AND_TIME = "TOTAL_SCORE_AND_TIME";
+
+    /**
+     * Comparator parameter value selecting a custom comparator ordering
+     * matches alphabetically by home team.
+     */
+    static final String HOME_TEAM_ALPHABETICAL = "HOME_TEAM_ALPHABETICAL";
+
+    private static final Comparator<Match> HOME_TEAM_COMPARATOR = Comparator
+            .comparing(match -> match.getHomeTeam().getName());
+
+    private ScoreboardFixture() {
+    }
+
+    /**
+     * Creates an empty scoreboard.
+     * <p>
+     * Every repository is set up the way the corresponding
+     * {@link ScoreboardServiceFactory} method sets it up, with the selected
+     * comparator: {@code inMemory} like {@code create(Comparator)},
+     * {@code concurrent} like {@code createConcurrent()}, whose writers do not
+     * share a lock, {@code packedKeys} like {@code createWithPackedKeys()},
+     * {@code offHeap} like {@code createOffHeap()}, {@code journaled} like
+     * {@code createJournaled(Path)} with a journal in a new temporary
+     * directory, and {@code ringBuffer} like {@code createSingleWriter()}.
+     * Scoreboards must be released with {@link #close(ScoreboardService)}.
+     * </p>
+     *
+     * @param comparatorName the comparator parameter value
+     * @param repositoryName the repository parameter value: {@code inMemory},
+     *                       {@code concurrent}, {@code packedKeys},
+     *                       {@code offHeap}, {@code journaled} or
+     *                       {@code ringBuffer}
+     * @return a new scoreboard service
+     */
+    static ScoreboardService createScoreboard(String comparatorName, String repositoryName) {
+        Comparator<Match> comparator = comparator(comparatorName);
+        switch (repositoryName) {
+            case "inMemory":
+                return ScoreboardServiceFactory.create(comparator);
+            case "concurrent":
+                return new ScoreboardServiceImpl(new ConcurrentMatchRepository(), comparator);
+            case "packedKeys": {
+                TeamRegistry teamRegistry = new TeamRegistry();
+                return new ScoreboardServiceImpl(new PackedKeyMatchRepository(teamRegistry), comparator,
+                        teamRegistry);
+            }
+            case "offHeap": {
+                TeamRegistry teamRegistry = new TeamRegistry();
+                return new ScoreboardServiceImpl(new OffHeapMatchRepository(teamRegistry), comparator, teamRegistry);
+            }
+            case "journaled": {
+                JournaledMatchRepository journal = new JournaledMatchRepository(new InMemoryMatchRepository(),
+                        journalFile());
+                return new JournaledScoreboardService(journal, comparator, journal);
+            }
+            case "ringBuffer":
+                return new RingBufferScoreboardService(new ScoreboardServiceImpl(new ConcurrentMatchRepository(),
+                        comparator));
+            default:
+                throw new IllegalArgumentException("Unknown repository: " + repositoryName);
+        }
+    }
+
+    /**
+     * Releases a scoreboard created by
+     * {@link #createScoreboard(String, String)}, closing it if it holds a
+     * journal or a writer thread.
+     *
+     * @param scoreboard the scoreboard to release
+     * @throws Exception if the scoreboard cannot be closed
+     */
+    static void close(ScoreboardService scoreboard) throws Exception {
+        if (scoreboard instanceof AutoCloseable) {
+            ((AutoCloseable) scoreboard).close();
+        }
+    }
+
+    /**
+     * Starts the given number of matches, named {@code Home i} against
+     * {@code Away i}, with varied scores.
+     *
+     * @param scoreboard the scoreboard to populate
+     * @param matchCount the number of matches to start
+     */
+    static void populate(ScoreboardService scoreboard, int matchCount) {
+        for (int i = 0; i < matchCount; i++) {
+            scoreboard.startMatch(homeTeamName(i), awayTeamName(i));
+            scoreboard.updateScore(homeTeamName(i), awayTeamName(i), i % 7, i % 5);
+        }
+    }
+
+    /**
+     * Returns the home team name of the i-th populated match.
+     *
+     * @param i the match index
+     * @return the home team name
+     */
+    static String homeTeamName(int i) {
+        return "Home " + i;
+    }
+
+    /**
+     * Returns the away team name of the i-th populated match.
+     *
+     * @param i the match index
+     * @return the away team name
+     */
+    static String awayTeamName(int i) {
+        return "Away " + i;
+    }
+
+    /**
+     * Returns the path of a journal file in a new temporary directory.
+     *
+     * @return the journal file, which does not exist yet
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    private static Path journalFile() {
+        try {
+            return Files.createTempDirectory("scoreboard-benchmark").resolve("scoreboard.journal");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory", e);
+        }
+    }
+
+    private static Comparator<Match> comparator(String name) {
+        switch (name) {
+            case TOTAL_SCORE_AND_TIME:
+                return ScoreboardServiceFactory.TOTAL_SCORE_AND_TIME_COMPARATOR;
+            case HOME_TEAM_ALPHABETICAL:
+                return HOME_TEAM_COMPARATOR;
+            default:
+                throw new IllegalArgumentException("Unknown comparator: " + name);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sportradar.archive;
+
+import java.time.LocalDateTime;
+
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+
+/**
+ * A finished match as read back from a {@link MatchArchive}.
+ * <p>
+ * Entries of this type are immutable and are created for the results of an
+ * archive query; the archive itself keeps finished matches in columns.
+ * </p>
+ *
+ */
+public final class FinishedMatch {
+    private final Team homeTeam;
+    private final Team awayTeam;
+    private final Score finalScore;
+    private final LocalDateTime startTime;
+    private final LocalDateTime finishTime;
+
+    /**
+     * Creates a new finished match.
+     *
+     * @param homeTeam   the home team
+     * @param awayTeam   the away team
+     * @param finalScore the score when the match was finished
+     * @param startTime  the time when the match was started
+     * @param finishTime the time when the match was finished
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public FinishedMatch(Team homeTeam, Team awayTeam, Score finalScore, LocalDateTime startTime,
+            LocalDateTime finishTime) {
+        if (homeTeam == null) {
+            throw new IllegalArgumentException("Home team cannot be null");
+        }
+        if (awayTeam == null) {
+            throw new IllegalArgumentException("Away team cannot be null");
+        }
+        if (finalScore == null) {
+            throw new IllegalArgumentException("Score cannot be null");
+        }
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (finishTime == null) {
+            throw new IllegalArgumentException("Finish time cannot be null");
+        }
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.finalScore = finalScore;
+        this.startTime = startTime;
+        this.finishTime = finishTime;
+    }
+
+    /**
+     * Returns the home team of this match.
+     *
+     * @return the home team
+     */
+    public Team getHomeTeam() {
+        return homeTeam;
+    }
+
+    /**
+     * Returns the away team of this match.
+     *
+     * @return the away team
+     */
+    public Team getAwayTeam() {
+        return awayTeam;
+    }
+
+    /**
+     * Returns the score of this match when it was finished.
+     *
+     * @return the final score
+     */
+    public Score getFinalScore() {
+        return finalScore;
+    }
+
+    /**
+     * Returns the start time of this match.
+     *
+     * @return the time when the match was started
+     */
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the finish time of this match.
+     *
+     * @return the time when the match was finished
+     */
+    public LocalDateTime getFinishTime() {
+        return finishTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this match in the format:
+     * "HomeTeam HomeScore - AwayScore AwayTeam"
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return homeTeam + " " + finalScore.getHomeScore() + " - " + finalScore.getAwayScore() + " " + awayTeam;
+    }
+}
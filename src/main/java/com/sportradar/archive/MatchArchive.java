@@ -0,0 +1,409 @@
+package com.sportradar.archive;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.domain.TeamRegistry;
+
+/**
+ * Append-only archive of finished matches with indexed historical queries.
+ * <p>
+ * Finished matches are stored in columns: one primitive array each for the
+ * home and away team ids, the final home and away scores, and the start and
+ * finish timestamps. A match is one row across all columns, and rows are
+ * never changed or removed once appended. Teams get dense ids from the
+ * archive's own {@link TeamRegistry}, and every team keeps the list of rows
+ * it played in, so the matches of a team are found without scanning the
+ * archive.
+ * </p>
+ * <p>
+ * {@link #archive(Match, LocalDateTime)} only reads the state of the match
+ * and hands it to a background thread, which appends the row. Archiving
+ * therefore adds neither the append nor any index maintenance to the thread
+ * that finishes the match. Queries see a match once its row is appended;
+ * {@link #flush()} waits for all matches archived so far.
+ * </p>
+ * <p>
+ * The archive and every team list their rows in the order of the finish
+ * times, so time range queries are binary searches. A row is inserted into
+ * these lists at the position of its finish time, which is the end unless
+ * the wall clock was set back, and always keeps the time it was finished at.
+ * Timestamps are kept to the microsecond.
+ * </p>
+ * <p>
+ * This class is thread-safe: appends and queries are guarded by a
+ * {@link ReentrantLock}. The archive should be closed when it is no longer
+ * used; it remains readable afterwards.
+ * </p>
+ *
+ */
+public class MatchArchive implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_TEAM_ROWS = 4;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private final ExecutorService appender;
+    private final TeamRegistry teamRegistry = new TeamRegistry();
+    private final ReentrantLock lock = new ReentrantLock();
+    private int[] homeTeamIds = new int[INITIAL_CAPACITY];
+    private int[] awayTeamIds = new int[INITIAL_CAPACITY];
+    private int[] homeScores = new int[INITIAL_CAPACITY];
+    private int[] awayScores = new int[INITIAL_CAPACITY];
+    private long[] startTimes = new long[INITIAL_CAPACITY];
+    private long[] finishTimes = new long[INITIAL_CAPACITY];
+    private int[] rowsByFinishTime = new int[INITIAL_CAPACITY];
+    private int size;
+    private int[][] rowsByTeam = new int[16][];
+    private int[] rowCountsByTeam = new int[16];
+    private volatile boolean closed;
+
+    /**
+     * Creates an empty archive and starts its background thread.
+     */
+    public MatchArchive() {
+        this.appender = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Archives a finished match.
+     * <p>
+     * The teams, score and start time of the match are read right away, so
+     * the match may be reused or changed as soon as this method returns. The
+     * row is appended in the background.
+     * </p>
+     *
+     * @param match      the finished match
+     * @param finishTime the time when the match was finished
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws IllegalStateException    if the archive is closed
+     */
+    public void archive(Match match, LocalDateTime finishTime) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        if (finishTime == null) {
+            throw new IllegalArgumentException("Finish time cannot be null");
+        }
+        Team homeTeam = match.getHomeTeam();
+        Team awayTeam = match.getAwayTeam();
+        Score score = match.getScore();
+        long startTime = toMicros(match.getStartTime());
+        long finish = toMicros(finishTime);
+        try {
+            appender.execute(() -> append(homeTeam, awayTeam, score, startTime, finish));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("Match archive is closed", e);
+        }
+    }
+
+    /**
+     * Waits until every match archived before this call can be queried.
+     * <p>
+     * Returns early if the calling thread is interrupted, keeping its
+     * interrupt status.
+     * </p>
+     */
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        try {
+            appender.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            // closed concurrently; close() waits for the pending rows itself
+        }
+    }
+
+    /**
+     * Returns the number of archived matches that can be queried.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns all archived matches of a team, home or away, in the order in
+     * which they were finished.
+     *
+     * @param team the team
+     * @return the finished matches of the team
+     * @throws IllegalArgumentException if the team is null
+     */
+    public List<FinishedMatch> findByTeam(Team team) {
+        return findByTeam(team, LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    /**
+     * Returns the archived matches of a team that were finished in a time
+     * range, in the order in which they were finished.
+     *
+     * @param team the team
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, exclusive
+     * @return the finished matches of the team in the range
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public List<FinishedMatch> findByTeam(Team team, LocalDateTime from, LocalDateTime to) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        validateRange(from, to);
+        lock.lock();
+        try {
+            int id = teamRegistry.idOf(team);
+            if (id < 0 || id >= rowCountsByTeam.length) {
+                return new ArrayList<>();
+            }
+            int[] rows = rowsByTeam[id];
+            int count = rowCountsByTeam[id];
+            int end = firstFinishedAtOrAfter(rows, count, toMicros(to));
+            List<FinishedMatch> result = new ArrayList<>();
+            for (int i = firstFinishedAtOrAfter(rows, count, toMicros(from)); i < end; i++) {
+                result.add(readRow(rows[i]));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the archived matches that were finished in a time range, in the
+     * order in which they were finished.
+     *
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, exclusive
+     * @return the finished matches in the range
+     * @throws IllegalArgumentException if either parameter is null
+     */
+    public List<FinishedMatch> findFinishedBetween(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        lock.lock();
+        try {
+            int end = firstFinishedAtOrAfter(rowsByFinishTime, size, toMicros(to));
+            List<FinishedMatch> result = new ArrayList<>();
+            for (int i = firstFinishedAtOrAfter(rowsByFinishTime, size, toMicros(from)); i < end; i++) {
+                result.add(readRow(rowsByFinishTime[i]));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting matches and waits until the pending ones are appended.
+     * <p>
+     * The archive can still be queried after it is closed.
+     * </p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        appender.shutdown();
+        try {
+            appender.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Appends a row for a finished match and inserts it into the finish time
+     * order of the archive and of both teams.
+     *
+     * @param homeTeam   the home team
+     * @param awayTeam   the away team
+     * @param score      the final score
+     * @param startTime  the start time in microseconds
+     * @param finishTime the finish time in microseconds
+     */
+    private void append(Team homeTeam, Team awayTeam, Score score, long startTime, long finishTime) {
+        lock.lock();
+        try {
+            if (size == homeTeamIds.length) {
+                int capacity = size * 2;
+                homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+                awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+                homeScores = Arrays.copyOf(homeScores, capacity);
+                awayScores = Arrays.copyOf(awayScores, capacity);
+                startTimes = Arrays.copyOf(startTimes, capacity);
+                finishTimes = Arrays.copyOf(finishTimes, capacity);
+                rowsByFinishTime = Arrays.copyOf(rowsByFinishTime, capacity);
+            }
+            int row = size;
+            int homeId = teamRegistry.intern(homeTeam.getName()).getId();
+            int awayId = teamRegistry.intern(awayTeam.getName()).getId();
+            homeTeamIds[row] = homeId;
+            awayTeamIds[row] = awayId;
+            homeScores[row] = score.getHomeScore();
+            awayScores[row] = score.getAwayScore();
+            startTimes[row] = startTime;
+            finishTimes[row] = finishTime;
+            insertByFinishTime(rowsByFinishTime, size, row);
+            size++;
+            addToIndex(homeId, row);
+            addToIndex(awayId, row);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts a row into the list of rows of a team.
+     *
+     * @param teamId the id of the team
+     * @param row    the row
+     */
+    private void addToIndex(int teamId, int row) {
+        if (teamId >= rowsByTeam.length) {
+            int capacity = Math.max(teamId + 1, rowsByTeam.length * 2);
+            rowsByTeam = Arrays.copyOf(rowsByTeam, capacity);
+            rowCountsByTeam = Arrays.copyOf(rowCountsByTeam, capacity);
+        }
+        int[] rows = rowsByTeam[teamId];
+        int count = rowCountsByTeam[teamId];
+        if (rows == null) {
+            rows = new int[INITIAL_TEAM_ROWS];
+        } else if (count == rows.length) {
+            rows = Arrays.copyOf(rows, count * 2);
+        }
+        insertByFinishTime(rows, count, row);
+        rowsByTeam[teamId] = rows;
+        rowCountsByTeam[teamId] = count + 1;
+    }
+
+    /**
+     * Inserts a row into a list of rows ordered by finish time, after the rows
+     * finished at the same time.
+     * <p>
+     * The list is searched from its end, so a row finished after all others
+     * is added without moving any row.
+     * </p>
+     *
+     * @param rows  the ordered rows, with room for one more
+     * @param count the number of rows in the list
+     * @param row   the row to insert, whose finish time is already stored
+     */
+    private void insertByFinishTime(int[] rows, int count, int row) {
+        long finishTime = finishTimes[row];
+        int index = count;
+        while (index > 0 && finishTimes[rows[index - 1]] > finishTime) {
+            index--;
+        }
+        System.arraycopy(rows, index, rows, index + 1, count - index);
+        rows[index] = row;
+    }
+
+    /**
+     * Finds the first of a list of rows that was finished at or after a time.
+     *
+     * @param rows  the rows ordered by finish time
+     * @param count the number of rows to search
+     * @param time  the time in microseconds
+     * @return the index of the first such row, or {@code count} if there is
+     *         none
+     */
+    private int firstFinishedAtOrAfter(int[] rows, int count, long time) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            long finishTime = finishTimes[rows[middle]];
+            if (finishTime < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Reads a row back into a finished match.
+     *
+     * @param row the row
+     * @return the finished match
+     */
+    private FinishedMatch readRow(int row) {
+        return new FinishedMatch(teamRegistry.getById(homeTeamIds[row]), teamRegistry.getById(awayTeamIds[row]),
+                new Score(homeScores[row], awayScores[row]), fromMicros(startTimes[row]),
+                fromMicros(finishTimes[row]));
+    }
+
+    /**
+     * Checks that a time range is complete and not reversed.
+     *
+     * @param from the start of the range
+     * @param to   the end of the range
+     * @throws IllegalArgumentException if either bound is null or the start
+     *                                  is after the end
+     */
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null) {
+            throw new IllegalArgumentException("Range start cannot be null");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("Range end cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Range start cannot be after range end");
+        }
+    }
+
+    /**
+     * Converts a time to microseconds, saturating times outside the range of
+     * a {@code long}.
+     *
+     * @param time the time
+     * @return the microseconds since the epoch, read as UTC
+     */
+    private static long toMicros(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= Long.MAX_VALUE / MICROS_PER_SECOND) {
+            return Long.MAX_VALUE;
+        }
+        if (seconds <= Long.MIN_VALUE / MICROS_PER_SECOND) {
+            return Long.MIN_VALUE;
+        }
+        return seconds * MICROS_PER_SECOND + time.getNano() / 1_000;
+    }
+
+    /**
+     * Converts microseconds back to a time.
+     *
+     * @param micros the microseconds since the epoch, read as UTC
+     * @return the time
+     */
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND), 0, ZoneOffset.UTC)
+                .plus(Math.floorMod(micros, MICROS_PER_SECOND), ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,193 @@
+package com.sportradar.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decodes the frames written by a {@link SummaryEncoder}.
+ * <p>
+ * A decoder belongs to one receiver and must see every frame of its encoder
+ * in order, starting with a full frame. It keeps the team names and the last
+ * score of every match, so that delta frames can be expanded back into
+ * complete summaries. The matches are reported to a {@link SummaryHandler} as
+ * primitive values; apart from the name of a team received for the first
+ * time, decoding allocates nothing.
+ * </p>
+ * <p>
+ * A decoder is not thread-safe. If a frame cannot be decoded, the decoder
+ * should be discarded and the receiver should ask for a new full frame.
+ * </p>
+ *
+ * @see SummaryEncoder
+ */
+public final class SummaryDecoder {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_MATCH = -1;
+
+    private String[] teamNames = new String[INITIAL_CAPACITY];
+    private int[] awayTeamIds = new int[INITIAL_CAPACITY];
+    private int[] homeScores = new int[INITIAL_CAPACITY];
+    private int[] awayScores = new int[INITIAL_CAPACITY];
+    private byte[] nameBytes = new byte[INITIAL_CAPACITY];
+    private long version;
+    private boolean decoded;
+
+    /**
+     * Creates a decoder that expects a full frame first.
+     */
+    public SummaryDecoder() {
+        Arrays.fill(awayTeamIds, NO_MATCH);
+    }
+
+    /**
+     * Decodes the frame at the current position of a buffer and reports its
+     * matches to a handler.
+     * <p>
+     * On success, the buffer position is advanced past the frame.
+     * </p>
+     *
+     * @param buffer  the buffer to read from
+     * @param handler the handler that receives the summary
+     * @return the version of the decoded summary
+     * @throws IllegalArgumentException          if any parameter is null or
+     *                                           the frame is malformed or of an
+     *                                           unsupported format version
+     * @throws IllegalStateException             if a delta frame does not
+     *                                           follow the previously decoded
+     *                                           frame
+     * @throws java.nio.BufferUnderflowException if the frame is truncated
+     */
+    public long decode(ByteBuffer buffer, SummaryHandler handler) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        int formatVersion = buffer.get();
+        if (formatVersion != SummaryEncoder.FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported format version: " + formatVersion);
+        }
+        byte frameType = buffer.get();
+        if (frameType != SummaryEncoder.FULL_FRAME && frameType != SummaryEncoder.DELTA_FRAME) {
+            throw new IllegalArgumentException("Unsupported frame type: " + frameType);
+        }
+        boolean full = frameType == SummaryEncoder.FULL_FRAME;
+        long frameVersion = Varint.readLong(buffer);
+        if (!full) {
+            long baseVersion = Varint.readLong(buffer);
+            if (!decoded || baseVersion != version) {
+                throw new IllegalStateException("Delta frame does not follow the decoded summary");
+            }
+        } else {
+            Arrays.fill(awayTeamIds, NO_MATCH);
+        }
+
+        int teamCount = Varint.readInt(buffer);
+        for (int i = 0; i < teamCount; i++) {
+            readTeam(buffer);
+        }
+
+        int matchCount = Varint.readInt(buffer);
+        handler.onSummaryStart(frameVersion, matchCount);
+        for (int position = 0; position < matchCount; position++) {
+            int homeKey = Varint.readInt(buffer);
+            int homeTeamId = checkTeam(homeKey >>> 1);
+            int awayTeamId = checkTeam(Varint.readInt(buffer));
+            if ((homeKey & 1) != 0) {
+                awayTeamIds[homeTeamId] = awayTeamId;
+                homeScores[homeTeamId] = Varint.readInt(buffer);
+                awayScores[homeTeamId] = Varint.readInt(buffer);
+            } else if (awayTeamIds[homeTeamId] != awayTeamId) {
+                throw new IllegalArgumentException("Frame refers to an unknown match");
+            }
+            handler.onMatch(position, homeTeamId, awayTeamId, homeScores[homeTeamId], awayScores[homeTeamId]);
+        }
+        handler.onSummaryEnd();
+        version = frameVersion;
+        decoded = true;
+        return frameVersion;
+    }
+
+    /**
+     * Returns the name of a team received by this decoder.
+     *
+     * @param teamId the id of the team, as reported to the handler
+     * @return the name of the team
+     * @throws IllegalArgumentException if the id is unknown
+     */
+    public String getTeamName(int teamId) {
+        if (teamId < 0 || teamId >= teamNames.length || teamNames[teamId] == null) {
+            throw new IllegalArgumentException("Unknown team id: " + teamId);
+        }
+        return teamNames[teamId];
+    }
+
+    /**
+     * Returns the version of the last decoded summary.
+     *
+     * @return the version, or 0 if no frame was decoded yet
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Reads a dictionary entry and stores the team name under its id, unless
+     * the team is already known.
+     *
+     * @param buffer the buffer to read from
+     * @throws IllegalArgumentException if the entry is malformed
+     */
+    private void readTeam(ByteBuffer buffer) {
+        int teamId = Varint.readInt(buffer);
+        int length = Varint.readInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("Team name exceeds the frame");
+        }
+        ensureTeamCapacity(teamId);
+        if (teamNames[teamId] != null) {
+            // ids are never reused by an encoder, so a known name is not read again
+            buffer.position(buffer.position() + length);
+            return;
+        }
+        if (nameBytes.length < length) {
+            nameBytes = new byte[Math.max(length, nameBytes.length * 2)];
+        }
+        buffer.get(nameBytes, 0, length);
+        teamNames[teamId] = new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks that a team id refers to a received team.
+     *
+     * @param teamId the id of the team
+     * @return the id
+     * @throws IllegalArgumentException if the id is unknown
+     */
+    private int checkTeam(int teamId) {
+        if (teamId >= teamNames.length || teamNames[teamId] == null) {
+            throw new IllegalArgumentException("Unknown team id: " + teamId);
+        }
+        return teamId;
+    }
+
+    /**
+     * Grows the per-team arrays so they can hold the given id.
+     *
+     * @param teamId the id of the team
+     */
+    private void ensureTeamCapacity(int teamId) {
+        if (teamId < teamNames.length) {
+            return;
+        }
+        int capacity = Math.max(teamId + 1, teamNames.length * 2);
+        int previous = teamNames.length;
+        teamNames = Arrays.copyOf(teamNames, capacity);
+        awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+        Arrays.fill(awayTeamIds, previous, capacity, NO_MATCH);
+        homeScores = Arrays.copyOf(homeScores, capacity);
+        awayScores = Arrays.copyOf(awayScores, capacity);
+    }
+}
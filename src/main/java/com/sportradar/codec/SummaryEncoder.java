@@ -0,0 +1,321 @@
+package com.sportradar.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.service.SummarySnapshot;
+
+/**
+ * Encodes summaries into a compact binary format for a single receiver.
+ * <p>
+ * Every frame starts with a header holding the {@link #FORMAT_VERSION}, the
+ * frame type and the snapshot version. Teams are sent as small integer ids;
+ * the name of a team is sent only once, the first time the receiver needs it,
+ * and all numbers are written as varints, so a match usually takes four
+ * bytes. The encoder remembers what the receiver's {@link SummaryDecoder}
+ * knows:
+ * </p>
+ * <ul>
+ * <li>a <em>full</em> frame contains every match with its score and the names
+ * of all its teams, and lets the receiver start from scratch;</li>
+ * <li>a <em>delta</em> frame, relative to the previous frame, contains every
+ * match in summary order but omits the scores that did not change and the
+ * names the receiver already has, so an unchanged match usually takes two
+ * bytes.</li>
+ * </ul>
+ * <p>
+ * The layout of a frame is:
+ * </p>
+ *
+ * <pre>
+ * format version  byte
+ * frame type      byte (0 = full, 1 = delta)
+ * version         varint
+ * base version    varint (delta frames only)
+ * team count      varint
+ *   team id       varint
+ *   name length   varint
+ *   name          UTF-8 bytes
+ * match count     varint
+ *   home team id  varint, shifted left by one, low bit set if scores follow
+ *   away team id  varint
+ *   home score    varint (if present)
+ *   away score    varint (if present)
+ * </pre>
+ * <p>
+ * Frames are written into buffers supplied by the caller, so encoding the
+ * summary does not build strings or byte arrays; only a team seen for the
+ * first time allocates its id and encoded name. An encoder is not
+ * thread-safe and must be used for one receiver, which decodes every frame
+ * in order.
+ * </p>
+ *
+ * @see SummaryDecoder
+ */
+public final class SummaryEncoder {
+    /**
+     * Version of the binary format written into every frame header.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    static final byte FULL_FRAME = 0;
+    static final byte DELTA_FRAME = 1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_MATCH = -1;
+
+    private final Map<Team, Integer> teamIds = new HashMap<>();
+    private byte[][] teamNames = new byte[INITIAL_CAPACITY][];
+    private boolean[] knownTeams = new boolean[INITIAL_CAPACITY];
+    private int[] awayTeamIds = newMatchArray(INITIAL_CAPACITY);
+    private int[] homeScores = new int[INITIAL_CAPACITY];
+    private int[] awayScores = new int[INITIAL_CAPACITY];
+    private int[] pendingHomeTeamIds = new int[INITIAL_CAPACITY];
+    private int[] pendingAwayTeamIds = new int[INITIAL_CAPACITY];
+    private int[] pendingHomeScores = new int[INITIAL_CAPACITY];
+    private int[] pendingAwayScores = new int[INITIAL_CAPACITY];
+    private long encodedVersion;
+    private boolean encoded;
+
+    /**
+     * Writes a full frame of a summary at the current position of a buffer.
+     * <p>
+     * On success, the buffer position is advanced past the frame. If the
+     * buffer is too small, its position and the state of the encoder are left
+     * unchanged, so the frame can be encoded again into a larger buffer.
+     * </p>
+     *
+     * @param snapshot the summary to encode
+     * @param buffer   the buffer to write to
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws BufferOverflowException  if the frame does not fit into the
+     *                                  remaining buffer
+     */
+    public void encodeFull(SummarySnapshot snapshot, ByteBuffer buffer) {
+        encode(snapshot, buffer, true);
+    }
+
+    /**
+     * Writes a delta frame of a summary relative to the previously encoded
+     * frame at the current position of a buffer.
+     * <p>
+     * If no frame was encoded yet, a full frame is written instead. Buffer
+     * overflows are handled as in {@link #encodeFull(SummarySnapshot, ByteBuffer)}.
+     * </p>
+     *
+     * @param snapshot the summary to encode
+     * @param buffer   the buffer to write to
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws BufferOverflowException  if the frame does not fit into the
+     *                                  remaining buffer
+     */
+    public void encodeDelta(SummarySnapshot snapshot, ByteBuffer buffer) {
+        encode(snapshot, buffer, !encoded);
+    }
+
+    /**
+     * Writes a frame and, once it is complete, records what the receiver
+     * knows after decoding it.
+     *
+     * @param snapshot the summary to encode
+     * @param buffer   the buffer to write to
+     * @param full     true to write a full frame, false for a delta frame
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws BufferOverflowException  if the frame does not fit into the
+     *                                  remaining buffer
+     */
+    private void encode(SummarySnapshot snapshot, ByteBuffer buffer, boolean full) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Summary snapshot cannot be null");
+        }
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        List<Match> matches = snapshot.getMatches();
+        int start = buffer.position();
+        try {
+            writeFrame(snapshot.getVersion(), matches, buffer, full);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        commit(snapshot.getVersion(), matches.size(), full);
+    }
+
+    /**
+     * Writes the header, the team names the receiver lacks and the matches of
+     * a frame.
+     * <p>
+     * The scores are read once per match and kept in the pending arrays, so
+     * the encoder records exactly what was written even while the matches
+     * keep changing.
+     * </p>
+     *
+     * @param version the version of the summary
+     * @param matches the ordered matches
+     * @param buffer  the buffer to write to
+     * @param full    true to write a full frame, false for a delta frame
+     * @throws BufferOverflowException if the frame does not fit into the
+     *                                 remaining buffer
+     */
+    private void writeFrame(long version, List<Match> matches, ByteBuffer buffer, boolean full) {
+        int matchCount = matches.size();
+        ensurePendingCapacity(matchCount);
+        int newTeamCount = 0;
+        for (int i = 0; i < matchCount; i++) {
+            Match match = matches.get(i);
+            Score score = match.getScore();
+            pendingHomeTeamIds[i] = idOf(match.getHomeTeam());
+            pendingAwayTeamIds[i] = idOf(match.getAwayTeam());
+            pendingHomeScores[i] = score.getHomeScore();
+            pendingAwayScores[i] = score.getAwayScore();
+            newTeamCount += isKnown(pendingHomeTeamIds[i], full) ? 0 : 1;
+            newTeamCount += isKnown(pendingAwayTeamIds[i], full) ? 0 : 1;
+        }
+
+        buffer.put((byte) FORMAT_VERSION).put(full ? FULL_FRAME : DELTA_FRAME);
+        Varint.write(buffer, version);
+        if (!full) {
+            Varint.write(buffer, encodedVersion);
+        }
+        Varint.write(buffer, newTeamCount);
+        for (int i = 0; i < matchCount; i++) {
+            writeTeamIfUnknown(pendingHomeTeamIds[i], buffer, full);
+            writeTeamIfUnknown(pendingAwayTeamIds[i], buffer, full);
+        }
+
+        Varint.write(buffer, matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            int homeTeamId = pendingHomeTeamIds[i];
+            boolean withScores = full || awayTeamIds[homeTeamId] != pendingAwayTeamIds[i]
+                    || homeScores[homeTeamId] != pendingHomeScores[i]
+                    || awayScores[homeTeamId] != pendingAwayScores[i];
+            Varint.write(buffer, (long) homeTeamId << 1 | (withScores ? 1 : 0));
+            Varint.write(buffer, pendingAwayTeamIds[i]);
+            if (withScores) {
+                Varint.write(buffer, pendingHomeScores[i]);
+                Varint.write(buffer, pendingAwayScores[i]);
+            }
+        }
+    }
+
+    /**
+     * Writes the dictionary entry of a team the receiver does not know yet.
+     *
+     * @param teamId the id of the team
+     * @param buffer the buffer to write to
+     * @param full   true if the receiver starts from scratch
+     */
+    private void writeTeamIfUnknown(int teamId, ByteBuffer buffer, boolean full) {
+        if (isKnown(teamId, full)) {
+            return;
+        }
+        byte[] name = teamNames[teamId];
+        Varint.write(buffer, teamId);
+        Varint.write(buffer, name.length);
+        buffer.put(name);
+    }
+
+    /**
+     * Records the teams and scores of a completely written frame as known to
+     * the receiver.
+     *
+     * @param version    the version of the summary
+     * @param matchCount the number of matches in the frame
+     * @param full       true if the frame was a full frame
+     */
+    private void commit(long version, int matchCount, boolean full) {
+        if (full) {
+            Arrays.fill(knownTeams, false);
+            Arrays.fill(awayTeamIds, NO_MATCH);
+        }
+        for (int i = 0; i < matchCount; i++) {
+            int homeTeamId = pendingHomeTeamIds[i];
+            knownTeams[homeTeamId] = true;
+            knownTeams[pendingAwayTeamIds[i]] = true;
+            awayTeamIds[homeTeamId] = pendingAwayTeamIds[i];
+            homeScores[homeTeamId] = pendingHomeScores[i];
+            awayScores[homeTeamId] = pendingAwayScores[i];
+        }
+        encodedVersion = version;
+        encoded = true;
+    }
+
+    /**
+     * Checks whether the receiver already knows the name of a team.
+     *
+     * @param teamId the id of the team
+     * @param full   true if the receiver starts from scratch
+     * @return true if the name does not need to be sent
+     */
+    private boolean isKnown(int teamId, boolean full) {
+        return !full && knownTeams[teamId];
+    }
+
+    /**
+     * Returns the id of a team, assigning the next free id to a new team.
+     * <p>
+     * Ids are assigned by the encoder rather than taken from the team, so
+     * they stay small and dense regardless of how the teams were created.
+     * </p>
+     *
+     * @param team the team
+     * @return the id of the team
+     */
+    private int idOf(Team team) {
+        Integer id = teamIds.get(team);
+        if (id != null) {
+            return id;
+        }
+        int newId = teamIds.size();
+        if (newId == teamNames.length) {
+            int capacity = newId * 2;
+            teamNames = Arrays.copyOf(teamNames, capacity);
+            knownTeams = Arrays.copyOf(knownTeams, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            Arrays.fill(awayTeamIds, newId, capacity, NO_MATCH);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+        }
+        ByteBuffer utf8Name = team.getUtf8Name();
+        teamNames[newId] = new byte[utf8Name.limit()];
+        utf8Name.get(0, teamNames[newId]);
+        teamIds.put(team, newId);
+        return newId;
+    }
+
+    /**
+     * Grows the pending arrays so they can hold a frame of the given size.
+     *
+     * @param matchCount the number of matches in the frame
+     */
+    private void ensurePendingCapacity(int matchCount) {
+        if (matchCount <= pendingHomeTeamIds.length) {
+            return;
+        }
+        int capacity = Math.max(matchCount, pendingHomeTeamIds.length * 2);
+        pendingHomeTeamIds = new int[capacity];
+        pendingAwayTeamIds = new int[capacity];
+        pendingHomeScores = new int[capacity];
+        pendingAwayScores = new int[capacity];
+    }
+
+    /**
+     * Creates an array of away team ids in which no home team has a match.
+     *
+     * @param capacity the length of the array
+     * @return the new array
+     */
+    private static int[] newMatchArray(int capacity) {
+        int[] array = new int[capacity];
+        Arrays.fill(array, NO_MATCH);
+        return array;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sportradar.codec;
+
+/**
+ * Receives the contents of a summary decoded by a {@link SummaryDecoder}.
+ * <p>
+ * Matches are reported as primitive values, so decoding a summary creates no
+ * objects. Team names can be looked up with
+ * {@link SummaryDecoder#getTeamName(int)}.
+ * </p>
+ */
+@FunctionalInterface
+public interface SummaryHandler {
+
+    /**
+     * Called before the matches of a summary are reported.
+     *
+     * @param version    the version of the summary snapshot
+     * @param matchCount the number of matches that follow
+     */
+    default void onSummaryStart(long version, int matchCount) {
+    }
+
+    /**
+     * Called for every match of a summary, in summary order.
+     *
+     * @param position   the position of the match in the summary
+     * @param homeTeamId the id of the home team
+     * @param awayTeamId the id of the away team
+     * @param homeScore  the score of the home team
+     * @param awayScore  the score of the away team
+     */
+    void onMatch(int position, int homeTeamId, int awayTeamId, int homeScore, int awayScore);
+
+    /**
+     * Called after the last match of a summary was reported.
+     */
+    default void onSummaryEnd() {
+    }
+}
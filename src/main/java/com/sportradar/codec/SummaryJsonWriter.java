@@ -0,0 +1,395 @@
+package com.sportradar.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.event.ScoreboardEvent;
+import com.sportradar.service.SummarySnapshot;
+
+/**
+ * Streams summaries as JSON to an {@link OutputStream} or a
+ * {@link WritableByteChannel}.
+ * <p>
+ * A summary is written as:
+ * </p>
+ *
+ * <pre>
+ * {"version":3,"matches":[{"homeTeam":"Spain","awayTeam":"Brazil","homeScore":10,"awayScore":2}]}
+ * </pre>
+ * <p>
+ * and a {@link ScoreboardEvent} as:
+ * </p>
+ *
+ * <pre>
+ * {"type":"SCORE_CHANGED","version":4,"match":{...},"previousPosition":1,"position":0}
+ * </pre>
+ * <p>
+ * The JSON is assembled directly as bytes in a reusable buffer that is
+ * flushed to the target whenever it fills up. Team names are copied from the
+ * UTF-8 bytes cached on every {@link Team} and escaped on the fly, and numbers
+ * are written digit by digit, so writing a summary creates no strings or other
+ * intermediate objects, however many matches it holds.
+ * </p>
+ * <p>
+ * A writer is not thread-safe; concurrent callers should use one writer each.
+ * </p>
+ *
+ */
+public final class SummaryJsonWriter {
+    /**
+     * Size of the internal buffer by default.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int MIN_BUFFER_SIZE = 64;
+    private static final byte[] VERSION_FIELD = ascii("{\"version\":");
+    private static final byte[] MATCHES_FIELD = ascii(",\"matches\":[");
+    private static final byte[] HOME_TEAM_FIELD = ascii("{\"homeTeam\":");
+    private static final byte[] AWAY_TEAM_FIELD = ascii(",\"awayTeam\":");
+    private static final byte[] HOME_SCORE_FIELD = ascii(",\"homeScore\":");
+    private static final byte[] AWAY_SCORE_FIELD = ascii(",\"awayScore\":");
+    private static final byte[] END = ascii("]}");
+    private static final byte[] TYPE_FIELD = ascii("{\"type\":\"");
+    private static final byte[] EVENT_VERSION_FIELD = ascii("\",\"version\":");
+    private static final byte[] MATCH_FIELD = ascii(",\"match\":");
+    private static final byte[] PREVIOUS_POSITION_FIELD = ascii(",\"previousPosition\":");
+    private static final byte[] POSITION_FIELD = ascii(",\"position\":");
+    private static final byte[] HEX_DIGITS = ascii("0123456789abcdef");
+
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private int position;
+    private OutputStream stream;
+    private WritableByteChannel channel;
+
+    /**
+     * Creates a writer with the {@link #DEFAULT_BUFFER_SIZE}.
+     */
+    public SummaryJsonWriter() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer with an internal buffer of the specified size.
+     *
+     * @param bufferSize the number of bytes buffered before they are written to
+     *                   the target
+     * @throws IllegalArgumentException if the buffer size is smaller than 64
+     *                                  bytes
+     */
+    public SummaryJsonWriter(int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE);
+        }
+        this.bytes = new byte[bufferSize];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Writes a summary as JSON to a stream.
+     * <p>
+     * All bytes are written to the stream before this method returns; the
+     * stream is neither flushed nor closed.
+     * </p>
+     *
+     * @param snapshot the summary to write
+     * @param stream   the stream to write to
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws IOException              if the stream cannot be written
+     */
+    public void write(SummarySnapshot snapshot, OutputStream stream) throws IOException {
+        if (stream == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        this.stream = stream;
+        try {
+            writeSummary(snapshot);
+        } finally {
+            this.stream = null;
+            position = 0;
+        }
+    }
+
+    /**
+     * Writes a summary as JSON to a channel.
+     * <p>
+     * All bytes are written to the channel before this method returns. A
+     * non-blocking channel that accepts no bytes is retried until it does.
+     * </p>
+     *
+     * @param snapshot the summary to write
+     * @param channel  the channel to write to
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws IOException              if the channel cannot be written
+     */
+    public void write(SummarySnapshot snapshot, WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.channel = channel;
+        try {
+            writeSummary(snapshot);
+        } finally {
+            this.channel = null;
+            position = 0;
+        }
+    }
+
+    /**
+     * Writes an event as JSON to a stream.
+     * <p>
+     * Positions are -1 for a match that is not on the summary.
+     * </p>
+     *
+     * @param event  the event to write
+     * @param stream the stream to write to
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws IOException              if the stream cannot be written
+     */
+    public void write(ScoreboardEvent event, OutputStream stream) throws IOException {
+        if (stream == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        this.stream = stream;
+        try {
+            writeEvent(event);
+        } finally {
+            this.stream = null;
+            position = 0;
+        }
+    }
+
+    /**
+     * Writes an event as JSON to a channel.
+     *
+     * @param event   the event to write
+     * @param channel the channel to write to
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws IOException              if the channel cannot be written
+     * @see #write(ScoreboardEvent, OutputStream)
+     */
+    public void write(ScoreboardEvent event, WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.channel = channel;
+        try {
+            writeEvent(event);
+        } finally {
+            this.channel = null;
+            position = 0;
+        }
+    }
+
+    /**
+     * Writes a summary to the current target and flushes the buffer.
+     *
+     * @param snapshot the summary to write
+     * @throws IllegalArgumentException if the snapshot is null
+     * @throws IOException              if the target cannot be written
+     */
+    private void writeSummary(SummarySnapshot snapshot) throws IOException {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Summary snapshot cannot be null");
+        }
+        writeRaw(VERSION_FIELD);
+        writeNumber(snapshot.getVersion());
+        writeRaw(MATCHES_FIELD);
+        List<Match> matches = snapshot.getMatches();
+        for (int i = 0; i < matches.size(); i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            writeMatch(matches.get(i));
+        }
+        writeRaw(END);
+        flush();
+    }
+
+    /**
+     * Writes an event to the current target and flushes the buffer.
+     *
+     * @param event the event to write
+     * @throws IllegalArgumentException if the event is null
+     * @throws IOException              if the target cannot be written
+     */
+    private void writeEvent(ScoreboardEvent event) throws IOException {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        writeRaw(TYPE_FIELD);
+        String type = event.getType().name();
+        for (int i = 0; i < type.length(); i++) {
+            writeByte(type.charAt(i));
+        }
+        writeRaw(EVENT_VERSION_FIELD);
+        writeNumber(event.getVersion());
+        writeRaw(MATCH_FIELD);
+        writeMatch(event.getMatch());
+        writeRaw(PREVIOUS_POSITION_FIELD);
+        writePosition(event.getPreviousPosition());
+        writeRaw(POSITION_FIELD);
+        writePosition(event.getPosition());
+        writeByte('}');
+        flush();
+    }
+
+    /**
+     * Writes a single match object.
+     *
+     * @param match the match to write
+     * @throws IOException if the target cannot be written
+     */
+    private void writeMatch(Match match) throws IOException {
+        // read the score once so both values belong to the same update
+        Score score = match.getScore();
+        writeRaw(HOME_TEAM_FIELD);
+        writeName(match.getHomeTeam());
+        writeRaw(AWAY_TEAM_FIELD);
+        writeName(match.getAwayTeam());
+        writeRaw(HOME_SCORE_FIELD);
+        writeNumber(score.getHomeScore());
+        writeRaw(AWAY_SCORE_FIELD);
+        writeNumber(score.getAwayScore());
+        writeByte('}');
+    }
+
+    /**
+     * Writes the name of a team as a JSON string.
+     * <p>
+     * Only quotes, backslashes and control characters need escaping; all bytes
+     * of multi-byte UTF-8 sequences are copied unchanged.
+     * </p>
+     *
+     * @param team the team
+     * @throws IOException if the target cannot be written
+     */
+    private void writeName(Team team) throws IOException {
+        ByteBuffer name = team.getUtf8Name();
+        writeByte('"');
+        for (int i = 0, length = name.limit(); i < length; i++) {
+            byte b = name.get(i);
+            if (b == '"' || b == '\\') {
+                writeByte('\\');
+                writeByte(b);
+            } else if (b >= 0 && b < 0x20) {
+                ensureCapacity(6);
+                bytes[position++] = '\\';
+                bytes[position++] = 'u';
+                bytes[position++] = '0';
+                bytes[position++] = '0';
+                bytes[position++] = HEX_DIGITS[b >> 4];
+                bytes[position++] = HEX_DIGITS[b & 0xF];
+            } else {
+                writeByte(b);
+            }
+        }
+        writeByte('"');
+    }
+
+    /**
+     * Writes a non-negative number in decimal.
+     *
+     * @param value the number
+     * @throws IOException if the target cannot be written
+     */
+    private void writeNumber(long value) throws IOException {
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = position + digits - 1; i >= position; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    /**
+     * Writes a summary position, which is -1 for a match not on the summary.
+     *
+     * @param value the position
+     * @throws IOException if the target cannot be written
+     */
+    private void writePosition(int value) throws IOException {
+        if (value < 0) {
+            writeByte('-');
+            writeByte('1');
+        } else {
+            writeNumber(value);
+        }
+    }
+
+    /**
+     * Writes pre-encoded bytes.
+     *
+     * @param raw the bytes
+     * @throws IOException if the target cannot be written
+     */
+    private void writeRaw(byte[] raw) throws IOException {
+        ensureCapacity(raw.length);
+        System.arraycopy(raw, 0, bytes, position, raw.length);
+        position += raw.length;
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param b the byte
+     * @throws IOException if the target cannot be written
+     */
+    private void writeByte(int b) throws IOException {
+        ensureCapacity(1);
+        bytes[position++] = (byte) b;
+    }
+
+    /**
+     * Flushes the buffer if fewer than the given number of bytes are free.
+     *
+     * @param length the number of bytes about to be written, at most the
+     *               minimum buffer size
+     * @throws IOException if the target cannot be written
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (bytes.length - position < length) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the current target.
+     *
+     * @throws IOException if the target cannot be written
+     */
+    private void flush() throws IOException {
+        if (stream != null) {
+            stream.write(bytes, 0, position);
+        } else {
+            buffer.clear().limit(position);
+            while (buffer.hasRemaining()) {
+                if (channel.write(buffer) == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        position = 0;
+    }
+
+    /**
+     * Encodes a constant JSON fragment.
+     *
+     * @param text the fragment, which must be ASCII
+     * @return the encoded bytes
+     */
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
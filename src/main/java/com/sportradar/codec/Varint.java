@@ -0,0 +1,73 @@
+package com.sportradar.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes non-negative integers as variable-length quantities.
+ * <p>
+ * Every byte carries seven bits of the value, least significant group first,
+ * and has its high bit set if more bytes follow. Values below 128, such as
+ * most scores and team ids, take a single byte.
+ * </p>
+ */
+final class Varint {
+    private static final int MAX_LONG_BYTES = 10;
+
+    private Varint() {
+    }
+
+    /**
+     * Writes a value at the current position of a buffer.
+     *
+     * @param buffer the buffer to write to
+     * @param value  the non-negative value
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     */
+    static void write(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads a value from the current position of a buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws IllegalArgumentException          if the value is longer than a
+     *                                           long
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the
+     *                                           value
+     */
+    static long readLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int i = 0; i < MAX_LONG_BYTES; i++) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << (7 * i);
+            if (next >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Reads a value that must fit into a non-negative int.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws IllegalArgumentException          if the value does not fit into a
+     *                                           non-negative int
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the
+     *                                           value
+     */
+    static int readInt(ByteBuffer buffer) {
+        long value = readLong(buffer);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value out of range: " + value);
+        }
+        return (int) value;
+    }
+}
@@ -1,7 +1,7 @@
 package com.sportradar.domain;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a football match with two teams and a current score.
@@ -12,13 +12,33 @@ import java.util.Objects;
  * combination.
  * Once created, the teams cannot be changed, but the score can be updated.
  * </p>
+ * <p>
+ * Every match also gets a start sequence number that increases with every
+ * match started in this JVM, and keeps a primitive ordering key that packs
+ * its total score and start sequence into a single {@code long}. Comparing
+ * ordering keys orders matches by total score and then by start order, without
+ * boxing or comparing start times, and never ties between two matches.
+ * </p>
+ * <p>
+ * Subclasses may keep the state of a match elsewhere, for example in off-heap
+ * storage, by overriding the accessors and {@link #updateScore(Score)}.
+ * Equality, hash code, string representation and copies are all based on the
+ * accessors.
+ * </p>
  * 
  */
 public class Match {
+    private static final int SEQUENCE_BITS = 40;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int MAX_ORDERED_TOTAL = (1 << (Long.SIZE - 1 - SEQUENCE_BITS)) - 1;
+    private static final AtomicLong START_SEQUENCE = new AtomicLong();
+
     private final Team homeTeam;
     private final Team awayTeam;
-    private Score score;
+    private volatile Score score;
     private final LocalDateTime startTime;
+    private final long startSequence;
+    private volatile long orderingKey;
 
     /**
      * Creates a new match with the specified home and away teams.
@@ -33,6 +53,124 @@ public class Match {
      *                                  away teams are the same
      */
     public Match(Team homeTeam, Team awayTeam) {
+        validateTeams(homeTeam, awayTeam);
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.score = Score.initial();
+        this.startTime = LocalDateTime.now();
+        this.startSequence = START_SEQUENCE.incrementAndGet();
+        this.orderingKey = orderingKey(score.getTotal(), startSequence);
+    }
+
+    /**
+     * Creates a match without state of its own, for subclasses that provide
+     * the state by overriding every accessor and {@link #updateScore(Score)}.
+     */
+    protected Match() {
+        this.homeTeam = null;
+        this.awayTeam = null;
+        this.startTime = null;
+        this.startSequence = 0;
+    }
+
+    /**
+     * Creates a match with the given state, used for copying existing matches.
+     *
+     * @param homeTeam      the home team
+     * @param awayTeam      the away team
+     * @param score         the current score
+     * @param startTime     the time when the match was started
+     * @param startSequence the start sequence number of the match
+     */
+    private Match(Team homeTeam, Team awayTeam, Score score, LocalDateTime startTime, long startSequence) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.score = score;
+        this.startTime = startTime;
+        this.startSequence = startSequence;
+        this.orderingKey = orderingKey(score.getTotal(), startSequence);
+    }
+
+    /**
+     * Recreates a match with a known score and start time.
+     * <p>
+     * The restored match gets a new start sequence number, so matches restored
+     * in their original start order keep their relative order.
+     * </p>
+     *
+     * @param homeTeam  the home team
+     * @param awayTeam  the away team
+     * @param score     the current score
+     * @param startTime the time when the match was originally started
+     * @return the restored match
+     * @throws IllegalArgumentException if any parameter is null or if the home
+     *                                  and away teams are the same
+     */
+    public static Match restore(Team homeTeam, Team awayTeam, Score score, LocalDateTime startTime) {
+        return restore(homeTeam, awayTeam, score, startTime, START_SEQUENCE.incrementAndGet());
+    }
+
+    /**
+     * Recreates a match with a known score, start time and start sequence
+     * number.
+     * <p>
+     * This is intended for restoring matches from persistent storage, where the
+     * original start time and sequence must be kept so that the ordering of
+     * matches is preserved. Matches started afterwards get higher sequence
+     * numbers than every restored match.
+     * </p>
+     *
+     * @param homeTeam      the home team
+     * @param awayTeam      the away team
+     * @param score         the current score
+     * @param startTime     the time when the match was originally started
+     * @param startSequence the original start sequence number
+     * @return the restored match
+     * @throws IllegalArgumentException if any parameter is null, if the home and
+     *                                  away teams are the same or if the sequence
+     *                                  number is out of range
+     */
+    public static Match restore(Team homeTeam, Team awayTeam, Score score, LocalDateTime startTime,
+            long startSequence) {
+        validateTeams(homeTeam, awayTeam);
+        if (score == null) {
+            throw new IllegalArgumentException("Score cannot be null");
+        }
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (startSequence <= 0 || startSequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Start sequence is out of range: " + startSequence);
+        }
+        START_SEQUENCE.accumulateAndGet(startSequence, Math::max);
+        return new Match(homeTeam, awayTeam, score, startTime, startSequence);
+    }
+
+    /**
+     * Packs a total score and a start sequence number into an ordering key.
+     * <p>
+     * Totals too large for the key are saturated, which only affects the order
+     * of matches with more than eight million goals.
+     * </p>
+     *
+     * @param totalScore    the total score
+     * @param startSequence the start sequence number
+     * @return the ordering key
+     */
+    protected static long orderingKey(int totalScore, long startSequence) {
+        long total = Math.min(Math.max(totalScore, 0), MAX_ORDERED_TOTAL);
+        return total << SEQUENCE_BITS | startSequence;
+    }
+
+    /**
+     * Checks that the teams of a match are present and distinct.
+     *
+     * @param homeTeam the home team
+     * @param awayTeam the away team
+     * @throws IllegalArgumentException if either team is null or if the home and
+     *                                  away teams are the same
+     */
+    private static void validateTeams(Team homeTeam, Team awayTeam) {
         if (homeTeam == null) {
             throw new IllegalArgumentException("Home team cannot be null");
         }
@@ -42,10 +180,6 @@ public class Match {
         if (homeTeam.equals(awayTeam)) {
             throw new IllegalArgumentException("Home team and away team cannot be the same");
         }
-        this.homeTeam = homeTeam;
-        this.awayTeam = awayTeam;
-        this.score = Score.initial();
-        this.startTime = LocalDateTime.now();
     }
 
     /**
@@ -111,6 +245,29 @@ public class Match {
         return startTime;
     }
 
+    /**
+     * Returns the start sequence number of this match.
+     *
+     * @return a positive number that is higher for matches started later
+     */
+    public long getStartSequence() {
+        return startSequence;
+    }
+
+    /**
+     * Returns the primitive ordering key of this match.
+     * <p>
+     * The key is higher for matches with a higher total score and, for equal
+     * totals, for matches started later. It is updated together with the
+     * score.
+     * </p>
+     *
+     * @return the ordering key
+     */
+    public long getOrderingKey() {
+        return orderingKey;
+    }
+
     /**
      * Updates the score of this match.
      * <p>
@@ -125,6 +282,20 @@ public class Match {
             throw new IllegalArgumentException("Score cannot be null");
         }
         this.score = newScore;
+        this.orderingKey = orderingKey(newScore.getTotal(), startSequence);
+    }
+
+    /**
+     * Returns a detached copy of this match.
+     * <p>
+     * The copy has the same teams, score, start time and start sequence as this
+     * match. Later score updates of either match do not affect the other.
+     * </p>
+     *
+     * @return a copy of this match
+     */
+    public Match copy() {
+        return new Match(getHomeTeam(), getAwayTeam(), getScore(), getStartTime(), getStartSequence());
     }
 
     /**
@@ -137,11 +308,10 @@ public class Match {
     public boolean equals(Object o) {
         if (this == o)
             return true;
-        if (o == null || getClass() != o.getClass())
+        if (!(o instanceof Match))
             return false;
         Match match = (Match) o;
-        return Objects.equals(homeTeam, match.homeTeam) &&
-                Objects.equals(awayTeam, match.awayTeam);
+        return getHomeTeam().equals(match.getHomeTeam()) && getAwayTeam().equals(match.getAwayTeam());
     }
 
     /**
@@ -152,7 +322,7 @@ public class Match {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(homeTeam, awayTeam);
+        return 31 * getHomeTeam().hashCode() + getAwayTeam().hashCode();
     }
 
     /**
@@ -164,7 +334,8 @@ public class Match {
      */
     @Override
     public String toString() {
-        return homeTeam + " " + score.getHomeScore() + " - " +
-                score.getAwayScore() + " " + awayTeam;
+        Score current = getScore();
+        return getHomeTeam() + " " + current.getHomeScore() + " - " +
+                current.getAwayScore() + " " + getAwayTeam();
     }
 }
\ No newline at end of file
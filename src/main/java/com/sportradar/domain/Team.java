@@ -1,6 +1,7 @@
 package com.sportradar.domain;
 
-import java.util.Objects;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Represents a football team.
@@ -8,11 +9,15 @@ import java.util.Objects;
  * A team is identified by its name. Team objects are immutable - once created,
  * they cannot be changed.
  * Two teams are considered equal if they have the same name.
+ * Canonical instances can be obtained from a {@link TeamRegistry}.
  * </p>
  *
  */
 public final class Team {
     private final String name;
+    private final int hash;
+    private final int id;
+    private final ByteBuffer utf8Name;
 
     /**
      * Creates a new team with the specified name.
@@ -21,10 +26,24 @@ public final class Team {
      * @throws IllegalArgumentException if the name is null or empty
      */
     public Team(String name) {
+        this(name, -1);
+    }
+
+    /**
+     * Creates a new team with the specified name and registry id.
+     *
+     * @param name the name of the team
+     * @param id   the dense id assigned by a {@link TeamRegistry}, or -1
+     * @throws IllegalArgumentException if the name is null or empty
+     */
+    Team(String name, int id) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Team name cannot be null or empty");
         }
         this.name = name;
+        this.hash = name.hashCode();
+        this.id = id;
+        this.utf8Name = ByteBuffer.wrap(name.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
     }
 
     /**
@@ -36,6 +55,36 @@ public final class Team {
         return name;
     }
 
+    /**
+     * Returns the name of this team encoded as UTF-8.
+     * <p>
+     * The bytes are encoded once when the team is created, so serializers can
+     * copy them without encoding the name again. The returned buffer is shared
+     * and read-only; it must be read with absolute get methods, or through a
+     * {@link ByteBuffer#duplicate() duplicate} when relative reads are needed.
+     * </p>
+     *
+     * @return a read-only buffer holding the encoded name from index 0 to its
+     *         limit
+     */
+    public ByteBuffer getUtf8Name() {
+        return utf8Name;
+    }
+
+    /**
+     * Returns the dense id assigned to this team by the {@link TeamRegistry}
+     * that created it.
+     * <p>
+     * Ids are only meaningful within the registry that assigned them. Teams
+     * created directly through the public constructor have no id.
+     * </p>
+     *
+     * @return the registry id of this team, or -1 if the team is not registered
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -49,18 +98,19 @@ public final class Team {
         if (o == null || getClass() != o.getClass())
             return false;
         Team team = (Team) o;
-        return Objects.equals(name, team.name);
+        return hash == team.hash && name.equals(team.name);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * The hash code is computed using the team name.
+     * The hash code is computed once from the team name when the team is
+     * created.
      * </p>
      */
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return hash;
     }
 
     /**
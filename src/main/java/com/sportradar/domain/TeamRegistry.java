@@ -0,0 +1,132 @@
+package com.sportradar.domain;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of canonical {@link Team} instances.
+ * <p>
+ * The registry interns teams by name: the first request for a name creates
+ * the team, and every later request returns that same instance. Reusing
+ * canonical teams avoids allocating a new team for every scoreboard call and
+ * lets equality checks succeed on the identity fast path.
+ * </p>
+ * <p>
+ * Every canonical team is assigned a dense id, starting at 0 and increasing
+ * by one for each new team, so ids can be used to index arrays or be packed
+ * into primitive keys.
+ * </p>
+ * <p>
+ * Teams are never removed from the registry. This class is thread-safe.
+ * </p>
+ *
+ */
+public final class TeamRegistry {
+    private final ConcurrentMap<String, Team> teams = new ConcurrentHashMap<>();
+    private volatile Team[] teamsById = new Team[16];
+    private int nextId;
+
+    /**
+     * Returns the canonical team with the specified name, creating it if this
+     * is the first request for the name.
+     *
+     * @param name the name of the team
+     * @return the canonical team instance for the name
+     * @throws IllegalArgumentException if the name is null or empty
+     */
+    public Team intern(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Team name cannot be null or empty");
+        }
+        Team team = teams.get(name);
+        if (team != null) {
+            return team;
+        }
+        return teams.computeIfAbsent(name, this::register);
+    }
+
+    /**
+     * Returns the canonical team with the specified name if it is registered,
+     * or a new unregistered team otherwise.
+     * <p>
+     * Unlike {@link #intern(String)}, this method never adds a team to the
+     * registry, which makes it suitable for lookups with names that may not
+     * belong to any known team.
+     * </p>
+     *
+     * @param name the name of the team
+     * @return the canonical team, or a new team if the name is not registered
+     * @throws IllegalArgumentException if the name is null or empty
+     */
+    public Team resolve(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Team name cannot be null or empty");
+        }
+        Team team = teams.get(name);
+        return team != null ? team : new Team(name);
+    }
+
+    /**
+     * Returns the id this registry assigned to a team equal to the specified
+     * team.
+     * <p>
+     * Canonical teams of this registry are resolved with a single array read.
+     * Other teams are looked up by name.
+     * </p>
+     *
+     * @param team the team to look up
+     * @return the id of the team, or -1 if no equal team is registered
+     * @throws IllegalArgumentException if the team is null
+     */
+    public int idOf(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        int id = team.getId();
+        Team[] byId = teamsById;
+        if (id >= 0 && id < byId.length && byId[id] == team) {
+            return id;
+        }
+        Team canonical = teams.get(team.getName());
+        return canonical != null ? canonical.getId() : -1;
+    }
+
+    /**
+     * Returns the canonical team with the specified id.
+     *
+     * @param id the id of the team
+     * @return the team with the id, or null if no team has that id
+     */
+    public Team getById(int id) {
+        Team[] byId = teamsById;
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    /**
+     * Returns the number of teams registered so far.
+     *
+     * @return the number of canonical teams
+     */
+    public int size() {
+        return teams.size();
+    }
+
+    /**
+     * Creates the canonical team for a name and assigns it the next id.
+     *
+     * @param name the name of the team
+     * @return the new canonical team
+     * @throws IllegalArgumentException if the name is null or empty
+     */
+    private synchronized Team register(String name) {
+        Team team = new Team(name, nextId);
+        Team[] byId = teamsById;
+        if (nextId == byId.length) {
+            byId = Arrays.copyOf(byId, byId.length * 2);
+        }
+        byId[nextId++] = team;
+        teamsById = byId;
+        return team;
+    }
+}
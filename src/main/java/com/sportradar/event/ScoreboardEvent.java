@@ -0,0 +1,143 @@
+package com.sportradar.event;
+
+import com.sportradar.domain.Match;
+
+/**
+ * A change of the scoreboard, delivered to {@link ScoreboardListener}s.
+ * <p>
+ * Every event carries the version of the summary snapshot that was published
+ * with the change, a copy of the match as it was at that point, and the
+ * positions of the match in the summary before and after the change. A
+ * position of {@code -1} means that the match was not on the summary.
+ * </p>
+ * <p>
+ * Only the changed match gets an event. The matches between its previous and
+ * its new position shift by one position towards the one it left, so a
+ * listener that keeps the summary can apply an event by removing the match
+ * at its previous position and inserting it at its new one. Events that were
+ * conflated for a listener that fell behind only reliably carry the new
+ * position; such a listener reads the summary snapshot instead.
+ * </p>
+ * <p>
+ * A listener that also reads the summary can ignore events whose version is
+ * not newer than the version of the summary it has read.
+ * </p>
+ *
+ */
+public final class ScoreboardEvent {
+
+    /**
+     * The kind of change an event describes.
+     */
+    public enum Type {
+        /** A new match was started. */
+        MATCH_STARTED,
+        /** The score of a match in progress was changed. */
+        SCORE_CHANGED,
+        /** A match was finished and removed from the summary. */
+        MATCH_FINISHED
+    }
+
+    private final Type type;
+    private final long version;
+    private final Match match;
+    private final int previousPosition;
+    private final int position;
+
+    /**
+     * Creates a new event.
+     *
+     * @param type             the kind of change
+     * @param version          the version of the summary published with the
+     *                         change
+     * @param match            the state of the match after the change; must not
+     *                         be modified afterwards
+     * @param previousPosition the position of the match in the previous summary,
+     *                         or -1 if it was not on it
+     * @param position         the position of the match in the published
+     *                         summary, or -1 if it is not on it
+     * @throws IllegalArgumentException if the type or match is null
+     */
+    public ScoreboardEvent(Type type, long version, Match match, int previousPosition, int position) {
+        if (type == null) {
+            throw new IllegalArgumentException("Event type cannot be null");
+        }
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        this.type = type;
+        this.version = version;
+        this.match = match;
+        this.previousPosition = previousPosition;
+        this.position = position;
+    }
+
+    /**
+     * Returns the kind of change this event describes.
+     *
+     * @return the event type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the version of the summary snapshot published with this change.
+     *
+     * @return the summary version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the state of the match after this change.
+     *
+     * @return a copy of the match that is not updated by later changes
+     */
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * Returns the position of the match in the summary before this change.
+     *
+     * @return the zero-based position, or -1 if the match was not on the
+     *         summary
+     */
+    public int getPreviousPosition() {
+        return previousPosition;
+    }
+
+    /**
+     * Returns the position of the match in the summary after this change.
+     *
+     * @return the zero-based position, or -1 if the match is not on the summary
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns a copy of this event with a different previous position, used
+     * when several events are conflated into one.
+     *
+     * @param previousPosition the previous position of the conflated event
+     * @return the conflated event
+     */
+    ScoreboardEvent withPreviousPosition(int previousPosition) {
+        return new ScoreboardEvent(type, version, match, previousPosition, position);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this event in the format
+     * "TYPE vVersion Match (previousPosition -> position)".
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return type + " v" + version + " " + match + " (" + previousPosition + " -> " + position + ")";
+    }
+}
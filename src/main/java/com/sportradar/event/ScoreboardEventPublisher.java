@@ -0,0 +1,78 @@
+package com.sportradar.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Distributes scoreboard events to subscribed listeners.
+ * <p>
+ * Publishing hands the events to the buffer of every subscription and returns
+ * immediately; delivery happens on each subscription's executor. Publishers
+ * check {@link #hasSubscribers()} first, so that no events are built while
+ * nobody listens.
+ * </p>
+ *
+ */
+public class ScoreboardEventPublisher {
+    private final List<ScoreboardSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribes a listener to all events published after this call.
+     *
+     * @param listener the listener to deliver events to
+     * @param executor the executor that runs the delivery
+     * @return the subscription, which can be used to stop the delivery
+     * @throws IllegalArgumentException if either parameter is null
+     */
+    public ScoreboardSubscription subscribe(ScoreboardListener listener, Executor executor) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        ScoreboardSubscription subscription = new ScoreboardSubscription(listener, executor, this);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Removes a cancelled subscription.
+     *
+     * @param subscription the cancelled subscription
+     */
+    void unsubscribe(ScoreboardSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Returns whether any listener is subscribed.
+     *
+     * @return true if published events are delivered to at least one listener
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Publishes events to all subscribed listeners.
+     * <p>
+     * Calls must be made in version order, one publication at a time.
+     * </p>
+     *
+     * @param events the events, in version order
+     * @throws IllegalArgumentException if the events are null
+     */
+    public void publish(List<ScoreboardEvent> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("Events cannot be null");
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        for (ScoreboardSubscription subscription : subscriptions) {
+            subscription.offer(events);
+        }
+    }
+}
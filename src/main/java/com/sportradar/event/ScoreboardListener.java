@@ -0,0 +1,27 @@
+package com.sportradar.event;
+
+/**
+ * Receives the changes of a scoreboard it is subscribed to.
+ * <p>
+ * Events are delivered asynchronously, one at a time and in version order.
+ * A listener that falls behind receives conflated events: only the latest
+ * score and position of a match are kept while they wait to be delivered,
+ * and a match that is started and finished before the listener sees it is
+ * skipped altogether.
+ * </p>
+ *
+ * @see ScoreboardEventPublisher#subscribe(ScoreboardListener, java.util.concurrent.Executor)
+ */
+@FunctionalInterface
+public interface ScoreboardListener {
+    /**
+     * Called for every delivered event.
+     * <p>
+     * If this method throws an exception, the subscription is cancelled and
+     * no further events are delivered.
+     * </p>
+     *
+     * @param event the delivered event
+     */
+    void onEvent(ScoreboardEvent event);
+}
@@ -0,0 +1,202 @@
+package com.sportradar.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Team;
+
+/**
+ * A listener's subscription to the events of a scoreboard.
+ * <p>
+ * Every subscription buffers its own pending events, so a slow listener never
+ * holds up the scoreboard or other listeners. While events wait to be
+ * delivered they are conflated per match: a newer score replaces the pending
+ * one, and finishing a match whose start has not been delivered
+ * yet drops both. The buffer therefore stays bounded by the number of
+ * matches rather than the number of changes.
+ * </p>
+ * <p>
+ * Pending events are delivered by a task on the subscription's executor. At
+ * most one such task runs at a time, which keeps delivery ordered.
+ * </p>
+ *
+ */
+public final class ScoreboardSubscription implements AutoCloseable {
+    private final ScoreboardListener listener;
+    private final Executor executor;
+    private final ScoreboardEventPublisher publisher;
+    private final Map<EventKey, ScoreboardEvent> pending = new LinkedHashMap<>();
+    private boolean draining;
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a subscription.
+     *
+     * @param listener the listener events are delivered to
+     * @param executor the executor that runs the delivery
+     * @param publisher the publisher the subscription is registered with
+     */
+    ScoreboardSubscription(ScoreboardListener listener, Executor executor, ScoreboardEventPublisher publisher) {
+        this.listener = listener;
+        this.executor = executor;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Stops the delivery of events to the listener.
+     * <p>
+     * Pending events are discarded. An event that is being delivered when this
+     * method is called still completes.
+     * </p>
+     */
+    public void cancel() {
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            pending.clear();
+        }
+        publisher.unsubscribe(this);
+    }
+
+    /**
+     * Returns whether this subscription has been cancelled.
+     *
+     * @return true if no further events are delivered
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels this subscription.
+     *
+     * @see #cancel()
+     */
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    /**
+     * Adds events to the buffer of this subscription and schedules their
+     * delivery.
+     *
+     * @param events the events, in version order
+     */
+    void offer(List<ScoreboardEvent> events) {
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            for (ScoreboardEvent event : events) {
+                enqueue(event);
+            }
+            if (draining || pending.isEmpty()) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            cancel();
+        }
+    }
+
+    /**
+     * Adds a single event to the buffer, conflating it with the pending events
+     * of the same match.
+     *
+     * @param event the event
+     */
+    private void enqueue(ScoreboardEvent event) {
+        Match match = event.getMatch();
+        switch (event.getType()) {
+            case SCORE_CHANGED:
+                EventKey key = new EventKey(event.getType(), match);
+                ScoreboardEvent previous = pending.remove(key);
+                if (previous != null) {
+                    event = event.withPreviousPosition(previous.getPreviousPosition());
+                }
+                pending.put(key, event);
+                break;
+            case MATCH_FINISHED:
+                pending.remove(new EventKey(ScoreboardEvent.Type.SCORE_CHANGED, match));
+                if (pending.remove(new EventKey(ScoreboardEvent.Type.MATCH_STARTED, match)) == null) {
+                    pending.put(new EventKey(event.getType(), match), event);
+                }
+                break;
+            default:
+                pending.put(new EventKey(event.getType(), match), event);
+                break;
+        }
+    }
+
+    /**
+     * Delivers pending events until the buffer is empty.
+     */
+    private void drain() {
+        while (true) {
+            List<ScoreboardEvent> events;
+            synchronized (this) {
+                if (cancelled || pending.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                events = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            for (ScoreboardEvent event : events) {
+                if (cancelled) {
+                    return;
+                }
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException e) {
+                    cancel();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Identifies the pending event of a given type for a match.
+     */
+    private static final class EventKey {
+        private final ScoreboardEvent.Type type;
+        private final Team homeTeam;
+        private final Team awayTeam;
+
+        EventKey(ScoreboardEvent.Type type, Match match) {
+            this.type = type;
+            this.homeTeam = match.getHomeTeam();
+            this.awayTeam = match.getAwayTeam();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EventKey)) {
+                return false;
+            }
+            EventKey other = (EventKey) o;
+            return type == other.type && homeTeam.equals(other.homeTeam) && awayTeam.equals(other.awayTeam);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, homeTeam, awayTeam);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sportradar.exception;
+
+/**
+ * Exception thrown when a competition is not registered.
+ * <p>
+ * This exception is thrown when attempting to change or read the scoreboard
+ * of a competition that has not been added to the registry.
+ * </p>
+ *
+ */
+public class CompetitionNotFoundException extends RuntimeException {
+    private final String competition;
+
+    /**
+     * Constructs a new exception with the specified competition name.
+     *
+     * @param competition the name of the competition that was not found
+     */
+    public CompetitionNotFoundException(String competition) {
+        super("Competition not found: '" + competition + "'");
+        this.competition = competition;
+    }
+
+    /**
+     * Returns the name of the competition that was not found.
+     *
+     * @return the competition name
+     */
+    public String getCompetition() {
+        return competition;
+    }
+}
@@ -1,10 +1,22 @@
 package com.sportradar.factory;
 
+import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Map;
 
+import com.sportradar.archive.MatchArchive;
 import com.sportradar.domain.Match;
+import com.sportradar.domain.TeamRegistry;
+import com.sportradar.repository.ArchivingMatchRepository;
+import com.sportradar.repository.ConcurrentMatchRepository;
 import com.sportradar.repository.InMemoryMatchRepository;
+import com.sportradar.repository.JournaledMatchRepository;
 import com.sportradar.repository.MatchRepository;
+import com.sportradar.repository.OffHeapMatchRepository;
+import com.sportradar.repository.PackedKeyMatchRepository;
+import com.sportradar.service.AsyncScoreboardServiceImpl;
+import com.sportradar.service.JournaledScoreboardService;
+import com.sportradar.service.RingBufferScoreboardService;
 import com.sportradar.service.ScoreboardService;
 import com.sportradar.service.ScoreboardServiceImpl;
 
@@ -21,33 +33,43 @@ public class ScoreboardServiceFactory {
      * Standard comparator that sorts matches by total score (descending)
      * and then by start time (most recent first).
      * <p>
-     * This comparator is used by the default scoreboard service.
+     * This comparator is used by the default scoreboard service. It compares the
+     * primitive {@link Match#getOrderingKey() ordering keys} of the matches, so
+     * comparisons allocate nothing, and matches started within the same clock
+     * tick are still ordered by the order in which they were started.
      * </p>
      */
-    public static final Comparator<Match> TOTAL_SCORE_AND_TIME_COMPARATOR = Comparator
-            .comparing(Match::getTotalScore, Comparator.reverseOrder())
-            .thenComparing(Match::getStartTime, Comparator.reverseOrder());
+    public static final Comparator<Match> TOTAL_SCORE_AND_TIME_COMPARATOR = (first, second) -> Long
+            .compare(second.getOrderingKey(), first.getOrderingKey());
+
+    /**
+     * Comparator that sorts matches by start order, most recently started
+     * first, regardless of their scores.
+     */
+    public static final Comparator<Match> MOST_RECENTLY_STARTED_COMPARATOR = (first, second) -> Long
+            .compare(second.getStartSequence(), first.getStartSequence());
 
     /**
      * Creates a default scoreboard service with the standard sorting
      * (total score descending, then most recent first).
      * <p>
-     * The default service uses an in-memory repository and the
-     * {@link #TOTAL_SCORE_AND_TIME_COMPARATOR} for sorting matches.
+     * The default service uses an in-memory repository. The summary is kept
+     * in order by the service itself, which repositions only the changed
+     * match on every change.
      * </p>
      * 
      * @return a new ScoreboardService instance
      */
     public static ScoreboardService createDefault() {
-        MatchRepository repository = new InMemoryMatchRepository();
-        return new ScoreboardServiceImpl(repository, TOTAL_SCORE_AND_TIME_COMPARATOR);
+        return new ScoreboardServiceImpl(new InMemoryMatchRepository(), TOTAL_SCORE_AND_TIME_COMPARATOR);
     }
 
     /**
      * Creates a scoreboard service with a custom comparator for match sorting.
      * <p>
      * This method allows for customizing how matches are sorted in the
-     * {@link ScoreboardService#getSummary()} method.
+     * {@link ScoreboardService#getSummary()} method. The service keeps the
+     * summary in the order of the given comparator as matches change.
      * </p>
      * 
      * @param matchComparator the comparator to use for sorting matches in
@@ -59,7 +81,154 @@ public class ScoreboardServiceFactory {
         if (matchComparator == null) {
             throw new IllegalArgumentException("Match comparator cannot be null");
         }
-        MatchRepository repository = new InMemoryMatchRepository();
-        return new ScoreboardServiceImpl(repository, matchComparator);
+        return new ScoreboardServiceImpl(new InMemoryMatchRepository(), matchComparator);
+    }
+
+    /**
+     * Creates a scoreboard service that maintains several named orderings of
+     * the same matches.
+     * <p>
+     * {@link ScoreboardService#getSummary()} uses the
+     * {@link #TOTAL_SCORE_AND_TIME_COMPARATOR}, and
+     * {@link ScoreboardService#getSummary(String)} uses the comparator
+     * registered under the given name. The service keeps every ordering as a
+     * tree of the same match copies as the summary and updates all of them on
+     * every change, so no summary is sorted when it is read.
+     * </p>
+     *
+     * @param orderings the comparators of the named orderings by name
+     * @return a new ScoreboardService instance with the specified orderings
+     * @throws IllegalArgumentException if orderings, an ordering name or a
+     *                                  comparator is null
+     */
+    public static ScoreboardService createWithOrderings(Map<String, Comparator<Match>> orderings) {
+        return new ScoreboardServiceImpl(new InMemoryMatchRepository(), TOTAL_SCORE_AND_TIME_COMPARATOR,
+                new TeamRegistry(), orderings);
+    }
+
+    /**
+     * Creates a scoreboard service that can be shared by multiple threads.
+     * <p>
+     * The service uses a {@link ConcurrentMatchRepository} and the
+     * {@link #TOTAL_SCORE_AND_TIME_COMPARATOR} for sorting matches. Concurrent
+     * calls to {@link ScoreboardService#startMatch(String, String)} still
+     * guarantee that a team cannot play in two matches at the same time.
+     * </p>
+     *
+     * @return a new thread-safe ScoreboardService instance
+     */
+    public static ScoreboardService createConcurrent() {
+        MatchRepository repository = new ConcurrentMatchRepository();
+        return new ScoreboardServiceImpl(repository, TOTAL_SCORE_AND_TIME_COMPARATOR);
+    }
+
+    /**
+     * Creates an asynchronous scoreboard service.
+     * <p>
+     * Changes are applied to a service created by {@link #createConcurrent()}
+     * on virtual threads when the JVM supports them, and on a cached thread
+     * pool otherwise. The returned service should be closed when it is no
+     * longer used.
+     * </p>
+     *
+     * @return a new asynchronous scoreboard service
+     */
+    public static AsyncScoreboardServiceImpl createAsync() {
+        return new AsyncScoreboardServiceImpl(createConcurrent());
+    }
+
+    /**
+     * Creates a scoreboard service that stores matches under primitive keys.
+     * <p>
+     * The service and its {@link PackedKeyMatchRepository} share one
+     * {@link TeamRegistry}, so every team gets a dense id and matches are
+     * looked up by packed team ids instead of key objects, and a score update
+     * allocates no key. Matches are sorted with the
+     * {@link #TOTAL_SCORE_AND_TIME_COMPARATOR}.
+     * </p>
+     *
+     * @return a new ScoreboardService instance backed by packed team id keys
+     */
+    public static ScoreboardService createWithPackedKeys() {
+        TeamRegistry teamRegistry = new TeamRegistry();
+        return new ScoreboardServiceImpl(new PackedKeyMatchRepository(teamRegistry), TOTAL_SCORE_AND_TIME_COMPARATOR,
+                teamRegistry);
+    }
+
+    /**
+     * Creates a scoreboard service that keeps the state of its matches
+     * off-heap.
+     * <p>
+     * Matches are stored as records of an {@link OffHeapMatchRepository},
+     * which shares one {@link TeamRegistry} with the service, and the service
+     * keeps the summary in order of the
+     * {@link #TOTAL_SCORE_AND_TIME_COMPARATOR} itself. The repository holds no
+     * match objects besides one view per live match, and score updates are
+     * written into its records in place.
+     * </p>
+     *
+     * @return a new ScoreboardService instance backed by off-heap match records
+     */
+    public static ScoreboardService createOffHeap() {
+        TeamRegistry teamRegistry = new TeamRegistry();
+        return new ScoreboardServiceImpl(new OffHeapMatchRepository(teamRegistry), TOTAL_SCORE_AND_TIME_COMPARATOR,
+                teamRegistry);
+    }
+
+    /**
+     * Creates a scoreboard service that keeps the results of finished matches.
+     * <p>
+     * Every finished match is handed to the given {@link MatchArchive} by an
+     * {@link ArchivingMatchRepository}, and appended to the archive on its own
+     * thread. Matches in progress are kept like in {@link #createDefault()}.
+     * </p>
+     *
+     * @param archive the archive receiving the finished matches
+     * @return a new ScoreboardService instance that archives finished matches
+     * @throws IllegalArgumentException if the archive is null
+     */
+    public static ScoreboardService createArchived(MatchArchive archive) {
+        MatchRepository repository = new ArchivingMatchRepository(new InMemoryMatchRepository(), archive);
+        return new ScoreboardServiceImpl(repository, TOTAL_SCORE_AND_TIME_COMPARATOR);
+    }
+
+    /**
+     * Creates a scoreboard service that applies all changes on a single writer
+     * thread.
+     * <p>
+     * Changes from any number of threads are queued in a preallocated ring
+     * buffer of a {@link RingBufferScoreboardService} and applied in order to a
+     * scoreboard created by {@link #createConcurrent()}, whose writes never
+     * contend and whose team index can be read from any thread. The returned
+     * service also offers asynchronous and fire-and-forget variants of the
+     * changes and should be closed when it is no longer used.
+     * </p>
+     *
+     * @return a new single-writer ScoreboardService instance
+     */
+    public static RingBufferScoreboardService createSingleWriter() {
+        return new RingBufferScoreboardService(createConcurrent());
+    }
+
+    /**
+     * Creates a scoreboard service whose matches survive a restart.
+     * <p>
+     * Every change is appended to the given journal file by a
+     * {@link JournaledMatchRepository}, which also writes periodic snapshots of
+     * the live matches next to it. If the file already exists, the matches are
+     * restored from the latest snapshot and the journal records written after it
+     * before the service is returned. Matches are sorted with the
+     * {@link #TOTAL_SCORE_AND_TIME_COMPARATOR}. The returned service should be
+     * closed when it is no longer used, which syncs and closes the journal.
+     * </p>
+     *
+     * @param journalFile the journal file, created if it does not exist
+     * @return a new JournaledScoreboardService instance backed by the journal
+     * @throws IllegalArgumentException if the journal file is null
+     * @throws java.io.UncheckedIOException if the journal cannot be opened
+     */
+    public static JournaledScoreboardService createJournaled(Path journalFile) {
+        JournaledMatchRepository journal = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile);
+        return new JournaledScoreboardService(journal, TOTAL_SCORE_AND_TIME_COMPARATOR, journal);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,247 @@
+package com.sportradar.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sportradar.codec.SummaryJsonWriter;
+import com.sportradar.service.ScoreboardService;
+import com.sportradar.service.SummarySnapshot;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP server that exposes a {@link ScoreboardService} using the
+ * JDK's built-in {@link HttpServer}.
+ * <p>
+ * {@code GET /summary} returns the summary as JSON, written by a
+ * {@link SummaryJsonWriter}. Every response carries an {@code ETag} made of the
+ * summary snapshot version and a random id of this server instance, so tags
+ * from before a restart never match. A poll whose {@code If-None-Match}
+ * header holds the current tag is answered with {@code 304 Not Modified}
+ * after reading only the snapshot version. The JSON of the latest version is
+ * serialized once from the immutable snapshot and its bytes are shared by
+ * all requests for that version.
+ * </p>
+ * <p>
+ * {@code GET /summary/stream} pushes the changes of the scoreboard as
+ * Server-Sent Events, starting with the whole summary and resuming from the
+ * {@code Last-Event-ID} of a reconnecting client; see
+ * {@link SummaryEventStream}. Once the first client has connected to the
+ * stream, every change is also encoded into its history on the publishing
+ * thread and looks up the positions of its match for the scoreboard's
+ * events; until then writes pay nothing for the stream.
+ * </p>
+ * <p>
+ * The server is optional: nothing is started unless it is created, and it
+ * needs no dependency beyond the JDK. Requests are handled on a pool of
+ * daemon threads.
+ * </p>
+ *
+ */
+public class ScoreboardHttpServer implements AutoCloseable {
+    /**
+     * Path of the summary resource.
+     */
+    public static final String SUMMARY_PATH = "/summary";
+
+    /**
+     * Path of the Server-Sent Events stream of summary changes.
+     */
+    public static final String STREAM_PATH = "/summary/stream";
+
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final ScoreboardService service;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SummaryEventStream eventStream;
+    private final String instanceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final Object cacheLock = new Object();
+    private final SummaryJsonWriter jsonWriter = new SummaryJsonWriter();
+    private volatile CachedSummary cachedSummary;
+
+    /**
+     * Creates and starts a server for a scoreboard.
+     *
+     * @param service the scoreboard to expose
+     * @param address the address to listen on; port 0 picks a free port
+     * @throws IllegalArgumentException if any parameter is null
+     * @throws UncheckedIOException     if the server cannot be bound
+     */
+    public ScoreboardHttpServer(ScoreboardService service, InetSocketAddress address) {
+        if (service == null) {
+            throw new IllegalArgumentException("Scoreboard service cannot be null");
+        }
+        if (address == null) {
+            throw new IllegalArgumentException("Address cannot be null");
+        }
+        this.service = service;
+        try {
+            this.server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot bind HTTP server to " + address, e);
+        }
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        this.eventStream = new SummaryEventStream(service, executor, instanceId,
+                SummaryEventStream.DEFAULT_HISTORY_SIZE);
+        server.createContext(SUMMARY_PATH, this::handleSummary);
+        server.createContext(STREAM_PATH, eventStream::handle);
+        server.start();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Disconnects the event stream clients and stops the server, giving
+     * running requests a moment to complete.
+     */
+    @Override
+    public void close() {
+        eventStream.close();
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Answers a request for the summary.
+     *
+     * @param exchange the request and response
+     * @throws IOException if the response cannot be sent
+     */
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!SUMMARY_PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            SummarySnapshot snapshot = service.getSummarySnapshot();
+            String etag = etagOf(snapshot.getVersion());
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", "no-cache");
+            if (matchesEtag(exchange.getRequestHeaders().get("If-None-Match"), etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            byte[] body = serialize(snapshot);
+            headers.set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Returns the JSON of a snapshot, serializing it only if no newer or equal
+     * version is cached.
+     * <p>
+     * The JSON is written from the detached match copies of the snapshot and
+     * cached under the version of that same snapshot, so a score changed while
+     * serializing never ends up in the body of an older version.
+     * </p>
+     * <p>
+     * Only one thread serializes at a time, so concurrent polls of a new
+     * version wait for a single serialization instead of each performing
+     * their own.
+     * </p>
+     *
+     * @param snapshot the snapshot
+     * @return the UTF-8 JSON bytes, shared and never to be modified
+     * @throws IOException if the snapshot cannot be serialized
+     */
+    private byte[] serialize(SummarySnapshot snapshot) throws IOException {
+        CachedSummary cached = cachedSummary;
+        if (cached != null && cached.version == snapshot.getVersion()) {
+            return cached.body;
+        }
+        synchronized (cacheLock) {
+            cached = cachedSummary;
+            if (cached != null && cached.version == snapshot.getVersion()) {
+                return cached.body;
+            }
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            jsonWriter.write(snapshot, body);
+            cached = new CachedSummary(snapshot.getVersion(), body.toByteArray());
+            if (cachedSummary == null || cachedSummary.version < cached.version) {
+                cachedSummary = cached;
+            }
+            return cached.body;
+        }
+    }
+
+    /**
+     * Returns the entity tag of a summary version.
+     *
+     * @param version the snapshot version
+     * @return the quoted entity tag
+     */
+    private String etagOf(long version) {
+        return "\"" + instanceId + "-" + version + "\"";
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} header matches an entity tag.
+     *
+     * @param values the values of the header, or null if it is absent
+     * @param etag   the current entity tag
+     * @return true if the header lists the tag or is {@code *}
+     */
+    private static boolean matchesEtag(List<String> values, String etag) {
+        if (values == null) {
+            return false;
+        }
+        for (String value : values) {
+            for (String candidate : value.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag) || tag.equals("*")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The serialized JSON of one summary version.
+     */
+    private static final class CachedSummary {
+        private final long version;
+        private final byte[] body;
+
+        CachedSummary(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+}
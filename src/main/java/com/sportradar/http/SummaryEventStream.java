@@ -0,0 +1,381 @@
+package com.sportradar.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.sportradar.codec.SummaryJsonWriter;
+import com.sportradar.event.ScoreboardEvent;
+import com.sportradar.event.ScoreboardSubscription;
+import com.sportradar.service.ScoreboardService;
+import com.sportradar.service.SummarySnapshot;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Server-Sent Events stream of the changes of a scoreboard.
+ * <p>
+ * A client that connects without a usable {@code Last-Event-ID} first
+ * receives a {@code summary} event holding the whole summary, followed by a
+ * {@code match-started}, {@code score-changed} or {@code match-finished}
+ * event for every change. The data of every event is JSON written by a
+ * {@link SummaryJsonWriter}, and its id is the summary version prefixed with
+ * the id of the server instance, like the {@code ETag} of the summary.
+ * </p>
+ * <p>
+ * A reconnecting client sends the id of the last event it received. If it was
+ * issued by this server, the client only receives the events it missed,
+ * replayed from a bounded history of recent events. If the history no longer
+ * reaches back far enough, the client receives a new summary instead.
+ * </p>
+ * <p>
+ * The history is recorded from the moment the first client connects, so a
+ * scoreboard whose stream was never requested pays nothing for it.
+ * </p>
+ * <p>
+ * Each client has its own {@link ScoreboardSubscription}, so a slow client
+ * receives only the latest score of each match and never delays the others.
+ * A client is disconnected as soon as writing to it fails.
+ * </p>
+ */
+final class SummaryEventStream implements AutoCloseable {
+    static final int DEFAULT_HISTORY_SIZE = 4096;
+
+    private static final byte[] SUMMARY_EVENT = ascii("event: summary\n");
+    private static final Map<ScoreboardEvent.Type, byte[]> EVENT_NAMES = new EnumMap<>(ScoreboardEvent.Type.class);
+    private static final byte[] DATA_FIELD = ascii("data: ");
+    private static final byte[] END_OF_EVENT = ascii("\n\n");
+
+    static {
+        EVENT_NAMES.put(ScoreboardEvent.Type.MATCH_STARTED, ascii("event: match-started\n"));
+        EVENT_NAMES.put(ScoreboardEvent.Type.SCORE_CHANGED, ascii("event: score-changed\n"));
+        EVENT_NAMES.put(ScoreboardEvent.Type.MATCH_FINISHED, ascii("event: match-finished\n"));
+    }
+
+    private final ScoreboardService service;
+    private final Executor executor;
+    private final String instanceId;
+    private final int historySize;
+    private final SummaryJsonWriter historyWriter = new SummaryJsonWriter();
+    private final Deque<HistoryEntry> history = new ArrayDeque<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Object historyStart = new Object();
+    private ScoreboardSubscription historySubscription;
+    private long evictedVersion;
+    private long latestVersion;
+    private volatile boolean closed;
+
+    /**
+     * Creates an event stream of a scoreboard. Its history is not recorded
+     * until the first client connects.
+     *
+     * @param service     the scoreboard to stream
+     * @param executor    the executor that delivers events to the clients
+     * @param instanceId  the id of the server instance, used in event ids
+     * @param historySize the number of recent events kept for resuming
+     *                    clients
+     */
+    SummaryEventStream(ScoreboardService service, Executor executor, String instanceId, int historySize) {
+        this.service = service;
+        this.executor = executor;
+        this.instanceId = instanceId;
+        this.historySize = historySize;
+    }
+
+    /**
+     * Answers a request for the event stream and keeps the connection open.
+     *
+     * @param exchange the request and response
+     * @throws IOException if the response cannot be sent
+     */
+    void handle(HttpExchange exchange) throws IOException {
+        if (!ScoreboardHttpServer.STREAM_PATH.equals(exchange.getRequestURI().getPath())) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "GET");
+            exchange.sendResponseHeaders(405, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+
+        Connection connection = new Connection(exchange);
+        connections.add(connection);
+        if (closed || !startHistory()) {
+            connection.close();
+            return;
+        }
+        connection.open(lastEventVersion(exchange.getRequestHeaders().getFirst("Last-Event-ID")));
+    }
+
+    /**
+     * Disconnects all clients and stops recording the history.
+     */
+    @Override
+    public void close() {
+        synchronized (historyStart) {
+            closed = true;
+            if (historySubscription != null) {
+                historySubscription.cancel();
+            }
+        }
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Starts recording the history, unless it is already recorded.
+     * <p>
+     * The history is recorded on the publishing thread, so it never lags
+     * behind the published versions. Versions published before it started
+     * cannot be replayed.
+     * </p>
+     *
+     * @return false if the stream has been closed
+     */
+    private boolean startHistory() {
+        synchronized (historyStart) {
+            if (closed) {
+                return false;
+            }
+            if (historySubscription == null) {
+                historySubscription = service.subscribe(this::record, Runnable::run);
+                long version = service.getSummarySnapshot().getVersion();
+                synchronized (history) {
+                    evictedVersion = Math.max(evictedVersion, version);
+                    latestVersion = Math.max(latestVersion, version);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Records an event in the history.
+     *
+     * @param event the event
+     */
+    private void record(ScoreboardEvent event) {
+        byte[] eventName = EVENT_NAMES.get(event.getType());
+        synchronized (history) {
+            latestVersion = Math.max(latestVersion, event.getVersion());
+            if (eventName == null) {
+                return;
+            }
+            ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            try {
+                writeEvent(frame, eventName, event, historyWriter);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            history.addLast(new HistoryEntry(event.getVersion(), frame.toByteArray()));
+            while (history.size() > historySize) {
+                evictedVersion = history.removeFirst().version;
+            }
+        }
+    }
+
+    /**
+     * Returns the recorded events a client needs to catch up to a version.
+     *
+     * @param lastVersion the version of the last event the client received
+     * @param version     the version to catch up to
+     * @return the encoded events, or null if the history does not cover all
+     *         versions in between
+     */
+    private List<byte[]> replay(long lastVersion, long version) {
+        synchronized (history) {
+            if (lastVersion > version || lastVersion < evictedVersion || latestVersion < version) {
+                return null;
+            }
+            List<byte[]> frames = new ArrayList<>();
+            for (HistoryEntry entry : history) {
+                if (entry.version > lastVersion && entry.version <= version) {
+                    frames.add(entry.frame);
+                }
+            }
+            return frames;
+        }
+    }
+
+    /**
+     * Extracts the version from a {@code Last-Event-ID} header.
+     *
+     * @param lastEventId the header value, or null
+     * @return the version, or -1 if the header is absent or was not issued by
+     *         this server instance
+     */
+    private long lastEventVersion(String lastEventId) {
+        String prefix = instanceId + "-";
+        if (lastEventId == null || !lastEventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Writes the id line of an event.
+     *
+     * @param out     the stream to write to
+     * @param version the summary version of the event
+     * @throws IOException if the stream cannot be written
+     */
+    private void writeId(OutputStream out, long version) throws IOException {
+        out.write(ascii("id: " + instanceId + "-" + version + "\n"));
+    }
+
+    /**
+     * Writes a complete change event.
+     *
+     * @param out       the stream to write to
+     * @param eventName the encoded event line
+     * @param event     the change
+     * @param writer    the JSON writer to use
+     * @throws IOException if the stream cannot be written
+     */
+    private void writeEvent(OutputStream out, byte[] eventName, ScoreboardEvent event, SummaryJsonWriter writer)
+            throws IOException {
+        out.write(eventName);
+        writeId(out, event.getVersion());
+        out.write(DATA_FIELD);
+        writer.write(event, out);
+        out.write(END_OF_EVENT);
+    }
+
+    /**
+     * Encodes a constant protocol fragment.
+     *
+     * @param text the fragment, which must be ASCII
+     * @return the encoded bytes
+     */
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * An encoded event kept for resuming clients.
+     */
+    private static final class HistoryEntry {
+        private final long version;
+        private final byte[] frame;
+
+        HistoryEntry(long version, byte[] frame) {
+            this.version = version;
+            this.frame = frame;
+        }
+    }
+
+    /**
+     * An open event stream to a single client.
+     */
+    private final class Connection {
+        private final HttpExchange exchange;
+        private final OutputStream body;
+        private final SummaryJsonWriter writer = new SummaryJsonWriter();
+        private final AtomicBoolean disconnected = new AtomicBoolean();
+        private volatile ScoreboardSubscription subscription;
+        private long baseVersion;
+
+        Connection(HttpExchange exchange) {
+            this.exchange = exchange;
+            this.body = exchange.getResponseBody();
+        }
+
+        /**
+         * Subscribes to the scoreboard and sends the client either the
+         * events it missed or the whole summary.
+         * <p>
+         * The subscription is made before the summary version is read, so no
+         * change can fall between the two; changes already covered by the
+         * summary or the replayed events are skipped when they arrive.
+         * </p>
+         *
+         * @param lastVersion the version of the last event the client received,
+         *                    or -1
+         */
+        synchronized void open(long lastVersion) {
+            subscription = service.subscribe(this::send, executor);
+            if (disconnected.get()) {
+                subscription.cancel();
+                return;
+            }
+            SummarySnapshot snapshot = service.getSummarySnapshot();
+            baseVersion = snapshot.getVersion();
+            List<byte[]> missed = lastVersion >= 0 ? replay(lastVersion, baseVersion) : null;
+            try {
+                if (missed != null) {
+                    for (byte[] frame : missed) {
+                        body.write(frame);
+                    }
+                } else {
+                    body.write(SUMMARY_EVENT);
+                    writeId(body, baseVersion);
+                    body.write(DATA_FIELD);
+                    writer.write(snapshot, body);
+                    body.write(END_OF_EVENT);
+                }
+                body.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /**
+         * Sends a change to the client, disconnecting it if that fails.
+         *
+         * @param event the change
+         */
+        synchronized void send(ScoreboardEvent event) {
+            byte[] eventName = EVENT_NAMES.get(event.getType());
+            if (disconnected.get() || eventName == null || event.getVersion() <= baseVersion) {
+                return;
+            }
+            try {
+                writeEvent(body, eventName, event, writer);
+                body.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /**
+         * Cancels the subscription and closes the connection.
+         * <p>
+         * This does not wait for a write in progress, which fails once the
+         * connection is closed.
+         * </p>
+         */
+        void close() {
+            if (!disconnected.compareAndSet(false, true)) {
+                return;
+            }
+            connections.remove(this);
+            ScoreboardSubscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.sportradar.metrics;
+
+/**
+ * Immutable snapshot of a {@link LatencyHistogram}.
+ * <p>
+ * Percentiles are reported as the highest value of the bucket that contains
+ * them, capped at the recorded maximum, so they never underestimate a
+ * latency.
+ * </p>
+ *
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Creates a snapshot from copied histogram state.
+     *
+     * @param counts     the count of every bucket; must not be modified afterwards
+     * @param count      the total number of recorded values
+     * @param totalNanos the sum of all recorded values
+     * @param maxNanos   the highest recorded value
+     */
+    HistogramSnapshot(long[] counts, long count, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns the highest recorded latency.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the latency below or at which the given percentage of the
+     * recorded latencies fall.
+     *
+     * @param percentile the percentile, between 0 and 100, e.g. 99.9
+     * @return the latency in nanoseconds, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if the percentile is not between 0 and
+     *                                  100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this snapshot with the count and the
+     * main percentiles in microseconds.
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1fus p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus", count,
+                getMeanNanos() / 1000, getValueAtPercentile(50) / 1000.0, getValueAtPercentile(99) / 1000.0,
+                getValueAtPercentile(99.9) / 1000.0, maxNanos / 1000.0);
+    }
+}
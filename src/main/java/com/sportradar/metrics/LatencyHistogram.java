@@ -0,0 +1,94 @@
+package com.sportradar.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with logarithmic buckets.
+ * <p>
+ * Like an HDR histogram, every power of two is split into a fixed number of
+ * linear sub-buckets, so the relative error of a reported value is bounded
+ * (here by about 3%) across the whole range from nanoseconds to hours, while
+ * the histogram has a fixed size of under two thousand counters. Recording a
+ * value is a few bit operations and atomic increments, and never allocates.
+ * </p>
+ *
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Returns a snapshot of the latencies recorded so far.
+     * <p>
+     * Values recorded while the snapshot is taken may be partially included.
+     * </p>
+     *
+     * @return the snapshot
+     */
+    public HistogramSnapshot snapshot() {
+        long[] snapshotCounts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshotCounts[i] = counts.get(i);
+            count += snapshotCounts[i];
+        }
+        return new HistogramSnapshot(snapshotCounts, count, totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * Returns the bucket that counts a value.
+     * <p>
+     * Values below the sub-bucket count have a bucket each. Above that, the
+     * bucket is determined by the position of the highest set bit and the
+     * {@value #SUB_BUCKET_BITS} bits below it.
+     * </p>
+     *
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest value counted by a bucket.
+     *
+     * @param index the bucket index
+     * @return the highest value of the bucket
+     */
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
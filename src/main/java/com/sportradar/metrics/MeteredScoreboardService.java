@@ -0,0 +1,231 @@
+package com.sportradar.metrics;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.sportradar.domain.Match;
+import com.sportradar.event.ScoreboardListener;
+import com.sportradar.event.ScoreboardSubscription;
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.service.CommandResult;
+import com.sportradar.service.ScoreboardCommand;
+import com.sportradar.service.ScoreboardService;
+import com.sportradar.service.SummarySnapshot;
+
+/**
+ * {@link ScoreboardService} decorator that meters every call of the wrapped
+ * service.
+ * <p>
+ * For each {@link ScoreboardOperation} it records a latency histogram with
+ * logarithmic buckets, the number of calls and thus the throughput, and the
+ * number of {@link TeamAlreadyPlayingException}s,
+ * {@link MatchNotFoundException}s and other exceptions. The failed commands
+ * of a batch are counted as failures of {@link ScoreboardOperation#APPLY_BATCH}
+ * even though the batch itself succeeds.
+ * </p>
+ * <p>
+ * Every call goes through one timing helper. Recording takes a few atomic
+ * increments and never locks, so the decorator is as thread-safe as the
+ * wrapped service and adds little overhead. {@link #getMetrics()} returns an immutable snapshot that can be
+ * taken at any time from any thread.
+ * </p>
+ *
+ */
+public class MeteredScoreboardService implements ScoreboardService {
+    private final ScoreboardService delegate;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final EnumMap<ScoreboardOperation, OperationMetrics> metrics = new EnumMap<>(ScoreboardOperation.class);
+
+    /**
+     * Creates a metered service that measures time with
+     * {@link System#nanoTime()}.
+     *
+     * @param delegate the service to meter
+     * @throws IllegalArgumentException if the delegate is null
+     */
+    public MeteredScoreboardService(ScoreboardService delegate) {
+        this(delegate, System::nanoTime);
+    }
+
+    /**
+     * Creates a metered service with a custom clock.
+     *
+     * @param delegate the service to meter
+     * @param clock    the source of monotonic nanosecond timestamps
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    MeteredScoreboardService(ScoreboardService delegate, LongSupplier clock) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Scoreboard service cannot be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.delegate = delegate;
+        this.clock = clock;
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            metrics.put(operation, new OperationMetrics());
+        }
+        this.startNanos = clock.getAsLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Match startMatch(String homeTeamName, String awayTeamName) {
+        return timed(ScoreboardOperation.START_MATCH, () -> delegate.startMatch(homeTeamName, awayTeamName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateScore(String homeTeamName, String awayTeamName, int homeScore, int awayScore) {
+        timed(ScoreboardOperation.UPDATE_SCORE, () -> {
+            delegate.updateScore(homeTeamName, awayTeamName, homeScore, awayScore);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finishMatch(String homeTeamName, String awayTeamName) {
+        timed(ScoreboardOperation.FINISH_MATCH, () -> {
+            delegate.finishMatch(homeTeamName, awayTeamName);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The exceptions of failed commands are counted as failures of the batch.
+     * </p>
+     */
+    @Override
+    public List<CommandResult> applyBatch(List<ScoreboardCommand> commands) {
+        List<CommandResult> results = timed(ScoreboardOperation.APPLY_BATCH, () -> delegate.applyBatch(commands));
+        OperationMetrics batchMetrics = metrics.get(ScoreboardOperation.APPLY_BATCH);
+        for (CommandResult result : results) {
+            result.getError().ifPresent(batchMetrics::recordFailure);
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> getSummary() {
+        return timed(ScoreboardOperation.GET_SUMMARY, () -> delegate.getSummary());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Metered as {@link ScoreboardOperation#GET_SUMMARY}.
+     * </p>
+     */
+    @Override
+    public List<Match> getSummary(int limit) {
+        return timed(ScoreboardOperation.GET_SUMMARY, () -> delegate.getSummary(limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Metered as {@link ScoreboardOperation#GET_SUMMARY}.
+     * </p>
+     */
+    @Override
+    public List<Match> getSummary(int offset, int limit) {
+        return timed(ScoreboardOperation.GET_SUMMARY, () -> delegate.getSummary(offset, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Metered as {@link ScoreboardOperation#GET_SUMMARY}.
+     * </p>
+     */
+    @Override
+    public List<Match> getSummary(String orderingName) {
+        return timed(ScoreboardOperation.GET_SUMMARY, () -> delegate.getSummary(orderingName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return timed(ScoreboardOperation.GET_SUMMARY_SNAPSHOT, () -> delegate.getSummarySnapshot());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Match> getMatchForTeam(String teamName) {
+        return timed(ScoreboardOperation.GET_MATCH_FOR_TEAM, () -> delegate.getMatchForTeam(teamName));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Subscriptions are not metered.
+     * </p>
+     */
+    @Override
+    public ScoreboardSubscription subscribe(ScoreboardListener listener, Executor executor) {
+        return delegate.subscribe(listener, executor);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of all operations since this service
+     * was created.
+     * <p>
+     * Calls that complete while the snapshot is taken may be partially
+     * included.
+     * </p>
+     *
+     * @return the metrics snapshot
+     */
+    public MetricsSnapshot getMetrics() {
+        long elapsedNanos = clock.getAsLong() - startNanos;
+        EnumMap<ScoreboardOperation, OperationSnapshot> operations = new EnumMap<>(ScoreboardOperation.class);
+        metrics.forEach((operation, recorder) -> operations.put(operation, recorder.snapshot(elapsedNanos)));
+        return new MetricsSnapshot(operations, elapsedNanos);
+    }
+
+    /**
+     * Calls the wrapped service and records the latency of the call and the
+     * exception it failed with, if any, under an operation.
+     *
+     * @param <T>       the result type of the call
+     * @param operation the operation the call is metered as
+     * @param call      the call of the wrapped service
+     * @return the result of the call
+     * @throws RuntimeException the exception the call failed with
+     */
+    private <T> T timed(ScoreboardOperation operation, Supplier<T> call) {
+        OperationMetrics recorder = metrics.get(operation);
+        long start = clock.getAsLong();
+        try {
+            T result = call.get();
+            recorder.record(clock.getAsLong() - start, null);
+            return result;
+        } catch (RuntimeException e) {
+            recorder.record(clock.getAsLong() - start, e);
+            throw e;
+        }
+    }
+}
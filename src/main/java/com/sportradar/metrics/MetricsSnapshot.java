@@ -0,0 +1,71 @@
+package com.sportradar.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the metrics of all operations of a
+ * {@link MeteredScoreboardService}.
+ */
+public final class MetricsSnapshot {
+    private final Map<ScoreboardOperation, OperationSnapshot> operations;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param operations   the snapshot of every operation
+     * @param elapsedNanos the time since metering started
+     */
+    MetricsSnapshot(EnumMap<ScoreboardOperation, OperationSnapshot> operations, long elapsedNanos) {
+        this.operations = Collections.unmodifiableMap(operations);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the metrics of an operation.
+     *
+     * @param operation the operation
+     * @return the metrics of the operation
+     * @throws IllegalArgumentException if the operation is null
+     */
+    public OperationSnapshot get(ScoreboardOperation operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        return operations.get(operation);
+    }
+
+    /**
+     * Returns the metrics of all operations.
+     *
+     * @return an unmodifiable map from every operation to its metrics
+     */
+    public Map<ScoreboardOperation, OperationSnapshot> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Returns the time covered by this snapshot.
+     *
+     * @return the nanoseconds since metering started
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation with one line per operation.
+     * </p>
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        operations.forEach((operation, snapshot) -> builder.append(operation).append(": ").append(snapshot)
+                .append(System.lineSeparator()));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.sportradar.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+
+/**
+ * Records the calls of a single operation: their latencies, their number and
+ * the exceptions they failed with.
+ * <p>
+ * All counters are striped, so concurrent callers of the same operation do
+ * not contend on a single memory location.
+ * </p>
+ */
+final class OperationMetrics {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder teamAlreadyPlayingCount = new LongAdder();
+    private final LongAdder matchNotFoundCount = new LongAdder();
+    private final LongAdder otherFailureCount = new LongAdder();
+
+    /**
+     * Records a completed call.
+     *
+     * @param nanos   the latency of the call in nanoseconds
+     * @param failure the exception the call failed with, or null if it
+     *                succeeded
+     */
+    void record(long nanos, RuntimeException failure) {
+        latency.record(nanos);
+        if (failure != null) {
+            recordFailure(failure);
+        }
+    }
+
+    /**
+     * Counts a failure without recording a latency, for example a failed
+     * command of a batch.
+     *
+     * @param failure the exception
+     */
+    void recordFailure(RuntimeException failure) {
+        if (failure instanceof TeamAlreadyPlayingException) {
+            teamAlreadyPlayingCount.increment();
+        } else if (failure instanceof MatchNotFoundException) {
+            matchNotFoundCount.increment();
+        } else {
+            otherFailureCount.increment();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the recorded calls.
+     *
+     * @param elapsedNanos the time since metering started, used to compute the
+     *                     throughput
+     * @return the snapshot
+     */
+    OperationSnapshot snapshot(long elapsedNanos) {
+        return new OperationSnapshot(latency.snapshot(), teamAlreadyPlayingCount.sum(), matchNotFoundCount.sum(),
+                otherFailureCount.sum(), elapsedNanos);
+    }
+}
@@ -0,0 +1,118 @@
+package com.sportradar.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+
+/**
+ * Immutable snapshot of the metrics of a single {@link ScoreboardOperation}.
+ */
+public final class OperationSnapshot {
+    private final HistogramSnapshot latency;
+    private final long teamAlreadyPlayingCount;
+    private final long matchNotFoundCount;
+    private final long otherFailureCount;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param latency                 the latencies of all calls
+     * @param teamAlreadyPlayingCount the number of
+     *                                {@link TeamAlreadyPlayingException}s
+     * @param matchNotFoundCount      the number of
+     *                                {@link MatchNotFoundException}s
+     * @param otherFailureCount       the number of other exceptions
+     * @param elapsedNanos            the time since metering started
+     */
+    OperationSnapshot(HistogramSnapshot latency, long teamAlreadyPlayingCount, long matchNotFoundCount,
+            long otherFailureCount, long elapsedNanos) {
+        this.latency = latency;
+        this.teamAlreadyPlayingCount = teamAlreadyPlayingCount;
+        this.matchNotFoundCount = matchNotFoundCount;
+        this.otherFailureCount = otherFailureCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of calls, including failed ones.
+     *
+     * @return the number of calls
+     */
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * Returns the average number of calls per second since metering started.
+     *
+     * @return the throughput in calls per second
+     */
+    public double getThroughput() {
+        return elapsedNanos <= 0 ? 0 : getCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the latencies of all calls, including failed ones.
+     *
+     * @return the latency histogram
+     */
+    public HistogramSnapshot getLatency() {
+        return latency;
+    }
+
+    /**
+     * Returns the number of {@link TeamAlreadyPlayingException}s.
+     * <p>
+     * For batches these are the failed commands, which do not fail the call.
+     * </p>
+     *
+     * @return the count
+     */
+    public long getTeamAlreadyPlayingCount() {
+        return teamAlreadyPlayingCount;
+    }
+
+    /**
+     * Returns the number of {@link MatchNotFoundException}s.
+     * <p>
+     * For batches these are the failed commands, which do not fail the call.
+     * </p>
+     *
+     * @return the count
+     */
+    public long getMatchNotFoundCount() {
+        return matchNotFoundCount;
+    }
+
+    /**
+     * Returns the number of all other exceptions, such as invalid arguments.
+     *
+     * @return the count
+     */
+    public long getOtherFailureCount() {
+        return otherFailureCount;
+    }
+
+    /**
+     * Returns the number of exceptions of any type.
+     *
+     * @return the count
+     */
+    public long getFailureCount() {
+        return teamAlreadyPlayingCount + matchNotFoundCount + otherFailureCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this snapshot with the throughput,
+     * the failures and the latencies.
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return String.format("%.1f/s failures=%d %s", getThroughput(), getFailureCount(), latency);
+    }
+}
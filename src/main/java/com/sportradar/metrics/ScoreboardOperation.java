@@ -0,0 +1,26 @@
+package com.sportradar.metrics;
+
+/**
+ * The operations of a scoreboard service that are metered separately by a
+ * {@link MeteredScoreboardService}.
+ * <p>
+ * Every operation has its own latency histogram and failure counters in a
+ * {@link MetricsSnapshot}. Overloads of a service method share one operation.
+ * </p>
+ */
+public enum ScoreboardOperation {
+    /** Starting a match with {@code startMatch}. */
+    START_MATCH,
+    /** Updating the score of a match with {@code updateScore}. */
+    UPDATE_SCORE,
+    /** Finishing a match with {@code finishMatch}. */
+    FINISH_MATCH,
+    /** Applying a batch of commands with {@code applyBatch}, including its failed commands. */
+    APPLY_BATCH,
+    /** Reading the summary, or a page or named ordering of it, with {@code getSummary}. */
+    GET_SUMMARY,
+    /** Reading the published summary snapshot with {@code getSummarySnapshot}. */
+    GET_SUMMARY_SNAPSHOT,
+    /** Looking up the match of a team with {@code getMatchForTeam}. */
+    GET_MATCH_FOR_TEAM
+}
@@ -0,0 +1,64 @@
+package com.sportradar.registry;
+
+import com.sportradar.domain.Match;
+
+/**
+ * A match in progress together with the competition it belongs to.
+ * <p>
+ * Entries of this type make up the global summary of a
+ * {@link ScoreboardRegistry}, which combines the matches of all competitions.
+ * </p>
+ *
+ */
+public final class CompetitionMatch {
+    private final String competition;
+    private final Match match;
+
+    /**
+     * Creates a new entry for a match of a competition.
+     *
+     * @param competition the name of the competition
+     * @param match       the match
+     * @throws IllegalArgumentException if either parameter is null
+     */
+    public CompetitionMatch(String competition, Match match) {
+        if (competition == null) {
+            throw new IllegalArgumentException("Competition cannot be null");
+        }
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        this.competition = competition;
+        this.match = match;
+    }
+
+    /**
+     * Returns the name of the competition the match belongs to.
+     *
+     * @return the competition name
+     */
+    public String getCompetition() {
+        return competition;
+    }
+
+    /**
+     * Returns the match.
+     *
+     * @return the match
+     */
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this entry in the format
+     * "Competition: HomeTeam HomeScore - AwayScore AwayTeam".
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return competition + ": " + match;
+    }
+}
@@ -0,0 +1,372 @@
+package com.sportradar.registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sportradar.domain.Match;
+import com.sportradar.exception.CompetitionNotFoundException;
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.CommandResult;
+import com.sportradar.service.ScoreboardCommand;
+import com.sportradar.service.ScoreboardService;
+
+/**
+ * Hosts the scoreboards of many competitions in one JVM.
+ * <p>
+ * Every competition has its own {@link ScoreboardService}, so a team can only
+ * play one match at a time within a competition but may play in several
+ * competitions at once. Competitions are assigned round-robin to a fixed set
+ * of shards, each with a single worker thread. All changes of a competition
+ * run on its shard's thread, so a competition never needs a lock and
+ * competitions on different shards never contend with each other. By default
+ * there is one shard per available processor.
+ * </p>
+ * <p>
+ * Changes are submitted asynchronously and return a {@link CompletableFuture}
+ * that completes with the result, or exceptionally with the same exception
+ * the scoreboard service would throw. The summary of a competition is read
+ * from its published snapshot without involving the shards.
+ * </p>
+ * <p>
+ * The global summary combines the matches of all competitions. It reads the
+ * published snapshot of every competition on the calling thread, so it never
+ * waits for the changes queued on the shards. The snapshots are immutable
+ * and hold copies of the matches, which are merged by a k-way merge of the
+ * already sorted summaries; its cost depends on the number of returned
+ * matches and competitions rather than on sorting all matches again.
+ * </p>
+ *
+ */
+public class ScoreboardRegistry implements AutoCloseable {
+    private final Comparator<Match> matchComparator;
+    private final ExecutorService[] shards;
+    private final ConcurrentMap<String, Competition> competitions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Creates a registry with one shard per available processor, ordering
+     * matches with the
+     * {@link ScoreboardServiceFactory#TOTAL_SCORE_AND_TIME_COMPARATOR}.
+     */
+    public ScoreboardRegistry() {
+        this(Runtime.getRuntime().availableProcessors(), ScoreboardServiceFactory.TOTAL_SCORE_AND_TIME_COMPARATOR);
+    }
+
+    /**
+     * Creates a registry with the specified number of shards and match
+     * ordering.
+     *
+     * @param shardCount      the number of worker shards
+     * @param matchComparator the comparator used to order the summaries of all
+     *                        competitions and the global summary
+     * @throws IllegalArgumentException if the shard count is not positive or the
+     *                                  comparator is null
+     */
+    public ScoreboardRegistry(int shardCount, Comparator<Match> matchComparator) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        if (matchComparator == null) {
+            throw new IllegalArgumentException("Match comparator cannot be null");
+        }
+        this.matchComparator = matchComparator;
+        this.shards = new ExecutorService[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            String name = "scoreboard-shard-" + i;
+            shards[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Adds a competition with an empty scoreboard.
+     *
+     * @param competition the name of the competition
+     * @throws IllegalArgumentException if the name is null or empty, or a
+     *                                  competition with that name already exists
+     * @throws IllegalStateException    if the registry is closed
+     */
+    public void addCompetition(String competition) {
+        if (competition == null || competition.trim().isEmpty()) {
+            throw new IllegalArgumentException("Competition name cannot be null or empty");
+        }
+        ensureOpen();
+        ScoreboardService service = ScoreboardServiceFactory.create(matchComparator);
+        // publish the initial summary before the service is shared with readers
+        service.getSummarySnapshot();
+        ExecutorService shard = shards[Math.floorMod(nextShard.getAndIncrement(), shards.length)];
+        if (competitions.putIfAbsent(competition, new Competition(competition, shard, service)) != null) {
+            throw new IllegalArgumentException("Competition already exists: " + competition);
+        }
+    }
+
+    /**
+     * Removes a competition and all of its matches.
+     * <p>
+     * Changes of the competition that were submitted before are still applied
+     * to its removed scoreboard.
+     * </p>
+     *
+     * @param competition the name of the competition
+     * @throws CompetitionNotFoundException if the competition does not exist
+     */
+    public void removeCompetition(String competition) {
+        if (competition == null || competitions.remove(competition) == null) {
+            throw new CompetitionNotFoundException(competition);
+        }
+    }
+
+    /**
+     * Returns the names of all competitions.
+     *
+     * @return an unmodifiable view of the competition names
+     */
+    public Set<String> getCompetitions() {
+        return Collections.unmodifiableSet(competitions.keySet());
+    }
+
+    /**
+     * Starts a new match in a competition.
+     *
+     * @param competition  the name of the competition
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return a future completed with the new match, or exceptionally with a
+     *         {@link TeamAlreadyPlayingException} or
+     *         {@link IllegalArgumentException}
+     * @throws CompetitionNotFoundException if the competition does not exist
+     * @throws IllegalStateException        if the registry is closed
+     * @see ScoreboardService#startMatch(String, String)
+     */
+    public CompletableFuture<Match> startMatch(String competition, String homeTeamName, String awayTeamName) {
+        Competition target = competition(competition);
+        return CompletableFuture.supplyAsync(() -> target.service.startMatch(homeTeamName, awayTeamName),
+                target.shard);
+    }
+
+    /**
+     * Updates the score of a match in a competition.
+     *
+     * @param competition  the name of the competition
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @param homeScore    the new score for the home team
+     * @param awayScore    the new score for the away team
+     * @return a future completed once the score is updated, or exceptionally
+     *         with a {@link MatchNotFoundException} or
+     *         {@link IllegalArgumentException}
+     * @throws CompetitionNotFoundException if the competition does not exist
+     * @throws IllegalStateException        if the registry is closed
+     * @see ScoreboardService#updateScore(String, String, int, int)
+     */
+    public CompletableFuture<Void> updateScore(String competition, String homeTeamName, String awayTeamName,
+            int homeScore, int awayScore) {
+        Competition target = competition(competition);
+        return CompletableFuture.runAsync(
+                () -> target.service.updateScore(homeTeamName, awayTeamName, homeScore, awayScore), target.shard);
+    }
+
+    /**
+     * Finishes a match in a competition.
+     *
+     * @param competition  the name of the competition
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return a future completed once the match is finished, or exceptionally
+     *         with a {@link MatchNotFoundException}
+     * @throws CompetitionNotFoundException if the competition does not exist
+     * @throws IllegalStateException        if the registry is closed
+     * @see ScoreboardService#finishMatch(String, String)
+     */
+    public CompletableFuture<Void> finishMatch(String competition, String homeTeamName, String awayTeamName) {
+        Competition target = competition(competition);
+        return CompletableFuture.runAsync(() -> target.service.finishMatch(homeTeamName, awayTeamName),
+                target.shard);
+    }
+
+    /**
+     * Applies a batch of commands to a competition.
+     *
+     * @param competition the name of the competition
+     * @param commands    the commands to apply, in order
+     * @return a future completed with one result per command
+     * @throws CompetitionNotFoundException if the competition does not exist
+     * @throws IllegalStateException        if the registry is closed
+     * @see ScoreboardService#applyBatch(List)
+     */
+    public CompletableFuture<List<CommandResult>> applyBatch(String competition, List<ScoreboardCommand> commands) {
+        Competition target = competition(competition);
+        return CompletableFuture.supplyAsync(() -> target.service.applyBatch(commands), target.shard);
+    }
+
+    /**
+     * Gets the summary of a competition.
+     *
+     * @param competition the name of the competition
+     * @return an unmodifiable list of the matches in progress, ordered by the
+     *         registry's comparator
+     * @throws CompetitionNotFoundException if the competition does not exist
+     */
+    public List<Match> getSummary(String competition) {
+        return find(competition).service.getSummary();
+    }
+
+    /**
+     * Gets the matches in progress of all competitions in a single ordering.
+     *
+     * @return an unmodifiable list of all matches in progress
+     * @see #getGlobalSummary(int)
+     */
+    public List<CompetitionMatch> getGlobalSummary() {
+        return getGlobalSummary(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the leading matches of all competitions in a single ordering.
+     * <p>
+     * The latest published snapshot of each competition is read on the calling
+     * thread, so changes that are still queued on a shard are not included and
+     * the competitions are not read at the same instant. At most
+     * {@code limit} leading matches of each competition are read, and they are
+     * merged with a heap that holds one entry per competition, so this takes
+     * O(limit &times; log competitions) comparisons.
+     * </p>
+     *
+     * @param limit the maximum number of matches to return
+     * @return an unmodifiable list of at most {@code limit} matches, ordered by
+     *         the registry's comparator
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public List<CompetitionMatch> getGlobalSummary(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        PriorityQueue<SummaryCursor> heads = new PriorityQueue<>(Math.max(1, competitions.size()),
+                (first, second) -> matchComparator.compare(first.current(), second.current()));
+        int total = 0;
+        for (Competition competition : competitions.values()) {
+            List<Match> summary = competition.service.getSummarySnapshot().getMatches(0, limit);
+            if (!summary.isEmpty()) {
+                heads.add(new SummaryCursor(competition.name, summary));
+                total += summary.size();
+            }
+        }
+
+        List<CompetitionMatch> merged = new ArrayList<>(Math.min(limit, total));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            SummaryCursor head = heads.poll();
+            merged.add(new CompetitionMatch(head.competition, head.current()));
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * Stops the shard threads after the changes submitted so far have been
+     * applied.
+     * <p>
+     * Summaries can still be read, but further changes are rejected.
+     * </p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    /**
+     * Finds a competition that can accept changes.
+     *
+     * @param competition the name of the competition
+     * @return the competition
+     * @throws CompetitionNotFoundException if the competition does not exist
+     * @throws IllegalStateException        if the registry is closed
+     */
+    private Competition competition(String competition) {
+        ensureOpen();
+        return find(competition);
+    }
+
+    /**
+     * Finds a competition by name.
+     *
+     * @param competition the name of the competition
+     * @return the competition
+     * @throws CompetitionNotFoundException if the competition does not exist
+     */
+    private Competition find(String competition) {
+        Competition found = competition != null ? competitions.get(competition) : null;
+        if (found == null) {
+            throw new CompetitionNotFoundException(competition);
+        }
+        return found;
+    }
+
+    /**
+     * Checks that changes can still be submitted.
+     *
+     * @throws IllegalStateException if the registry is closed
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Registry is closed");
+        }
+    }
+
+    /**
+     * A competition with its scoreboard and the shard its changes run on.
+     */
+    private static final class Competition {
+        private final String name;
+        private final ExecutorService shard;
+        private final ScoreboardService service;
+
+        Competition(String name, ExecutorService shard, ScoreboardService service) {
+            this.name = name;
+            this.shard = shard;
+            this.service = service;
+        }
+    }
+
+    /**
+     * The position of the k-way merge within the summary of one competition.
+     */
+    private static final class SummaryCursor {
+        private final String competition;
+        private final List<Match> summary;
+        private int position;
+
+        SummaryCursor(String competition, List<Match> summary) {
+            this.competition = competition;
+            this.summary = summary;
+        }
+
+        Match current() {
+            return summary.get(position);
+        }
+
+        boolean advance() {
+            return ++position < summary.size();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.sportradar.repository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.sportradar.archive.MatchArchive;
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Team;
+
+/**
+ * {@link MatchRepository} that archives every match it deletes.
+ * <p>
+ * Storage and lookups are delegated to the wrapped repository. When the
+ * wrapped repository has removed a stored match, which is how the scoreboard
+ * finishes a match, its final state and the current time are handed to a
+ * {@link MatchArchive}. The archive
+ * appends and indexes the match on its own thread, so finishing a match only
+ * pays for reading its state and queuing it.
+ * </p>
+ * <p>
+ * This repository is as thread-safe as the wrapped repository.
+ * </p>
+ *
+ */
+public class ArchivingMatchRepository implements MatchRepository {
+    private final MatchRepository delegate;
+    private final MatchArchive archive;
+    private final Clock clock;
+
+    /**
+     * Creates a new archiving repository on top of the specified repository,
+     * taking finish times from the system clock.
+     *
+     * @param delegate the repository used to store and look up matches
+     * @param archive  the archive receiving the finished matches
+     * @throws IllegalArgumentException if either parameter is null
+     */
+    public ArchivingMatchRepository(MatchRepository delegate, MatchArchive archive) {
+        this(delegate, archive, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a new archiving repository on top of the specified repository,
+     * taking finish times from the specified clock.
+     *
+     * @param delegate the repository used to store and look up matches
+     * @param archive  the archive receiving the finished matches
+     * @param clock    the clock providing finish times
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public ArchivingMatchRepository(MatchRepository delegate, MatchArchive archive, Clock clock) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Repository cannot be null");
+        }
+        if (archive == null) {
+            throw new IllegalArgumentException("Match archive cannot be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.delegate = delegate;
+        this.archive = archive;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void save(Match match) {
+        delegate.save(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public boolean update(Match match) {
+        return delegate.update(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A stored match is archived with its state at the time of deletion.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     * @throws IllegalStateException    if the archive is closed
+     */
+    @Override
+    public void delete(Match match) {
+        remove(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The match is archived only after the wrapped repository has removed it,
+     * so a match that could not be removed is never archived, and of two
+     * concurrent removals of the same match only the one that removed it
+     * archives it. If the archive is closed, the match is removed all the
+     * same.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     * @throws IllegalStateException    if the archive is closed
+     */
+    @Override
+    public Optional<Match> remove(Match match) {
+        Optional<Match> removed = delegate.remove(match);
+        if (removed.isPresent()) {
+            archive.archive(removed.get(), LocalDateTime.now(clock));
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if either team is null
+     */
+    @Override
+    public Optional<Match> findByTeams(Team homeTeam, Team awayTeam) {
+        return delegate.findByTeams(homeTeam, awayTeam);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public Optional<Match> findByTeam(Team team) {
+        return delegate.findByTeam(team);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public boolean existsByTeam(Team team) {
+        return delegate.existsByTeam(team);
+    }
+}
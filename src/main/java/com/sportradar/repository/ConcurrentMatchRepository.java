@@ -0,0 +1,201 @@
+package com.sportradar.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Team;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+
+/**
+ * Thread-safe implementation of the {@link MatchRepository} interface.
+ * <p>
+ * Matches are stored in a {@link ConcurrentHashMap}, which locks per hash bin
+ * rather than per repository, so concurrent writers only contend when they
+ * touch the same matches. Team participation is tracked in a second concurrent
+ * map from each playing team to the key of its match, and new matches claim
+ * both of their teams atomically. This keeps the "one live match per team"
+ * rule intact even when several threads start matches at the same time,
+ * without a global lock around the repository.
+ * </p>
+ *
+ */
+public class ConcurrentMatchRepository implements MatchRepository {
+    private final ConcurrentMap<MatchKey, Match> matches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Team, MatchKey> teams = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Saving a stored match replaces it. Saving a match that is not yet stored
+     * first claims both of its teams and only then adds the match. If another
+     * match has claimed either team in the meantime, the match is not stored.
+     * Changes of a match that may be deleted concurrently should be saved with
+     * {@link #update(Match)}, which never adds it back.
+     * </p>
+     *
+     * @throws IllegalArgumentException    if the match is null
+     * @throws TeamAlreadyPlayingException if the match is new and either team is
+     *                                     already playing in another match
+     */
+    @Override
+    public void save(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        MatchKey key = new MatchKey(match.getHomeTeam(), match.getAwayTeam());
+        if (matches.computeIfPresent(key, (k, stored) -> match) != null) {
+            return;
+        }
+        insert(key, match);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The match is replaced atomically, so an update racing with the deletion
+     * of the same match either completes before it or finds nothing to update.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public boolean update(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        MatchKey key = new MatchKey(match.getHomeTeam(), match.getAwayTeam());
+        return matches.computeIfPresent(key, (k, stored) -> match) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void delete(Match match) {
+        remove(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public Optional<Match> remove(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        MatchKey key = new MatchKey(match.getHomeTeam(), match.getAwayTeam());
+
+        Match removed = matches.remove(key);
+        if (removed != null) {
+            teams.remove(match.getHomeTeam(), key);
+            teams.remove(match.getAwayTeam(), key);
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if either team is null
+     */
+    @Override
+    public Optional<Match> findByTeams(Team homeTeam, Team awayTeam) {
+        if (homeTeam == null) {
+            throw new IllegalArgumentException("Home team cannot be null");
+        }
+        if (awayTeam == null) {
+            throw new IllegalArgumentException("Away team cannot be null");
+        }
+        MatchKey key = new MatchKey(homeTeam, awayTeam);
+        return Optional.ofNullable(matches.get(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A match whose teams are claimed but which is not stored yet, or no longer,
+     * is not found.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public Optional<Match> findByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        MatchKey key = teams.get(team);
+        return key != null ? Optional.ofNullable(matches.get(key)) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The snapshot is weakly consistent: it reflects every match saved before
+     * the call and may or may not reflect concurrent modifications.
+     * </p>
+     */
+    @Override
+    public List<Match> findAll() {
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public boolean existsByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        return teams.containsKey(team);
+    }
+
+    /**
+     * Adds a new match after claiming both of its teams.
+     * <p>
+     * Holding both claims means no other save can store a match with the same
+     * key, so the match is added with {@code putIfAbsent} rather than
+     * overwriting anything.
+     * </p>
+     *
+     * @param key   the key of the match
+     * @param match the new match
+     * @throws TeamAlreadyPlayingException if either team is already claimed by
+     *                                     a match
+     */
+    private void insert(MatchKey key, Match match) {
+        claimTeam(match.getHomeTeam(), key);
+        try {
+            claimTeam(match.getAwayTeam(), key);
+        } catch (TeamAlreadyPlayingException e) {
+            teams.remove(match.getHomeTeam(), key);
+            throw e;
+        }
+        matches.putIfAbsent(key, match);
+    }
+
+    /**
+     * Atomically marks a team as playing in the match with the given key.
+     *
+     * @param team the team to claim
+     * @param key  the key of the match the team is playing in
+     * @throws TeamAlreadyPlayingException if the team is already claimed by a
+     *                                     match
+     */
+    private void claimTeam(Team team, MatchKey key) {
+        if (teams.putIfAbsent(team, key) != null) {
+            throw new TeamAlreadyPlayingException(team);
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package com.sportradar.repository;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 import com.sportradar.domain.Match;
 import com.sportradar.domain.Team;
@@ -18,13 +15,15 @@ import java.util.ArrayList;
  * <p>
  * This implementation stores matches in memory and provides no persistence
  * across application restarts. It uses a HashMap for efficient lookup
- * of matches by team combinations.
+ * of matches by team combinations, and a second HashMap from each team to
+ * the keys of its matches, so checking and releasing teams takes constant
+ * time regardless of how many matches are stored.
  * </p>
  *
  */
 public class InMemoryMatchRepository implements MatchRepository {
     private final Map<MatchKey, Match> matches = new HashMap<>();
-    private final Set<Team> teams = new HashSet<>();
+    private final Map<Team, List<MatchKey>> matchKeysByTeam = new HashMap<>();
 
     /**
      * {@inheritDoc}
@@ -37,9 +36,10 @@ public class InMemoryMatchRepository implements MatchRepository {
             throw new IllegalArgumentException("Match cannot be null");
         }
         MatchKey key = new MatchKey(match.getHomeTeam(), match.getAwayTeam());
-        matches.put(key, match);
-        teams.add(match.getHomeTeam());
-        teams.add(match.getAwayTeam());
+        if (matches.put(key, match) == null) {
+            addTeamReference(match.getHomeTeam(), key);
+            addTeamReference(match.getAwayTeam(), key);
+        }
     }
 
     /**
@@ -49,28 +49,50 @@ public class InMemoryMatchRepository implements MatchRepository {
      */
     @Override
     public void delete(Match match) {
+        remove(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public Optional<Match> remove(Match match) {
         if (match == null) {
             throw new IllegalArgumentException("Match cannot be null");
         }
         MatchKey key = new MatchKey(match.getHomeTeam(), match.getAwayTeam());
 
-        if (matches.remove(key) != null) {
-            checkAndRemoveTeam(match.getHomeTeam());
-            checkAndRemoveTeam(match.getAwayTeam());
+        Match removed = matches.remove(key);
+        if (removed != null) {
+            removeTeamReference(match.getHomeTeam(), key);
+            removeTeamReference(match.getAwayTeam(), key);
         }
+        return Optional.ofNullable(removed);
     }
 
     /**
-     * Removes a team from the teams set if it is no longer referenced by any match.
+     * Records that a team plays in the match with the given key.
      *
-     * @param team the team to check and potentially remove
+     * @param team the team playing in the match
+     * @param key  the key of the match
      */
-    private void checkAndRemoveTeam(Team team) {
-        boolean isReferencedByAnyMatch = matches.values().stream()
-                .anyMatch(m -> team.equals(m.getHomeTeam()) || team.equals(m.getAwayTeam()));
+    private void addTeamReference(Team team, MatchKey key) {
+        matchKeysByTeam.computeIfAbsent(team, t -> new ArrayList<>(1)).add(key);
+    }
 
-        if (!isReferencedByAnyMatch) {
-            teams.remove(team);
+    /**
+     * Removes the record that a team plays in the match with the given key,
+     * dropping the team once it is no longer referenced by any match.
+     *
+     * @param team the team that played in the match
+     * @param key  the key of the match
+     */
+    private void removeTeamReference(Team team, MatchKey key) {
+        List<MatchKey> keys = matchKeysByTeam.get(team);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            matchKeysByTeam.remove(team);
         }
     }
 
@@ -91,6 +113,20 @@ public class InMemoryMatchRepository implements MatchRepository {
         return Optional.ofNullable(matches.get(key));
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public Optional<Match> findByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        List<MatchKey> keys = matchKeysByTeam.get(team);
+        return keys != null ? Optional.ofNullable(matches.get(keys.get(0))) : Optional.empty();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -109,69 +145,6 @@ public class InMemoryMatchRepository implements MatchRepository {
         if (team == null) {
             throw new IllegalArgumentException("Team cannot be null");
         }
-        return teams.contains(team);
-    }
-
-    /**
-     * Private key class used for efficient match lookup in the HashMap.
-     * <p>
-     * A MatchKey is a combination of home and away teams. Two MatchKeys are
-     * considered equal if they have the same home and away teams.
-     * </p>
-     */
-    private static class MatchKey {
-        private final Team homeTeam;
-        private final Team awayTeam;
-
-        /**
-         * Creates a new MatchKey with the specified home and away teams.
-         *
-         * @param homeTeam the home team
-         * @param awayTeam the away team
-         */
-        public MatchKey(Team homeTeam, Team awayTeam) {
-            this.homeTeam = homeTeam;
-            this.awayTeam = awayTeam;
-        }
-
-        /**
-         * {@inheritDoc}
-         * <p>
-         * Two MatchKeys are considered equal if they have the same home and away teams.
-         * </p>
-         */
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)
-                return true;
-            if (o == null || getClass() != o.getClass())
-                return false;
-            MatchKey matchKey = (MatchKey) o;
-            return Objects.equals(homeTeam, matchKey.homeTeam) &&
-                    Objects.equals(awayTeam, matchKey.awayTeam);
-        }
-
-        /**
-         * {@inheritDoc}
-         * <p>
-         * The hash code is computed using the home and away teams.
-         * </p>
-         */
-        @Override
-        public int hashCode() {
-            return Objects.hash(homeTeam, awayTeam);
-        }
-
-        /**
-         * {@inheritDoc}
-         * <p>
-         * Returns a string representation of this key in the format "HomeTeam -
-         * AwayTeam".
-         * </p>
-         */
-        @Override
-        public String toString() {
-            return homeTeam + " - " + awayTeam;
-        }
+        return matchKeysByTeam.containsKey(team);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,197 @@
+package com.sportradar.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+
+/**
+ * Binary snapshot of all live matches of a {@link JournaledMatchRepository}.
+ * <p>
+ * A snapshot records the journal it belongs to and the journal position it
+ * covers, together with the journal team dictionary and every live match,
+ * including its score, start time and start sequence. Recovery restores the
+ * snapshot and then replays only the journal records written after that
+ * position.
+ * </p>
+ * <p>
+ * Snapshots are written to a temporary file that is synced and then atomically
+ * moved over the previous snapshot, so a crash while writing leaves the
+ * previous snapshot intact. A checksum over the whole file detects damaged
+ * snapshots, which are ignored.
+ * </p>
+ */
+final class JournalSnapshot {
+    private static final int MAGIC = 0x5342534E;
+    private static final int FORMAT_VERSION = 3;
+
+    private final long journalId;
+    private final long journalPosition;
+    private final List<Team> teams;
+    private final List<Match> matches;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param journalId       the id of the journal the snapshot belongs to
+     * @param journalPosition the journal position covered by the snapshot,
+     *                        counted from the start of the first segment
+     * @param teams           the journal team dictionary, indexed by team id
+     * @param matches         copies of the live matches
+     */
+    JournalSnapshot(long journalId, long journalPosition, List<Team> teams, List<Match> matches) {
+        this.journalId = journalId;
+        this.journalPosition = journalPosition;
+        this.teams = teams;
+        this.matches = matches;
+    }
+
+    long getJournalId() {
+        return journalId;
+    }
+
+    long getJournalPosition() {
+        return journalPosition;
+    }
+
+    List<Team> getTeams() {
+        return teams;
+    }
+
+    List<Match> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Writes this snapshot to a file, replacing any previous snapshot.
+     * <p>
+     * The team dictionary must contain both teams of every match.
+     * </p>
+     *
+     * @param file the snapshot file
+     * @throws UncheckedIOException if the snapshot cannot be written
+     */
+    void write(Path file) {
+        Map<Team, Integer> teamIds = new HashMap<>();
+        List<byte[]> names = new ArrayList<>(teams.size());
+        int size = 4 * Integer.BYTES + 2 * Long.BYTES;
+        for (Team team : teams) {
+            byte[] name = team.getName().getBytes(StandardCharsets.UTF_8);
+            teamIds.put(team, names.size());
+            names.add(name);
+            size += Short.BYTES + name.length;
+        }
+        size += matches.size() * (5 * Integer.BYTES + 2 * Long.BYTES) + Integer.BYTES;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(journalId).putLong(journalPosition);
+        buffer.putInt(names.size());
+        for (byte[] name : names) {
+            buffer.putShort((short) name.length).put(name);
+        }
+        buffer.putInt(matches.size());
+        for (Match match : matches) {
+            LocalDateTime startTime = match.getStartTime();
+            buffer.putInt(teamIds.get(match.getHomeTeam())).putInt(teamIds.get(match.getAwayTeam()));
+            buffer.putLong(startTime.toEpochSecond(ZoneOffset.UTC)).putInt(startTime.getNano());
+            buffer.putLong(match.getStartSequence());
+            buffer.putInt(match.getHomeScore()).putInt(match.getAwayScore());
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) checksum.getValue());
+        buffer.flip();
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Reads the snapshot stored in a file.
+     *
+     * @param file the snapshot file
+     * @return an Optional containing the snapshot, or empty if the file does not
+     *         exist or is not a valid snapshot
+     * @throws UncheckedIOException if the file exists but cannot be read
+     */
+    static Optional<JournalSnapshot> read(Path file) {
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot " + file, e);
+        }
+        if (buffer.remaining() < 5 * Integer.BYTES + 2 * Long.BYTES || !hasValidChecksum(buffer)) {
+            return Optional.empty();
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            return Optional.empty();
+        }
+        long journalId = buffer.getLong();
+        long journalPosition = buffer.getLong();
+
+        int teamCount = buffer.getInt();
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            teams.add(new Team(new String(name, StandardCharsets.UTF_8)));
+        }
+
+        int matchCount = buffer.getInt();
+        List<Match> matches = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            Team homeTeam = teams.get(buffer.getInt());
+            Team awayTeam = teams.get(buffer.getInt());
+            LocalDateTime startTime = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            long startSequence = buffer.getLong();
+            Score score = new Score(buffer.getInt(), buffer.getInt());
+            matches.add(Match.restore(homeTeam, awayTeam, score, startTime, startSequence));
+        }
+        return Optional.of(new JournalSnapshot(journalId, journalPosition, teams, matches));
+    }
+
+    /**
+     * Checks the checksum stored in the last four bytes of a snapshot.
+     *
+     * @param buffer the snapshot contents
+     * @return true if the checksum matches
+     */
+    private static boolean hasValidChecksum(ByteBuffer buffer) {
+        int end = buffer.limit() - Integer.BYTES;
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.array(), 0, end);
+        return (int) checksum.getValue() == buffer.getInt(end);
+    }
+}
@@ -0,0 +1,946 @@
+package com.sportradar.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32C;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+
+/**
+ * {@link MatchRepository} that records every change in an append-only journal
+ * file, so that live matches survive a restart.
+ * <p>
+ * Storage and lookups are delegated to the wrapped repository. Every start,
+ * score update and finish is additionally appended as a compact binary record
+ * to a memory-mapped journal file. Appending is a copy into mapped memory, so
+ * it adds no system call to the write path. A background thread forces the
+ * written records to disk at a fixed interval, which groups the fsyncs of all
+ * changes made in that interval into one. Records are in the operating
+ * system page cache as soon as they are appended, so they survive a crash of
+ * the JVM; only records written after the last sync can be lost if the whole
+ * machine fails.
+ * </p>
+ * <p>
+ * When the repository is opened on an existing journal, its records are
+ * replayed into the wrapped repository before it is used. Each record carries
+ * a checksum, and replay stops at the first incomplete or damaged record.
+ * </p>
+ * <p>
+ * To keep startup fast as the journal grows, the repository periodically
+ * writes a snapshot of all live matches to a file next to the journal, named
+ * after the journal with a {@code .snapshot} suffix. The snapshot records the
+ * journal position it covers, so recovery restores the snapshot and replays
+ * only the records written after it.
+ * </p>
+ * <p>
+ * Once a snapshot has been written, the records it covers are no longer
+ * needed. The repository then starts a new journal segment that holds only the
+ * records appended since the snapshot was taken, and atomically moves it over
+ * the journal file. The journal therefore only holds the changes of about one
+ * snapshot interval, which may take up to 2 GB. A crash before the move leaves
+ * the previous segment, whose records after the snapshot are replayed as
+ * usual. If the snapshot of the first segment is missing or damaged, the whole
+ * journal is replayed instead; a later segment cannot be recovered without its
+ * snapshot and is rejected rather than restored partially.
+ * </p>
+ * <p>
+ * Writes are serialized so that the journal order always matches the order in
+ * which changes were applied to the wrapped repository. They are guarded by a
+ * {@link ReentrantLock} rather than the monitor of the repository, so a
+ * virtual thread waiting to journal a change does not pin its carrier
+ * thread. Each change is
+ * appended to the journal before it is applied to the wrapped repository, and
+ * its records are removed again if the repository rejects it, so the
+ * repository never holds a change the journal has not recorded and recovery
+ * never restores one the repository did not make.
+ * </p>
+ *
+ */
+public class JournaledMatchRepository implements MatchRepository, AutoCloseable {
+    /**
+     * Interval at which appended records are forced to disk by default.
+     */
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10);
+
+    /**
+     * Interval at which snapshots of the live matches are written by default.
+     */
+    public static final Duration DEFAULT_SNAPSHOT_INTERVAL = Duration.ofMinutes(1);
+
+    private static final int MAGIC = 0x53424A4E;
+    private static final int FORMAT_VERSION = 4;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + 2 * Long.BYTES;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int INITIAL_CAPACITY = 1 << 24;
+    private static final int MAX_NAME_LENGTH = Short.MAX_VALUE;
+
+    private static final byte TEAM_RECORD = 1;
+    private static final byte START_RECORD = 2;
+    private static final byte SCORE_RECORD = 3;
+    private static final byte FINISH_RECORD = 4;
+
+    private final MatchRepository delegate;
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private final int initialCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService syncExecutor;
+    private final Map<Team, Integer> teamIds = new HashMap<>();
+    private final List<Team> teamsById = new ArrayList<>();
+    private final ByteBuffer record = ByteBuffer.allocate(LENGTH_SIZE + 1 + 2 * Integer.BYTES + 2
+            + 3 * MAX_NAME_LENGTH + CHECKSUM_SIZE);
+    private final CRC32C checksum = new CRC32C();
+    private FileChannel channel;
+    private MappedByteBuffer journal;
+    private long journalId;
+    private long segmentStart;
+    private int writePosition;
+    private int snapshotPosition;
+    private int syncedPosition;
+    private boolean closed;
+
+    /**
+     * Opens a journaled repository with the {@link #DEFAULT_SYNC_INTERVAL} and
+     * the {@link #DEFAULT_SNAPSHOT_INTERVAL}.
+     *
+     * @param delegate    the repository used to store and look up matches
+     * @param journalFile the journal file, created if it does not exist
+     * @throws IllegalArgumentException if either parameter is null
+     * @throws IllegalStateException    if the file is not a scoreboard journal
+     * @throws UncheckedIOException     if the journal cannot be opened
+     */
+    public JournaledMatchRepository(MatchRepository delegate, Path journalFile) {
+        this(delegate, journalFile, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Opens a journaled repository that forces appended records to disk at the
+     * specified interval and writes snapshots at the
+     * {@link #DEFAULT_SNAPSHOT_INTERVAL}.
+     *
+     * @param delegate     the repository used to store and look up matches
+     * @param journalFile  the journal file, created if it does not exist
+     * @param syncInterval the interval between background syncs
+     * @throws IllegalArgumentException if any parameter is null or the interval
+     *                                  is not positive
+     * @throws IllegalStateException    if the file is not a scoreboard journal
+     * @throws UncheckedIOException     if the journal cannot be opened
+     */
+    public JournaledMatchRepository(MatchRepository delegate, Path journalFile, Duration syncInterval) {
+        this(delegate, journalFile, syncInterval, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens a journaled repository that forces appended records to disk and
+     * writes snapshots of the live matches at the specified intervals.
+     * <p>
+     * The live matches are restored into the wrapped repository from the
+     * latest snapshot and the journal records written after it.
+     * </p>
+     *
+     * @param delegate         the repository used to store and look up matches
+     * @param journalFile      the journal file, created if it does not exist
+     * @param syncInterval     the interval between background syncs
+     * @param snapshotInterval the interval between background snapshots
+     * @throws IllegalArgumentException if any parameter is null or either
+     *                                  interval is not positive
+     * @throws IllegalStateException    if the file is not a scoreboard journal
+     * @throws UncheckedIOException     if the journal cannot be opened
+     */
+    public JournaledMatchRepository(MatchRepository delegate, Path journalFile, Duration syncInterval,
+            Duration snapshotInterval) {
+        this(delegate, journalFile, syncInterval, snapshotInterval, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Opens a journaled repository that initially maps the specified number of
+     * bytes of a new journal file.
+     *
+     * @param delegate         the repository used to store and look up matches
+     * @param journalFile      the journal file, created if it does not exist
+     * @param syncInterval     the interval between background syncs
+     * @param snapshotInterval the interval between background snapshots
+     * @param initialCapacity  the initial size of the mapped region
+     */
+    JournaledMatchRepository(MatchRepository delegate, Path journalFile, Duration syncInterval,
+            Duration snapshotInterval, int initialCapacity) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Repository cannot be null");
+        }
+        if (journalFile == null) {
+            throw new IllegalArgumentException("Journal file cannot be null");
+        }
+        if (syncInterval == null || syncInterval.isNegative() || syncInterval.isZero()) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        if (snapshotInterval == null || snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.delegate = delegate;
+        this.journalFile = journalFile;
+        this.snapshotFile = journalFile.resolveSibling(journalFile.getFileName() + ".snapshot");
+        this.initialCapacity = initialCapacity;
+        try {
+            this.channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            openJournal();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal " + journalFile, e);
+        }
+        this.syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = syncInterval.toNanos();
+        syncExecutor.scheduleWithFixedDelay(this::syncInBackground, intervalNanos, intervalNanos,
+                TimeUnit.NANOSECONDS);
+        long snapshotNanos = snapshotInterval.toNanos();
+        syncExecutor.scheduleWithFixedDelay(this::snapshotInBackground, snapshotNanos, snapshotNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Saving a new match appends a start record, saving a stored match appends
+     * a score record.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     * @throws IllegalStateException    if the repository is closed or the
+     *                                  journal is full
+     */
+    @Override
+    public void save(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        lock.lock();
+        try {
+            ensureOpen();
+            boolean isNew = delegate.findByTeams(match.getHomeTeam(), match.getAwayTeam()).isEmpty();
+            appendAndApply(() -> {
+                if (isNew) {
+                    appendStart(match);
+                } else {
+                    appendScore(match);
+                }
+            }, () -> {
+                delegate.save(match);
+                return true;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A score record is appended only if the match is still stored.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     * @throws IllegalStateException    if the repository is closed or the
+     *                                  journal is full
+     */
+    @Override
+    public boolean update(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        lock.lock();
+        try {
+            ensureOpen();
+            if (delegate.findByTeams(match.getHomeTeam(), match.getAwayTeam()).isEmpty()) {
+                return false;
+            }
+            return appendAndApply(() -> appendScore(match), () -> delegate.update(match));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     * @throws IllegalStateException    if the repository is closed or the
+     *                                  journal is full
+     */
+    @Override
+    public void delete(Match match) {
+        remove(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A finish record is appended only if the match is stored.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     * @throws IllegalStateException    if the repository is closed or the
+     *                                  journal is full
+     */
+    @Override
+    public Optional<Match> remove(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        lock.lock();
+        try {
+            ensureOpen();
+            Optional<Match> stored = delegate.findByTeams(match.getHomeTeam(), match.getAwayTeam());
+            if (stored.isEmpty()) {
+                return stored;
+            }
+            appendAndApply(() -> appendFinish(match), () -> {
+                delegate.delete(match);
+                return true;
+            });
+            return stored;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if either team is null
+     */
+    @Override
+    public Optional<Match> findByTeams(Team homeTeam, Team awayTeam) {
+        return delegate.findByTeams(homeTeam, awayTeam);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public Optional<Match> findByTeam(Team team) {
+        return delegate.findByTeam(team);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public boolean existsByTeam(Team team) {
+        return delegate.existsByTeam(team);
+    }
+
+    /**
+     * Forces every record appended so far to disk.
+     * <p>
+     * This is called periodically by the background sync thread and can be
+     * called directly when a change must be durable before continuing.
+     * </p>
+     *
+     * @throws UncheckedIOException if the journal cannot be written to disk
+     */
+    public void sync() {
+        MappedByteBuffer mapping;
+        int from;
+        int to;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            mapping = journal;
+            from = syncedPosition;
+            to = writePosition;
+        } finally {
+            lock.unlock();
+        }
+        if (to > from) {
+            mapping.force(from, to - from);
+            lock.lock();
+            try {
+                if (journal == mapping) {
+                    syncedPosition = Math.max(syncedPosition, to);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Runs a sync on the background thread. A failed sync is retried at the
+     * next interval, because an exception would cancel the periodic task.
+     */
+    private void syncInBackground() {
+        try {
+            sync();
+        } catch (UncheckedIOException e) {
+            // the unsynced range is kept and forced again by the next run
+        }
+    }
+
+    /**
+     * Writes a snapshot of all live matches, so that the next recovery only
+     * needs to replay the journal records appended after this call, and starts
+     * a new journal segment without the records the snapshot covers.
+     * <p>
+     * The live matches are copied while changes are briefly blocked; the
+     * snapshot file itself is written without holding up writers. The journal
+     * is synced up to the snapshot position first, so a snapshot never covers
+     * records that could still be lost. Changes are blocked again while the
+     * records appended during the write are copied to the new segment. Nothing
+     * is written if the journal has not changed since the previous snapshot.
+     * </p>
+     *
+     * @throws IllegalStateException if the repository is closed
+     * @throws UncheckedIOException  if the snapshot cannot be written
+     */
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            JournalSnapshot snapshot;
+            lock.lock();
+            try {
+                ensureOpen();
+                if (writePosition == snapshotPosition) {
+                    return;
+                }
+                List<Match> matches = new ArrayList<>();
+                for (Match match : delegate.findAll()) {
+                    teamId(match.getHomeTeam());
+                    teamId(match.getAwayTeam());
+                    matches.add(match.copy());
+                }
+                snapshot = new JournalSnapshot(journalId, segmentStart + writePosition, new ArrayList<>(teamsById),
+                        matches);
+            } finally {
+                lock.unlock();
+            }
+            sync();
+            snapshot.write(snapshotFile);
+            lock.lock();
+            try {
+                if (!closed) {
+                    startSegment((int) (snapshot.getJournalPosition() - segmentStart));
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot on the background thread. A failed snapshot is retried
+     * at the next interval, because an exception would cancel the periodic
+     * task.
+     */
+    private void snapshotInBackground() {
+        try {
+            snapshot();
+        } catch (UncheckedIOException | IllegalStateException e) {
+            // recovery falls back to the previous snapshot and a longer replay
+        }
+    }
+
+    /**
+     * Syncs all appended records, stops the background sync thread and closes
+     * the journal file.
+     * <p>
+     * The wrapped repository remains usable for reads, but further changes are
+     * rejected.
+     * </p>
+     *
+     * @throws UncheckedIOException if the journal cannot be closed
+     */
+    @Override
+    public void close() {
+        syncExecutor.shutdown();
+        sync();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot close journal", e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Maps the journal file, writing a header to a new file or restoring the
+     * live matches of an existing one.
+     *
+     * @throws IOException if the file cannot be read or mapped
+     */
+    private void openJournal() throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Journal is larger than 2 GB");
+        }
+        journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, initialCapacity));
+        if (size == 0) {
+            journalId = ThreadLocalRandom.current().nextLong();
+            segmentStart = 0;
+            writeHeader(journal, segmentStart);
+            writePosition = HEADER_SIZE;
+            snapshotPosition = HEADER_SIZE;
+        } else {
+            if (size < HEADER_SIZE || journal.getInt(0) != MAGIC) {
+                throw new IllegalStateException("File is not a scoreboard journal");
+            }
+            if (journal.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported journal format version " + journal.getInt(Integer.BYTES));
+            }
+            journalId = journal.getLong(2 * Integer.BYTES);
+            segmentStart = journal.getLong(2 * Integer.BYTES + Long.BYTES);
+            snapshotPosition = restoreSnapshot(size);
+            writePosition = replay(snapshotPosition);
+        }
+        syncedPosition = writePosition;
+    }
+
+    /**
+     * Restores the team dictionary and the live matches from the snapshot of
+     * this journal, if there is one.
+     * <p>
+     * A snapshot of a different journal, or one that does not fall into the
+     * current segment, is ignored. Without a usable snapshot, only the first
+     * segment can be replayed from its start.
+     * </p>
+     *
+     * @param size the size of the journal file
+     * @return the position in the segment from which records must be replayed
+     * @throws IllegalStateException if the segment needs a snapshot and there is
+     *                               no usable one
+     */
+    private int restoreSnapshot(long size) {
+        Optional<JournalSnapshot> stored = JournalSnapshot.read(snapshotFile);
+        long position = stored.map(JournalSnapshot::getJournalPosition).orElse(-1L) - segmentStart;
+        if (stored.isEmpty() || stored.get().getJournalId() != journalId || position < HEADER_SIZE
+                || position > size) {
+            if (segmentStart != 0) {
+                throw new IllegalStateException("Journal segment cannot be restored without its snapshot");
+            }
+            return HEADER_SIZE;
+        }
+        JournalSnapshot snapshot = stored.get();
+        for (Team team : snapshot.getTeams()) {
+            teamIds.put(team, teamsById.size());
+            teamsById.add(team);
+        }
+        for (Match match : snapshot.getMatches()) {
+            delegate.save(match);
+        }
+        return (int) position;
+    }
+
+    /**
+     * Writes the header of a segment to the start of its mapping.
+     *
+     * @param mapping the mapped segment
+     * @param start   the journal position at which the segment starts
+     */
+    private void writeHeader(MappedByteBuffer mapping, long start) {
+        mapping.putInt(0, MAGIC);
+        mapping.putInt(Integer.BYTES, FORMAT_VERSION);
+        mapping.putLong(2 * Integer.BYTES, journalId);
+        mapping.putLong(2 * Integer.BYTES + Long.BYTES, start);
+    }
+
+    /**
+     * Replaces the journal file with a new segment that holds only the records
+     * after a position covered by a snapshot.
+     * <p>
+     * The new segment is written and forced to a temporary file, which is then
+     * atomically moved over the journal file. If anything fails before the
+     * move, the current segment is kept.
+     * </p>
+     *
+     * @param position the position in the current segment up to which records
+     *                 are covered by the snapshot
+     * @throws UncheckedIOException if the new segment cannot be written
+     */
+    private void startSegment(int position) {
+        int length = writePosition - position;
+        long start = segmentStart + position - HEADER_SIZE;
+        long capacity = Math.max(initialCapacity, (long) HEADER_SIZE + length + LENGTH_SIZE);
+        Path next = journalFile.resolveSibling(journalFile.getFileName() + ".next");
+        FileChannel nextChannel;
+        MappedByteBuffer mapping;
+        try {
+            nextChannel = FileChannel.open(next, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start a new journal segment", e);
+        }
+        try {
+            mapping = nextChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            writeHeader(mapping, start);
+            mapping.put(HEADER_SIZE, journal, position, length);
+            mapping.force();
+            Files.move(next, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            closeQuietly(nextChannel);
+            throw new UncheckedIOException("Cannot start a new journal segment", e);
+        }
+        closeQuietly(channel);
+        channel = nextChannel;
+        journal = mapping;
+        segmentStart = start;
+        writePosition = HEADER_SIZE + length;
+        snapshotPosition = HEADER_SIZE;
+        syncedPosition = writePosition;
+    }
+
+    /**
+     * Closes a segment file that is no longer used. Mappings of the file stay
+     * valid, so a failure only leaks the file handle.
+     *
+     * @param segment the channel of the segment file
+     */
+    private static void closeQuietly(FileChannel segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            // nothing is written through the channel any more
+        }
+    }
+
+    /**
+     * Replays the records starting at a position into the wrapped repository.
+     * <p>
+     * Replay stops at the end of the written records or at the first damaged
+     * record. Anything after that point is cleared so that new records can be
+     * appended there.
+     * </p>
+     *
+     * @param position the position of the first record
+     * @return the position after the last valid record
+     */
+    private int replay(int position) {
+        ByteBuffer view = journal.duplicate();
+        while (position + LENGTH_SIZE + CHECKSUM_SIZE <= view.capacity()) {
+            int length = view.getInt(position);
+            if (length <= 0) {
+                break;
+            }
+            long end = (long) position + LENGTH_SIZE + length + CHECKSUM_SIZE;
+            if (end > view.capacity() || !hasValidChecksum(view, position, (int) end)) {
+                clear(position, (int) Math.min(end, view.capacity()));
+                break;
+            }
+            view.position(position + LENGTH_SIZE);
+            applyRecord(view);
+            position = (int) end;
+        }
+        return position;
+    }
+
+    /**
+     * Checks the stored checksum of a record against its contents.
+     *
+     * @param view     a view of the journal
+     * @param position the position of the record
+     * @param end      the position after the record
+     * @return true if the checksum matches
+     */
+    private boolean hasValidChecksum(ByteBuffer view, int position, int end) {
+        checksum.reset();
+        checksum.update(view.limit(end - CHECKSUM_SIZE).position(position + LENGTH_SIZE));
+        view.limit(view.capacity());
+        return (int) checksum.getValue() == view.getInt(end - CHECKSUM_SIZE);
+    }
+
+    /**
+     * Applies a single journal record to the wrapped repository.
+     *
+     * @param view a buffer positioned at the record type
+     */
+    private void applyRecord(ByteBuffer view) {
+        byte type = view.get();
+        if (type == TEAM_RECORD) {
+            Team team = new Team(readName(view));
+            teamIds.put(team, teamsById.size());
+            teamsById.add(team);
+            return;
+        }
+        Team homeTeam = teamsById.get(view.getInt());
+        Team awayTeam = teamsById.get(view.getInt());
+        switch (type) {
+            case START_RECORD:
+                LocalDateTime startTime = LocalDateTime.ofEpochSecond(view.getLong(), view.getInt(), ZoneOffset.UTC);
+                delegate.save(Match.restore(homeTeam, awayTeam, Score.initial(), startTime, view.getLong()));
+                break;
+            case SCORE_RECORD:
+                Score score = new Score(view.getInt(), view.getInt());
+                delegate.findByTeams(homeTeam, awayTeam).ifPresent(match -> {
+                    match.updateScore(score);
+                    delegate.save(match);
+                });
+                break;
+            case FINISH_RECORD:
+                delegate.findByTeams(homeTeam, awayTeam).ifPresent(delegate::delete);
+                break;
+            default:
+                throw new IllegalStateException("Unknown journal record type " + type);
+        }
+    }
+
+    /**
+     * Zeroes the bytes of a damaged record so that new records can be appended
+     * in its place.
+     *
+     * @param from the position of the damaged record
+     * @param to   the position after the damaged record
+     */
+    private void clear(int from, int to) {
+        for (int i = from; i < to; i++) {
+            journal.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Appends the records of a change and then applies the change to the
+     * wrapped repository.
+     * <p>
+     * If appending fails, the repository is left unchanged. If the repository
+     * throws or does not apply the change, the appended records, including
+     * any new team records, are removed from the journal again.
+     * </p>
+     *
+     * @param append appends the records of the change
+     * @param change applies the change and returns whether it was applied
+     * @return true if the change was applied
+     */
+    private boolean appendAndApply(Runnable append, BooleanSupplier change) {
+        int position = writePosition;
+        int teamCount = teamsById.size();
+        boolean applied;
+        try {
+            append.run();
+            applied = change.getAsBoolean();
+        } catch (RuntimeException e) {
+            rollback(position, teamCount);
+            throw e;
+        }
+        if (!applied) {
+            rollback(position, teamCount);
+        }
+        return applied;
+    }
+
+    /**
+     * Removes the records appended after a position and forgets the teams
+     * they introduced. Records that were already forced to disk are cleared
+     * there as well, so they cannot be replayed after a crash.
+     *
+     * @param position  the write position before the change
+     * @param teamCount the number of known teams before the change
+     */
+    private void rollback(int position, int teamCount) {
+        clear(position, writePosition);
+        if (syncedPosition > position) {
+            journal.force(position, syncedPosition - position);
+            syncedPosition = position;
+        }
+        writePosition = position;
+        while (teamsById.size() > teamCount) {
+            teamIds.remove(teamsById.remove(teamsById.size() - 1));
+        }
+    }
+
+    /**
+     * Appends a start record for a new match, followed by a score record if the
+     * match does not start at 0-0.
+     *
+     * @param match the started match
+     */
+    private void appendStart(Match match) {
+        int homeId = teamId(match.getHomeTeam());
+        int awayId = teamId(match.getAwayTeam());
+        LocalDateTime startTime = match.getStartTime();
+        beginRecord(START_RECORD);
+        record.putInt(homeId).putInt(awayId);
+        record.putLong(startTime.toEpochSecond(ZoneOffset.UTC)).putInt(startTime.getNano());
+        record.putLong(match.getStartSequence());
+        appendRecord();
+        if (match.getTotalScore() > 0) {
+            appendScore(match);
+        }
+    }
+
+    /**
+     * Appends a record with the current score of a match.
+     *
+     * @param match the updated match
+     */
+    private void appendScore(Match match) {
+        int homeId = teamId(match.getHomeTeam());
+        int awayId = teamId(match.getAwayTeam());
+        Score score = match.getScore();
+        beginRecord(SCORE_RECORD);
+        record.putInt(homeId).putInt(awayId).putInt(score.getHomeScore()).putInt(score.getAwayScore());
+        appendRecord();
+    }
+
+    /**
+     * Appends a finish record for a match.
+     *
+     * @param match the finished match
+     */
+    private void appendFinish(Match match) {
+        int homeId = teamId(match.getHomeTeam());
+        int awayId = teamId(match.getAwayTeam());
+        beginRecord(FINISH_RECORD);
+        record.putInt(homeId).putInt(awayId);
+        appendRecord();
+    }
+
+    /**
+     * Returns the journal id of a team, appending a team record the first time
+     * the team is seen.
+     *
+     * @param team the team
+     * @return the id of the team within this journal
+     */
+    private int teamId(Team team) {
+        Integer id = teamIds.get(team);
+        if (id != null) {
+            return id;
+        }
+        byte[] name = team.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Team name is too long to be journaled: " + team.getName());
+        }
+        beginRecord(TEAM_RECORD);
+        record.putShort((short) name.length).put(name);
+        appendRecord();
+        int newId = teamsById.size();
+        teamIds.put(team, newId);
+        teamsById.add(team);
+        return newId;
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 team name.
+     *
+     * @param view a buffer positioned at the name
+     * @return the team name
+     */
+    private static String readName(ByteBuffer view) {
+        byte[] name = new byte[view.getShort()];
+        view.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts building a record of the given type, leaving room for its length.
+     *
+     * @param type the record type
+     */
+    private void beginRecord(byte type) {
+        record.clear();
+        record.position(LENGTH_SIZE);
+        record.put(type);
+    }
+
+    /**
+     * Completes the record being built with its length and checksum and copies
+     * it to the end of the journal.
+     */
+    private void appendRecord() {
+        int end = record.position();
+        record.putInt(0, end - LENGTH_SIZE);
+        checksum.reset();
+        checksum.update(record.array(), LENGTH_SIZE, end - LENGTH_SIZE);
+        record.putInt((int) checksum.getValue());
+        record.flip();
+        ensureCapacity(record.remaining() + LENGTH_SIZE);
+        journal.put(writePosition, record, 0, record.remaining());
+        writePosition += record.remaining();
+    }
+
+    /**
+     * Grows the mapped region so that the given number of bytes fits after the
+     * current write position. The extra bytes keep room for the zero length
+     * marker that ends the journal.
+     *
+     * @param bytes the number of bytes that must fit
+     */
+    private void ensureCapacity(int bytes) {
+        long required = (long) writePosition + bytes;
+        if (required <= journal.capacity()) {
+            return;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Journal is full");
+        }
+        long capacity = Math.min(Integer.MAX_VALUE, Math.max(required, 2L * journal.capacity()));
+        try {
+            journal.force(syncedPosition, writePosition - syncedPosition);
+            syncedPosition = writePosition;
+            journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot grow journal", e);
+        }
+    }
+
+    /**
+     * Checks that changes can still be journaled.
+     *
+     * @throws IllegalStateException if the repository is closed
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.sportradar.repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.sportradar.domain.Match;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to matches.
+ * <p>
+ * Keys and values are kept in two parallel arrays and collisions are resolved
+ * by linear probing, so lookups allocate nothing and never box their keys.
+ * Removal shifts following entries back instead of leaving tombstones, which
+ * keeps probe sequences short under constant start/finish churn.
+ * </p>
+ * <p>
+ * The key {@code 0} marks an empty slot and cannot be stored. This class is
+ * not thread-safe.
+ * </p>
+ */
+final class LongMatchMap {
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private Match[] values;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * Creates an empty map.
+     */
+    LongMatchMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the match stored under a key.
+     *
+     * @param key the key to look up
+     * @return the match, or null if the key is not present
+     */
+    Match get(long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Stores a match under a key, replacing any previous match.
+     *
+     * @param key   the key, which must not be 0
+     * @param value the match to store
+     * @return the previous match stored under the key, or null
+     */
+    Match put(long key, Match value) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                Match previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            allocate(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the match stored under a key.
+     *
+     * @param key the key to remove
+     * @return the removed match, or null if the key was not present
+     */
+    Match remove(long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                Match previous = values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of stored matches.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds every stored match to the specified list.
+     *
+     * @param target the list to add the matches to
+     */
+    void addValuesTo(List<Match> target) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                target.add(values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Empties a slot and moves later entries of the same probe run back into
+     * the gap, so that every remaining key stays reachable from its home slot.
+     *
+     * @param gap the slot to empty
+     */
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = slotOf(key);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+    }
+
+    /**
+     * Returns the home slot of a key using Fibonacci hashing.
+     *
+     * @param key the key
+     * @return the slot the probe sequence for the key starts at
+     */
+    private int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Replaces the backing arrays with arrays of the given capacity and
+     * re-inserts all entries.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void allocate(int capacity) {
+        long[] oldKeys = keys;
+        Match[] oldValues = values;
+        keys = new long[capacity];
+        values = new Match[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity / 4 * 3;
+        if (oldKeys == null) {
+            return;
+        }
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+        Arrays.fill(oldValues, null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sportradar.repository;
+
+import com.sportradar.domain.Team;
+
+/**
+ * Key class used for efficient match lookup in hash based repositories.
+ * <p>
+ * A MatchKey is a combination of home and away teams. Two MatchKeys are
+ * considered equal if they have the same home and away teams.
+ * </p>
+ */
+final class MatchKey {
+    private final Team homeTeam;
+    private final Team awayTeam;
+    private final int hash;
+
+    /**
+     * Creates a new MatchKey with the specified home and away teams.
+     *
+     * @param homeTeam the home team
+     * @param awayTeam the away team
+     */
+    MatchKey(Team homeTeam, Team awayTeam) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.hash = 31 * homeTeam.hashCode() + awayTeam.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Two MatchKeys are considered equal if they have the same home and away teams.
+     * </p>
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        MatchKey matchKey = (MatchKey) o;
+        return hash == matchKey.hash && homeTeam.equals(matchKey.homeTeam) &&
+                awayTeam.equals(matchKey.awayTeam);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The hash code is computed once from the home and away teams when the
+     * key is created.
+     * </p>
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this key in the format "HomeTeam -
+     * AwayTeam".
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return homeTeam + " - " + awayTeam;
+    }
+}
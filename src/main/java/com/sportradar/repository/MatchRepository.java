@@ -30,6 +30,32 @@ public interface MatchRepository {
      */
     void save(Match match);
 
+    /**
+     * Saves a change of a match that is already stored.
+     * <p>
+     * Unlike {@link #save(Match)}, this method never adds the match. If it is
+     * not stored, for example because it was deleted by another thread in the
+     * meantime, the repository is left unchanged. The default implementation
+     * saves the match if {@link #findByTeams(Team, Team)} finds it;
+     * thread-safe implementations check and replace atomically.
+     * </p>
+     *
+     * @param match the changed match
+     * @return true if the match was stored and has been updated, false if it
+     *         is not stored
+     * @throws IllegalArgumentException if the match is null
+     */
+    default boolean update(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        if (findByTeams(match.getHomeTeam(), match.getAwayTeam()).isEmpty()) {
+            return false;
+        }
+        save(match);
+        return true;
+    }
+
     /**
      * Removes a match from the repository.
      * <p>
@@ -41,6 +67,33 @@ public interface MatchRepository {
      */
     void delete(Match match);
 
+    /**
+     * Removes a match from the repository and returns the match that was
+     * stored.
+     * <p>
+     * Unlike {@link #delete(Match)}, this method reports whether it removed
+     * the match. The default implementation deletes the match if
+     * {@link #findByTeams(Team, Team)} finds it; thread-safe implementations
+     * look up and remove atomically, so of two concurrent removals of the same
+     * match only one returns it.
+     * </p>
+     *
+     * @param match the match to remove
+     * @return an Optional containing the removed match, or empty if it was not
+     *         stored
+     * @throws IllegalArgumentException if the match is null
+     */
+    default Optional<Match> remove(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        Optional<Match> stored = findByTeams(match.getHomeTeam(), match.getAwayTeam());
+        if (stored.isPresent()) {
+            delete(match);
+        }
+        return stored;
+    }
+
     /**
      * Finds a match by the home and away teams.
      * <p>
@@ -54,6 +107,32 @@ public interface MatchRepository {
      */
     Optional<Match> findByTeams(Team homeTeam, Team awayTeam);
 
+    /**
+     * Finds the match a team is playing in, as either the home or away team.
+     * <p>
+     * If the team plays in more than one stored match, which the scoreboard
+     * service never allows, any one of them is returned. The default
+     * implementation scans {@link #findAll()}; implementations keep an index
+     * from each team to its match and answer in constant time.
+     * </p>
+     *
+     * @param team the team
+     * @return an Optional containing the match if found, or empty if the team
+     *         is not playing
+     * @throws IllegalArgumentException if the team is null
+     */
+    default Optional<Match> findByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        for (Match match : findAll()) {
+            if (match.getHomeTeam().equals(team) || match.getAwayTeam().equals(team)) {
+                return Optional.of(match);
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Retrieves all matches currently stored in the repository.
      * <p>
@@ -0,0 +1,448 @@
+package com.sportradar.repository;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.domain.TeamRegistry;
+
+/**
+ * {@link MatchRepository} that keeps the state of its matches in off-heap
+ * memory.
+ * <p>
+ * Every match occupies a fixed-size record in a direct {@link ByteBuffer}
+ * holding the registry ids of its teams, its score and its start time and
+ * sequence. The matches handed out by the repository are flyweight views
+ * that read their state from the record on every access and write score
+ * updates straight into it. A view remembers the last {@link Score} and the
+ * start time it handed out and hands them out again while the record still
+ * holds the same values, so reading a view allocates nothing once it has been
+ * read, and the garbage collector only sees one small view object per live
+ * match, however often the scores change. Teams are
+ * identified by the dense ids of a {@link TeamRegistry}, as in
+ * {@link PackedKeyMatchRepository}.
+ * </p>
+ * <p>
+ * Saving a match that is not one of the repository's views copies its state
+ * into a record; later lookups return the view instead of the saved object.
+ * When a match is deleted, its view is detached: it keeps the state it had at
+ * that moment on the heap, so summaries and events that still refer to it
+ * stay valid, and its record is reused for the next match.
+ * </p>
+ * <p>
+ * The records grow by doubling and are released with the repository. This
+ * implementation is not thread-safe, and views must only be read while no
+ * other thread changes the repository.
+ * </p>
+ *
+ */
+public class OffHeapMatchRepository implements MatchRepository {
+    /**
+     * Number of match records allocated by default.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private static final int HOME_ID_OFFSET = 0;
+    private static final int AWAY_ID_OFFSET = 4;
+    private static final int HOME_SCORE_OFFSET = 8;
+    private static final int AWAY_SCORE_OFFSET = 12;
+    private static final int START_SEQUENCE_OFFSET = 16;
+    private static final int START_SECOND_OFFSET = 24;
+    private static final int START_NANO_OFFSET = 32;
+    private static final int RECORD_SIZE = 40;
+
+    private final TeamRegistry teamRegistry;
+    private final LongMatchMap matches = new LongMatchMap();
+    private ByteBuffer records;
+    private int capacity;
+    private int usedRecords;
+    private int[] freeRecords = new int[16];
+    private int freeCount;
+    private int[] matchCountsByTeam = new int[16];
+    private long[] matchKeysByTeam = new long[16];
+
+    /**
+     * Creates a new repository with the {@link #DEFAULT_INITIAL_CAPACITY},
+     * resolving team ids through the specified registry.
+     *
+     * @param teamRegistry the registry assigning team ids
+     * @throws IllegalArgumentException if the registry is null
+     */
+    public OffHeapMatchRepository(TeamRegistry teamRegistry) {
+        this(teamRegistry, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new repository with room for the specified number of matches
+     * before its records grow, resolving team ids through the specified
+     * registry.
+     *
+     * @param teamRegistry    the registry assigning team ids
+     * @param initialCapacity the number of match records to allocate up front
+     * @throws IllegalArgumentException if the registry is null or the capacity
+     *                                  is not positive
+     */
+    public OffHeapMatchRepository(TeamRegistry teamRegistry, int initialCapacity) {
+        if (teamRegistry == null) {
+            throw new IllegalArgumentException("Team registry cannot be null");
+        }
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.teamRegistry = teamRegistry;
+        this.capacity = initialCapacity;
+        this.records = ByteBuffer.allocateDirect(initialCapacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Saving one of this repository's own views has no effect, because its
+     * changes are already stored.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void save(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        int homeId = registeredIdOf(match.getHomeTeam());
+        int awayId = registeredIdOf(match.getAwayTeam());
+        long key = packKey(homeId, awayId);
+        MatchView stored = (MatchView) matches.get(key);
+        if (stored == match) {
+            return;
+        }
+        if (stored != null) {
+            writeRecord(stored.base, homeId, awayId, match);
+            stored.score = match.getScore();
+            return;
+        }
+        MatchView view = new MatchView(allocateRecord());
+        writeRecord(view.base, homeId, awayId, match);
+        matches.put(key, view);
+        ensureTeamCapacity(Math.max(homeId, awayId));
+        matchCountsByTeam[homeId]++;
+        matchCountsByTeam[awayId]++;
+        matchKeysByTeam[homeId] = key;
+        matchKeysByTeam[awayId] = key;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void delete(Match match) {
+        remove(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned view is already detached from its record.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public Optional<Match> remove(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        int homeId = teamRegistry.idOf(match.getHomeTeam());
+        int awayId = teamRegistry.idOf(match.getAwayTeam());
+        if (homeId < 0 || awayId < 0) {
+            return Optional.empty();
+        }
+        MatchView view = (MatchView) matches.remove(packKey(homeId, awayId));
+        if (view != null) {
+            matchCountsByTeam[homeId]--;
+            matchCountsByTeam[awayId]--;
+            view.detach();
+            releaseRecord(view.base);
+        }
+        return Optional.ofNullable(view);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if either team is null
+     */
+    @Override
+    public Optional<Match> findByTeams(Team homeTeam, Team awayTeam) {
+        if (homeTeam == null) {
+            throw new IllegalArgumentException("Home team cannot be null");
+        }
+        if (awayTeam == null) {
+            throw new IllegalArgumentException("Away team cannot be null");
+        }
+        int homeId = teamRegistry.idOf(homeTeam);
+        int awayId = teamRegistry.idOf(awayTeam);
+        if (homeId < 0 || awayId < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(matches.get(packKey(homeId, awayId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every team remembers the key of the last match saved for it. Only if
+     * that match was deleted while the team still plays in another one, which
+     * the scoreboard service never allows, are all matches scanned.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public Optional<Match> findByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        int id = teamRegistry.idOf(team);
+        if (id < 0 || id >= matchCountsByTeam.length || matchCountsByTeam[id] == 0) {
+            return Optional.empty();
+        }
+        Match match = matches.get(matchKeysByTeam[id]);
+        return match != null ? Optional.of(match) : MatchRepository.super.findByTeam(team);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> findAll() {
+        List<Match> all = new ArrayList<>(matches.size());
+        matches.addValuesTo(all);
+        return all;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public boolean existsByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        int id = teamRegistry.idOf(team);
+        return id >= 0 && id < matchCountsByTeam.length && matchCountsByTeam[id] > 0;
+    }
+
+    /**
+     * Writes the state of a match into a record.
+     * <p>
+     * The score is read once, so both values belong to the same update.
+     * </p>
+     *
+     * @param base   the byte offset of the record
+     * @param homeId the id of the home team
+     * @param awayId the id of the away team
+     * @param match  the match to copy
+     */
+    private void writeRecord(int base, int homeId, int awayId, Match match) {
+        Score score = match.getScore();
+        LocalDateTime startTime = match.getStartTime();
+        records.putInt(base + HOME_ID_OFFSET, homeId);
+        records.putInt(base + AWAY_ID_OFFSET, awayId);
+        records.putInt(base + HOME_SCORE_OFFSET, score.getHomeScore());
+        records.putInt(base + AWAY_SCORE_OFFSET, score.getAwayScore());
+        records.putLong(base + START_SEQUENCE_OFFSET, match.getStartSequence());
+        records.putLong(base + START_SECOND_OFFSET, startTime.toEpochSecond(ZoneOffset.UTC));
+        records.putInt(base + START_NANO_OFFSET, startTime.getNano());
+    }
+
+    /**
+     * Returns the byte offset of a free record, reusing released records
+     * first and doubling the storage when it is full.
+     *
+     * @return the byte offset of the record
+     */
+    private int allocateRecord() {
+        if (freeCount > 0) {
+            return freeRecords[--freeCount];
+        }
+        if (usedRecords == capacity) {
+            int newCapacity = capacity * 2;
+            ByteBuffer grown = ByteBuffer.allocateDirect(newCapacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+            grown.put(0, records, 0, capacity * RECORD_SIZE);
+            records = grown;
+            capacity = newCapacity;
+        }
+        return usedRecords++ * RECORD_SIZE;
+    }
+
+    /**
+     * Makes a record available for the next saved match.
+     *
+     * @param base the byte offset of the record
+     */
+    private void releaseRecord(int base) {
+        if (freeCount == freeRecords.length) {
+            freeRecords = Arrays.copyOf(freeRecords, freeCount * 2);
+        }
+        freeRecords[freeCount++] = base;
+    }
+
+    /**
+     * Returns the id of a team, registering the team first if needed.
+     *
+     * @param team the team
+     * @return the registry id of the team
+     */
+    private int registeredIdOf(Team team) {
+        int id = teamRegistry.idOf(team);
+        return id >= 0 ? id : teamRegistry.intern(team.getName()).getId();
+    }
+
+    /**
+     * Grows the team arrays so that they can hold the given team id.
+     *
+     * @param id the largest team id to hold
+     */
+    private void ensureTeamCapacity(int id) {
+        if (id >= matchCountsByTeam.length) {
+            int capacity = Math.max(id + 1, matchCountsByTeam.length * 2);
+            matchCountsByTeam = Arrays.copyOf(matchCountsByTeam, capacity);
+            matchKeysByTeam = Arrays.copyOf(matchKeysByTeam, capacity);
+        }
+    }
+
+    /**
+     * Packs the ids of the home and away teams into a single map key.
+     *
+     * @param homeId the id of the home team
+     * @param awayId the id of the away team
+     * @return the packed key, never 0 for two distinct teams
+     */
+    private static long packKey(int homeId, int awayId) {
+        return ((long) homeId << 32) | (awayId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Flyweight match backed by a record of the repository.
+     * <p>
+     * The score and start time last handed out are kept, so that they are
+     * only built again when the record changes behind them. Once detached,
+     * the view delegates to a heap copy of its last state.
+     * </p>
+     */
+    private final class MatchView extends Match {
+        private final int base;
+        private Match detached;
+        private Score score;
+        private LocalDateTime startTime;
+
+        /**
+         * Creates a view of a record.
+         *
+         * @param base the byte offset of the record
+         */
+        MatchView(int base) {
+            this.base = base;
+        }
+
+        /**
+         * Copies the current state to the heap, so the record can be reused.
+         */
+        void detach() {
+            detached = copy();
+        }
+
+        @Override
+        public Team getHomeTeam() {
+            return detached != null ? detached.getHomeTeam()
+                    : teamRegistry.getById(records.getInt(base + HOME_ID_OFFSET));
+        }
+
+        @Override
+        public Team getAwayTeam() {
+            return detached != null ? detached.getAwayTeam()
+                    : teamRegistry.getById(records.getInt(base + AWAY_ID_OFFSET));
+        }
+
+        @Override
+        public int getHomeScore() {
+            return detached != null ? detached.getHomeScore() : records.getInt(base + HOME_SCORE_OFFSET);
+        }
+
+        @Override
+        public int getAwayScore() {
+            return detached != null ? detached.getAwayScore() : records.getInt(base + AWAY_SCORE_OFFSET);
+        }
+
+        @Override
+        public int getTotalScore() {
+            return getHomeScore() + getAwayScore();
+        }
+
+        @Override
+        public Score getScore() {
+            if (detached != null) {
+                return detached.getScore();
+            }
+            int homeScore = records.getInt(base + HOME_SCORE_OFFSET);
+            int awayScore = records.getInt(base + AWAY_SCORE_OFFSET);
+            Score current = score;
+            if (current == null || current.getHomeScore() != homeScore || current.getAwayScore() != awayScore) {
+                current = new Score(homeScore, awayScore);
+                score = current;
+            }
+            return current;
+        }
+
+        @Override
+        public LocalDateTime getStartTime() {
+            if (detached != null) {
+                return detached.getStartTime();
+            }
+            long second = records.getLong(base + START_SECOND_OFFSET);
+            int nano = records.getInt(base + START_NANO_OFFSET);
+            LocalDateTime current = startTime;
+            if (current == null || current.toEpochSecond(ZoneOffset.UTC) != second || current.getNano() != nano) {
+                current = LocalDateTime.ofEpochSecond(second, nano, ZoneOffset.UTC);
+                startTime = current;
+            }
+            return current;
+        }
+
+        @Override
+        public long getStartSequence() {
+            return detached != null ? detached.getStartSequence() : records.getLong(base + START_SEQUENCE_OFFSET);
+        }
+
+        @Override
+        public long getOrderingKey() {
+            return detached != null ? detached.getOrderingKey() : orderingKey(getTotalScore(), getStartSequence());
+        }
+
+        @Override
+        public void updateScore(Score newScore) {
+            if (newScore == null) {
+                throw new IllegalArgumentException("Score cannot be null");
+            }
+            if (detached != null) {
+                detached.updateScore(newScore);
+                return;
+            }
+            records.putInt(base + HOME_SCORE_OFFSET, newScore.getHomeScore());
+            records.putInt(base + AWAY_SCORE_OFFSET, newScore.getAwayScore());
+            score = newScore;
+        }
+    }
+}
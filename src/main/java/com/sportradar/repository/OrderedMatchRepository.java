@@ -0,0 +1,68 @@
+package com.sportradar.repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import com.sportradar.domain.Match;
+
+/**
+ * A {@link MatchRepository} that keeps its matches in a maintained order.
+ * <p>
+ * Implementations update their ordering as matches are saved and deleted, so
+ * the ordered view can be read without sorting all matches on every call.
+ * Besides the primary order, implementations may maintain additional
+ * orderings identified by name.
+ * </p>
+ *
+ */
+public interface OrderedMatchRepository extends MatchRepository {
+
+    /**
+     * Returns the comparator that defines the order of this repository.
+     *
+     * @return the comparator used to order matches
+     */
+    Comparator<Match> getComparator();
+
+    /**
+     * Retrieves all matches currently stored in the repository in the order
+     * defined by {@link #getComparator()}.
+     * <p>
+     * The returned list is a snapshot of the matches at the time of the call.
+     * Changes to this list do not affect the repository.
+     * </p>
+     *
+     * @return a list of all matches, ordered by the repository comparator
+     */
+    List<Match> findAllOrdered();
+
+    /**
+     * Returns the names of the additional orderings this repository
+     * maintains.
+     * <p>
+     * The default implementation maintains no additional orderings.
+     * </p>
+     *
+     * @return an unmodifiable set of ordering names
+     */
+    default Set<String> getOrderingNames() {
+        return Set.of();
+    }
+
+    /**
+     * Retrieves all matches currently stored in the repository in a named
+     * ordering.
+     * <p>
+     * The returned list is a snapshot of the matches at the time of the call.
+     * Changes to this list do not affect the repository.
+     * </p>
+     *
+     * @param orderingName the name of the ordering
+     * @return a list of all matches, in the named ordering
+     * @throws IllegalArgumentException if no ordering has the name
+     */
+    default List<Match> findAllOrdered(String orderingName) {
+        throw new IllegalArgumentException("Unknown ordering: " + orderingName);
+    }
+}
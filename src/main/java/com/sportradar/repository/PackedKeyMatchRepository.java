@@ -0,0 +1,209 @@
+package com.sportradar.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Team;
+import com.sportradar.domain.TeamRegistry;
+
+/**
+ * In-memory {@link MatchRepository} keyed by primitive team ids.
+ * <p>
+ * Every team is identified by the dense id assigned by a {@link TeamRegistry}.
+ * A match is stored in an open-addressing map under the key
+ * {@code (homeId << 32) | awayId}, so no key objects are allocated and no
+ * boxed hash codes are computed on lookups. Team participation is counted
+ * in an {@code int} array indexed by team id.
+ * </p>
+ * <p>
+ * Lookups are fastest with the canonical teams of the registry, such as the
+ * teams created by a scoreboard service sharing the same registry. This
+ * implementation is not thread-safe.
+ * </p>
+ *
+ */
+public class PackedKeyMatchRepository implements MatchRepository {
+    private final TeamRegistry teamRegistry;
+    private final LongMatchMap matches = new LongMatchMap();
+    private int[] matchCountsByTeam = new int[16];
+    private long[] matchKeysByTeam = new long[16];
+
+    /**
+     * Creates a new repository resolving team ids through the specified
+     * registry.
+     *
+     * @param teamRegistry the registry assigning team ids
+     * @throws IllegalArgumentException if the registry is null
+     */
+    public PackedKeyMatchRepository(TeamRegistry teamRegistry) {
+        if (teamRegistry == null) {
+            throw new IllegalArgumentException("Team registry cannot be null");
+        }
+        this.teamRegistry = teamRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void save(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        int homeId = registeredIdOf(match.getHomeTeam());
+        int awayId = registeredIdOf(match.getAwayTeam());
+        long key = packKey(homeId, awayId);
+        if (matches.put(key, match) == null) {
+            ensureTeamCapacity(Math.max(homeId, awayId));
+            matchCountsByTeam[homeId]++;
+            matchCountsByTeam[awayId]++;
+            matchKeysByTeam[homeId] = key;
+            matchKeysByTeam[awayId] = key;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void delete(Match match) {
+        remove(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public Optional<Match> remove(Match match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        int homeId = teamRegistry.idOf(match.getHomeTeam());
+        int awayId = teamRegistry.idOf(match.getAwayTeam());
+        if (homeId < 0 || awayId < 0) {
+            return Optional.empty();
+        }
+        Match removed = matches.remove(packKey(homeId, awayId));
+        if (removed != null) {
+            matchCountsByTeam[homeId]--;
+            matchCountsByTeam[awayId]--;
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if either team is null
+     */
+    @Override
+    public Optional<Match> findByTeams(Team homeTeam, Team awayTeam) {
+        if (homeTeam == null) {
+            throw new IllegalArgumentException("Home team cannot be null");
+        }
+        if (awayTeam == null) {
+            throw new IllegalArgumentException("Away team cannot be null");
+        }
+        int homeId = teamRegistry.idOf(homeTeam);
+        int awayId = teamRegistry.idOf(awayTeam);
+        if (homeId < 0 || awayId < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(matches.get(packKey(homeId, awayId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every team remembers the key of the last match saved for it. Only if
+     * that match was deleted while the team still plays in another one, which
+     * the scoreboard service never allows, are all matches scanned.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public Optional<Match> findByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        int id = teamRegistry.idOf(team);
+        if (id < 0 || id >= matchCountsByTeam.length || matchCountsByTeam[id] == 0) {
+            return Optional.empty();
+        }
+        Match match = matches.get(matchKeysByTeam[id]);
+        return match != null ? Optional.of(match) : MatchRepository.super.findByTeam(team);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> findAll() {
+        List<Match> all = new ArrayList<>(matches.size());
+        matches.addValuesTo(all);
+        return all;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public boolean existsByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+        int id = teamRegistry.idOf(team);
+        return id >= 0 && id < matchCountsByTeam.length && matchCountsByTeam[id] > 0;
+    }
+
+    /**
+     * Returns the id of a team, registering the team first if needed.
+     *
+     * @param team the team
+     * @return the registry id of the team
+     */
+    private int registeredIdOf(Team team) {
+        int id = teamRegistry.idOf(team);
+        return id >= 0 ? id : teamRegistry.intern(team.getName()).getId();
+    }
+
+    /**
+     * Grows the team arrays so that they can hold the given team id.
+     *
+     * @param id the largest team id to hold
+     */
+    private void ensureTeamCapacity(int id) {
+        if (id >= matchCountsByTeam.length) {
+            int capacity = Math.max(id + 1, matchCountsByTeam.length * 2);
+            matchCountsByTeam = Arrays.copyOf(matchCountsByTeam, capacity);
+            matchKeysByTeam = Arrays.copyOf(matchKeysByTeam, capacity);
+        }
+    }
+
+    /**
+     * Packs the ids of the home and away teams into a single map key.
+     * <p>
+     * The key is never 0 because a match cannot have the same home and away
+     * team.
+     * </p>
+     *
+     * @param homeId the id of the home team
+     * @param awayId the id of the away team
+     * @return the packed key
+     */
+    private static long packKey(int homeId, int awayId) {
+        return ((long) homeId << 32) | (awayId & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,329 @@
+package com.sportradar.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Team;
+
+/**
+ * {@link OrderedMatchRepository} that adds a sorted index to another
+ * {@link MatchRepository}.
+ * <p>
+ * Storage and lookups are delegated to the wrapped repository. In addition,
+ * every saved match is kept in a {@link TreeMap} ordered by the configured
+ * comparator. Saving or deleting a match repositions only that match, in
+ * O(log n), so {@link #findAllOrdered()} just walks the index instead of
+ * sorting every match.
+ * </p>
+ * <p>
+ * Because matches are mutable, the index is keyed by a copy of each match
+ * taken when it was last saved. A score change therefore takes effect in the
+ * order when the changed match is saved again. Matches that compare as equal
+ * keep the order in which they were first saved.
+ * </p>
+ * <p>
+ * Additional named orderings can be maintained next to the primary one and
+ * read with {@link #findAllOrdered(String)}. Every ordering is its own tree,
+ * but all of them share the copy of a match taken on save, so an extra
+ * ordering costs one tree node per match and O(log n) per change. A named
+ * ordering with the primary comparator reuses the primary index.
+ * </p>
+ * <p>
+ * Changes and ordered reads are guarded by a {@link ReentrantLock} rather than
+ * the monitor of the repository, so a virtual thread that waits for the index
+ * does not pin its carrier thread.
+ * </p>
+ *
+ */
+public class SortedMatchRepository implements OrderedMatchRepository {
+    private final MatchRepository delegate;
+    private final Comparator<Match> comparator;
+    private final TreeMap<IndexEntry, Match> index;
+    private final Map<String, TreeMap<IndexEntry, Match>> namedIndexes = new LinkedHashMap<>();
+    private final List<TreeMap<IndexEntry, Match>> indexes = new ArrayList<>();
+    private final Map<MatchKey, IndexEntry> entries = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextSequence;
+
+    /**
+     * Creates a new sorted repository on top of the specified repository.
+     *
+     * @param delegate   the repository used to store and look up matches
+     * @param comparator the comparator defining the order of the index
+     * @throws IllegalArgumentException if either parameter is null
+     */
+    public SortedMatchRepository(MatchRepository delegate, Comparator<Match> comparator) {
+        this(delegate, comparator, Map.of());
+    }
+
+    /**
+     * Creates a new sorted repository on top of the specified repository,
+     * maintaining additional named orderings.
+     *
+     * @param delegate   the repository used to store and look up matches
+     * @param comparator the comparator defining the order of the primary index
+     * @param orderings  the comparators of the additional orderings by name
+     * @throws IllegalArgumentException if any parameter, ordering name or
+     *                                  ordering comparator is null
+     */
+    public SortedMatchRepository(MatchRepository delegate, Comparator<Match> comparator,
+            Map<String, Comparator<Match>> orderings) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Repository cannot be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Match comparator cannot be null");
+        }
+        if (orderings == null) {
+            throw new IllegalArgumentException("Orderings cannot be null");
+        }
+        this.delegate = delegate;
+        this.comparator = comparator;
+        this.index = new TreeMap<>(entryOrder(comparator));
+        indexes.add(index);
+        orderings.forEach((name, orderingComparator) -> {
+            if (name == null) {
+                throw new IllegalArgumentException("Ordering name cannot be null");
+            }
+            if (orderingComparator == null) {
+                throw new IllegalArgumentException("Match comparator cannot be null");
+            }
+            TreeMap<IndexEntry, Match> namedIndex = orderingComparator.equals(comparator) ? index
+                    : new TreeMap<>(entryOrder(orderingComparator));
+            if (namedIndex != index) {
+                indexes.add(namedIndex);
+            }
+            namedIndexes.put(name, namedIndex);
+        });
+        delegate.findAll().forEach(this::reindex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void save(Match match) {
+        lock.lock();
+        try {
+            delegate.save(match);
+            reindex(match);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The match is repositioned only if the wrapped repository still stores
+     * it.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public boolean update(Match match) {
+        lock.lock();
+        try {
+            if (!delegate.update(match)) {
+                return false;
+            }
+            reindex(match);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public void delete(Match match) {
+        remove(match);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the match is null
+     */
+    @Override
+    public Optional<Match> remove(Match match) {
+        lock.lock();
+        try {
+            Optional<Match> removed = delegate.remove(match);
+            IndexEntry entry = entries.remove(new MatchKey(match.getHomeTeam(), match.getAwayTeam()));
+            if (entry != null) {
+                for (TreeMap<IndexEntry, Match> each : indexes) {
+                    each.remove(entry);
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if either team is null
+     */
+    @Override
+    public Optional<Match> findByTeams(Team homeTeam, Team awayTeam) {
+        return delegate.findByTeams(homeTeam, awayTeam);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public Optional<Match> findByTeam(Team team) {
+        return delegate.findByTeam(team);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the team is null
+     */
+    @Override
+    public boolean existsByTeam(Team team) {
+        return delegate.existsByTeam(team);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Comparator<Match> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> findAllOrdered() {
+        lock.lock();
+        try {
+            return new ArrayList<>(index.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getOrderingNames() {
+        return Collections.unmodifiableSet(namedIndexes.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if no ordering has the name
+     */
+    @Override
+    public List<Match> findAllOrdered(String orderingName) {
+        TreeMap<IndexEntry, Match> namedIndex = namedIndexes.get(orderingName);
+        if (namedIndex == null) {
+            throw new IllegalArgumentException("Unknown ordering: " + orderingName);
+        }
+        lock.lock();
+        try {
+            return new ArrayList<>(namedIndex.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves a match to the position matching its current state.
+     *
+     * @param match the match to reposition
+     */
+    private void reindex(Match match) {
+        MatchKey key = new MatchKey(match.getHomeTeam(), match.getAwayTeam());
+        IndexEntry previous = entries.get(key);
+        long sequence;
+        if (previous != null) {
+            for (TreeMap<IndexEntry, Match> each : indexes) {
+                each.remove(previous);
+            }
+            sequence = previous.sequence;
+        } else {
+            sequence = nextSequence++;
+        }
+        IndexEntry entry = new IndexEntry(match.copy(), sequence);
+        entries.put(key, entry);
+        for (TreeMap<IndexEntry, Match> each : indexes) {
+            each.put(entry, match);
+        }
+    }
+
+    /**
+     * Returns the order of index entries by a match comparator, falling back
+     * to the order in which the matches were first saved.
+     *
+     * @param matchComparator the comparator of the matches
+     * @return the order of the entries
+     */
+    private static Comparator<IndexEntry> entryOrder(Comparator<Match> matchComparator) {
+        return (first, second) -> {
+            int result = matchComparator.compare(first.match, second.match);
+            return result != 0 ? result : Long.compare(first.sequence, second.sequence);
+        };
+    }
+
+    /**
+     * Position of a match in the index.
+     * <p>
+     * Holds a copy of the match as it was when indexed, so later in-place
+     * updates of the stored match cannot corrupt the ordering of the trees.
+     * The same entry is shared by every ordering.
+     * </p>
+     */
+    private static final class IndexEntry {
+        private final Match match;
+        private final long sequence;
+
+        /**
+         * Creates a new index entry.
+         *
+         * @param match    the copy of the match used for ordering
+         * @param sequence the tie-breaking insertion sequence
+         */
+        IndexEntry(Match match, long sequence) {
+            this.match = match;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sportradar.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.sportradar.domain.Match;
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+
+/**
+ * Asynchronous variant of the {@link ScoreboardService}.
+ * <p>
+ * Every operation returns immediately with a {@link CompletableFuture}. The
+ * futures complete with the result of the corresponding synchronous operation
+ * or exceptionally with the exception it would throw, so callers never block
+ * a thread while a change waits for the scoreboard.
+ * </p>
+ *
+ * @see ScoreboardService
+ */
+public interface AsyncScoreboardService {
+    /**
+     * Starts a new match with the specified teams and initial score 0-0.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return a future completed with the newly created match, or exceptionally
+     *         with a {@link TeamAlreadyPlayingException} or
+     *         {@link IllegalArgumentException}
+     * @see ScoreboardService#startMatch(String, String)
+     */
+    CompletableFuture<Match> startMatch(String homeTeamName, String awayTeamName);
+
+    /**
+     * Updates the score of a match.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @param homeScore    the new score for the home team
+     * @param awayScore    the new score for the away team
+     * @return a future completed once the score is updated, or exceptionally
+     *         with a {@link MatchNotFoundException} or
+     *         {@link IllegalArgumentException}
+     * @see ScoreboardService#updateScore(String, String, int, int)
+     */
+    CompletableFuture<Void> updateScore(String homeTeamName, String awayTeamName, int homeScore, int awayScore);
+
+    /**
+     * Finishes a match, removing it from the scoreboard.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return a future completed once the match is finished, or exceptionally
+     *         with a {@link MatchNotFoundException}
+     * @see ScoreboardService#finishMatch(String, String)
+     */
+    CompletableFuture<Void> finishMatch(String homeTeamName, String awayTeamName);
+
+    /**
+     * Gets a summary of matches in progress.
+     *
+     * @return a future completed with an unmodifiable list of matches ordered
+     *         according to the service's configuration
+     * @see ScoreboardService#getSummary()
+     */
+    CompletableFuture<List<Match>> getSummary();
+
+    /**
+     * Finds the match in progress that a team is playing in.
+     *
+     * @param teamName the name of the team
+     * @return a future completed with the match, or with an empty Optional if
+     *         the team is not playing
+     * @see ScoreboardService#getMatchForTeam(String)
+     */
+    CompletableFuture<Optional<Match>> getMatchForTeam(String teamName);
+}
@@ -0,0 +1,215 @@
+package com.sportradar.service;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import com.sportradar.domain.Match;
+
+/**
+ * Default implementation of the {@link AsyncScoreboardService} interface.
+ * <p>
+ * Changes are applied to a wrapped {@link ScoreboardService} by tasks on an
+ * executor. Without an explicit executor, every change runs on its own
+ * virtual thread when the JVM supports them (Java 21 and later), so a change
+ * that waits on contention inside the scoreboard never blocks a platform
+ * thread. On older JVMs a cached pool of daemon platform threads is used
+ * instead.
+ * </p>
+ * <p>
+ * Changes of one match, identified by its home and away team names, form an
+ * ordered lane: each change starts only after the previous change of the lane
+ * has completed, so they are applied in the order in which they were
+ * submitted, and a failed change does not stop the ones after it. Changes of
+ * different matches run concurrently, so the wrapped service must be
+ * thread-safe, such as one created by
+ * {@link com.sportradar.factory.ScoreboardServiceFactory#createConcurrent()}.
+ * That service publishes under a {@code ReentrantLock}, so virtual threads
+ * waiting for it do not pin their carrier threads. Changes of different
+ * matches are not ordered; callers that need such ordering should
+ * chain them on the returned futures. The summary is read from the published
+ * snapshot and returned as an already completed future.
+ * </p>
+ *
+ * @see AsyncScoreboardService
+ */
+public class AsyncScoreboardServiceImpl implements AsyncScoreboardService, AutoCloseable {
+    private final ScoreboardService delegate;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final ConcurrentMap<List<String>, CompletableFuture<?>> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an asynchronous service that runs changes on virtual threads, or
+     * on a cached thread pool if virtual threads are not available.
+     *
+     * @param delegate the thread-safe service the changes are applied to
+     * @throws IllegalArgumentException if the delegate is null
+     */
+    public AsyncScoreboardServiceImpl(ScoreboardService delegate) {
+        this(delegate, newDefaultExecutor(), true);
+    }
+
+    /**
+     * Creates an asynchronous service that runs changes on the specified
+     * executor.
+     * <p>
+     * The executor is not shut down when this service is closed.
+     * </p>
+     *
+     * @param delegate the thread-safe service the changes are applied to
+     * @param executor the executor that runs the changes
+     * @throws IllegalArgumentException if either parameter is null
+     */
+    public AsyncScoreboardServiceImpl(ScoreboardService delegate, Executor executor) {
+        this(delegate, executor, false);
+    }
+
+    /**
+     * Creates an asynchronous service, taking ownership of the executor if
+     * requested.
+     *
+     * @param delegate the thread-safe service the changes are applied to
+     * @param executor the executor that runs the changes
+     * @param owned    whether the executor is shut down when this service is
+     *                 closed
+     */
+    private AsyncScoreboardServiceImpl(ScoreboardService delegate, Executor executor, boolean owned) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Scoreboard service cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Match> startMatch(String homeTeamName, String awayTeamName) {
+        return inLane(homeTeamName, awayTeamName, () -> delegate.startMatch(homeTeamName, awayTeamName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> updateScore(String homeTeamName, String awayTeamName, int homeScore,
+            int awayScore) {
+        return inLane(homeTeamName, awayTeamName, () -> {
+            delegate.updateScore(homeTeamName, awayTeamName, homeScore, awayScore);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> finishMatch(String homeTeamName, String awayTeamName) {
+        return inLane(homeTeamName, awayTeamName, () -> {
+            delegate.finishMatch(homeTeamName, awayTeamName);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reading the summary never blocks, so the returned future is already
+     * completed.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<List<Match>> getSummary() {
+        return CompletableFuture.completedFuture(delegate.getSummary());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The lookup never blocks, so the returned future is already completed,
+     * exceptionally if the team name is invalid.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<Optional<Match>> getMatchForTeam(String teamName) {
+        try {
+            return CompletableFuture.completedFuture(delegate.getMatchForTeam(teamName));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Shuts down the executor if it was created by this service. Changes that
+     * were already submitted are still applied.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Runs a change on the executor once the previous change of the same match
+     * has completed.
+     * <p>
+     * The lane of a match holds only the future of its last change and is
+     * removed when that change completes, so idle matches cost nothing. The
+     * caller receives a copy of that future, so completing or cancelling it
+     * does not release the next change early.
+     * </p>
+     *
+     * @param <T>          the result type of the change
+     * @param homeTeamName the name of the home team of the match
+     * @param awayTeamName the name of the away team of the match
+     * @param change       the change to apply to the wrapped service
+     * @return a future completed with the result of the change
+     */
+    private <T> CompletableFuture<T> inLane(String homeTeamName, String awayTeamName, Supplier<T> change) {
+        List<String> lane = Arrays.asList(homeTeamName, awayTeamName);
+        CompletableFuture<?> tail = lanes.compute(lane, (key, previous) -> (previous != null ? previous
+                : CompletableFuture.completedFuture(null)).handleAsync((result, error) -> change.get(), executor));
+        tail.whenComplete((result, error) -> lanes.remove(lane, tail));
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> next = (CompletableFuture<T>) tail;
+        return next.copy();
+    }
+
+    /**
+     * Creates the default executor: one virtual thread per task if the JVM
+     * supports virtual threads, otherwise a cached pool of daemon threads.
+     * <p>
+     * Virtual threads are looked up reflectively, so the library still runs on
+     * Java 17.
+     * </p>
+     *
+     * @return a new executor
+     */
+    private static ExecutorService newDefaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "scoreboard-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportradar.service;
+
+import java.util.Optional;
+
+import com.sportradar.domain.Match;
+
+/**
+ * Outcome of applying a single {@link ScoreboardCommand} in a batch.
+ * <p>
+ * A successful result holds the match the command was applied to. A failed
+ * result holds the exception the equivalent single operation would have
+ * thrown, such as a
+ * {@link com.sportradar.exception.MatchNotFoundException}.
+ * </p>
+ *
+ */
+public final class CommandResult {
+    private final ScoreboardCommand command;
+    private final Match match;
+    private final RuntimeException error;
+
+    private CommandResult(ScoreboardCommand command, Match match, RuntimeException error) {
+        this.command = command;
+        this.match = match;
+        this.error = error;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param command the command that was applied
+     * @param match   the match the command was applied to
+     * @return the successful result
+     */
+    public static CommandResult success(ScoreboardCommand command, Match match) {
+        return new CommandResult(command, match, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param command the command that failed
+     * @param error   the reason the command failed
+     * @return the failed result
+     * @throws IllegalArgumentException if the error is null
+     */
+    public static CommandResult failure(ScoreboardCommand command, RuntimeException error) {
+        if (error == null) {
+            throw new IllegalArgumentException("Error cannot be null");
+        }
+        return new CommandResult(command, null, error);
+    }
+
+    /**
+     * Returns the command this result belongs to.
+     *
+     * @return the command
+     */
+    public ScoreboardCommand getCommand() {
+        return command;
+    }
+
+    /**
+     * Returns whether the command was applied.
+     *
+     * @return true if the command succeeded, false otherwise
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Returns the match the command was applied to.
+     * <p>
+     * The scoreboard service returns a copy of the match as it was right
+     * after the command, which later commands of the batch do not change.
+     * </p>
+     *
+     * @return an Optional containing the match, or empty if the command failed
+     */
+    public Optional<Match> getMatch() {
+        return Optional.ofNullable(match);
+    }
+
+    /**
+     * Returns the reason the command failed.
+     *
+     * @return an Optional containing the error, or empty if the command
+     *         succeeded
+     */
+    public Optional<RuntimeException> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this result in the format
+     * "Command: OK" or "Command: FAILED (message)".
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return command + (isSuccess() ? ": OK" : ": FAILED (" + error.getMessage() + ")");
+    }
+}
@@ -0,0 +1,76 @@
+package com.sportradar.service;
+
+import java.util.Comparator;
+
+import com.sportradar.domain.Match;
+import com.sportradar.repository.JournaledMatchRepository;
+import com.sportradar.repository.MatchRepository;
+
+/**
+ * {@link ScoreboardService} whose matches are recorded in the journal of a
+ * {@link JournaledMatchRepository}.
+ * <p>
+ * The service behaves like a {@link ScoreboardServiceImpl} and additionally
+ * gives its owner control over the journal: changes can be forced to disk or
+ * covered by a snapshot on demand, and closing the service syncs and closes
+ * the journal. The service should be closed when it is no longer used;
+ * afterwards summaries can still be read, but changes are rejected.
+ * </p>
+ *
+ */
+public class JournaledScoreboardService extends ScoreboardServiceImpl implements AutoCloseable {
+    private final JournaledMatchRepository journal;
+
+    /**
+     * Creates a journaled service.
+     *
+     * @param repository      the repository to use for data storage, which
+     *                        stores its matches in the journal
+     * @param matchComparator the comparator to use for sorting matches in the
+     *                        summary
+     * @param journal         the journaled repository wrapped by, or equal to,
+     *                        the repository
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public JournaledScoreboardService(MatchRepository repository, Comparator<Match> matchComparator,
+            JournaledMatchRepository journal) {
+        super(repository, matchComparator);
+        if (journal == null) {
+            throw new IllegalArgumentException("Journal cannot be null");
+        }
+        this.journal = journal;
+    }
+
+    /**
+     * Forces every change made so far to disk.
+     *
+     * @throws java.io.UncheckedIOException if the journal cannot be written to
+     *                                      disk
+     * @see JournaledMatchRepository#sync()
+     */
+    public void sync() {
+        journal.sync();
+    }
+
+    /**
+     * Writes a snapshot of all live matches, so that the next restart only
+     * replays the changes made after this call.
+     *
+     * @throws IllegalStateException        if the service is closed
+     * @throws java.io.UncheckedIOException if the snapshot cannot be written
+     * @see JournaledMatchRepository#snapshot()
+     */
+    public void snapshot() {
+        journal.snapshot();
+    }
+
+    /**
+     * Syncs all changes and closes the journal.
+     *
+     * @throws java.io.UncheckedIOException if the journal cannot be closed
+     */
+    @Override
+    public void close() {
+        journal.close();
+    }
+}
@@ -0,0 +1,504 @@
+package com.sportradar.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import com.sportradar.domain.Match;
+import com.sportradar.event.ScoreboardListener;
+import com.sportradar.event.ScoreboardSubscription;
+
+/**
+ * {@link ScoreboardService} that applies all changes on a single writer
+ * thread, fed by a preallocated ring buffer.
+ * <p>
+ * Callers of any thread claim a slot of the ring buffer, copy their change
+ * into it and publish it; the writer thread applies the published changes in
+ * order to the wrapped service. Because only the writer thread ever changes
+ * the wrapped service, its changes never contend with each other, and
+ * producers never wait on each other beyond claiming a sequence number. The
+ * slots are allocated once, so a change only allocates its optional future.
+ * </p>
+ * <p>
+ * Changes can be submitted in three ways:
+ * </p>
+ * <ul>
+ * <li>the synchronous {@link ScoreboardService} methods, which wait for the
+ * change to be applied;</li>
+ * <li>the {@code ...Async} methods, which return a {@link CompletableFuture}
+ * completed by the writer thread;</li>
+ * <li>{@link #submit(ScoreboardCommand)}, which does not report the outcome at
+ * all.</li>
+ * </ul>
+ * <p>
+ * Futures are completed on the writer thread, so dependent actions should use
+ * the asynchronous {@code CompletableFuture} methods if they do more than
+ * trivial work. When the ring buffer is full, producers wait until the writer
+ * has freed a slot. Summaries are read from the snapshots published by the
+ * wrapped service and never wait for the writer. The match of a team is
+ * looked up in the wrapped service directly, so it must allow lookups from
+ * other threads while the writer changes it, as a service backed by a
+ * {@link com.sportradar.repository.ConcurrentMatchRepository} does.
+ * </p>
+ *
+ */
+public class RingBufferScoreboardService implements ScoreboardService, AutoCloseable {
+    /**
+     * Number of slots of the ring buffer by default.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long CLOSED = Long.MIN_VALUE;
+    private static final int SPIN_TRIES = 200;
+    private static final long PARK_NANOS = 100_000;
+
+    private final ScoreboardService delegate;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimSequence = new AtomicLong();
+    private final AtomicLongArray published;
+    private final Thread writer;
+    private volatile long consumedSequence;
+    private volatile boolean writerParked;
+
+    /**
+     * Creates a single-writer service with the {@link #DEFAULT_CAPACITY}.
+     *
+     * @param delegate the service the changes are applied to
+     * @throws IllegalArgumentException if the delegate is null
+     */
+    public RingBufferScoreboardService(ScoreboardService delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a single-writer service with a ring buffer of the specified
+     * capacity and starts its writer thread.
+     * <p>
+     * The wrapped service must not be changed by anyone else afterwards, and
+     * must allow {@link #getMatchForTeam(String)} from any thread.
+     * </p>
+     *
+     * @param delegate the service the changes are applied to
+     * @param capacity the number of slots, a power of two
+     * @throws IllegalArgumentException if the delegate is null or the capacity is
+     *                                  not a positive power of two
+     */
+    public RingBufferScoreboardService(ScoreboardService delegate, int capacity) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Scoreboard service cannot be null");
+        }
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.delegate = delegate;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+        // publish the initial summary before readers and the writer share the delegate
+        delegate.getSummarySnapshot();
+        this.writer = new Thread(this::runWriter, "scoreboard-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits until the writer thread has started the match.
+     * </p>
+     *
+     * @throws IllegalStateException if the service is closed
+     */
+    @Override
+    public Match startMatch(String homeTeamName, String awayTeamName) {
+        return await(startMatchAsync(homeTeamName, awayTeamName));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits until the writer thread has updated the score.
+     * </p>
+     *
+     * @throws IllegalStateException if the service is closed
+     */
+    @Override
+    public void updateScore(String homeTeamName, String awayTeamName, int homeScore, int awayScore) {
+        await(updateScoreAsync(homeTeamName, awayTeamName, homeScore, awayScore));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits until the writer thread has finished the match.
+     * </p>
+     *
+     * @throws IllegalStateException if the service is closed
+     */
+    @Override
+    public void finishMatch(String homeTeamName, String awayTeamName) {
+        await(finishMatchAsync(homeTeamName, awayTeamName));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The batch occupies a single slot and is applied by the writer thread in
+     * one go.
+     * </p>
+     *
+     * @throws IllegalStateException if the service is closed
+     */
+    @Override
+    public List<CommandResult> applyBatch(List<ScoreboardCommand> commands) {
+        if (commands == null) {
+            throw new IllegalArgumentException("Commands cannot be null");
+        }
+        CompletableFuture<List<CommandResult>> future = new CompletableFuture<>();
+        enqueue(Kind.BATCH, null, null, 0, 0, commands, future);
+        return await(future);
+    }
+
+    /**
+     * Queues the start of a new match.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return a future completed with the new match, or exceptionally with the
+     *         exception {@link #startMatch(String, String)} would throw
+     * @throws IllegalStateException if the service is closed
+     */
+    public CompletableFuture<Match> startMatchAsync(String homeTeamName, String awayTeamName) {
+        CompletableFuture<Match> future = new CompletableFuture<>();
+        enqueue(Kind.START, homeTeamName, awayTeamName, 0, 0, null, future);
+        return future;
+    }
+
+    /**
+     * Queues a score update.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @param homeScore    the new score for the home team
+     * @param awayScore    the new score for the away team
+     * @return a future completed once the score is updated, or exceptionally
+     *         with the exception
+     *         {@link #updateScore(String, String, int, int)} would throw
+     * @throws IllegalStateException if the service is closed
+     */
+    public CompletableFuture<Void> updateScoreAsync(String homeTeamName, String awayTeamName, int homeScore,
+            int awayScore) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        enqueue(Kind.UPDATE_SCORE, homeTeamName, awayTeamName, homeScore, awayScore, null, future);
+        return future;
+    }
+
+    /**
+     * Queues the finish of a match.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return a future completed once the match is finished, or exceptionally
+     *         with the exception {@link #finishMatch(String, String)} would
+     *         throw
+     * @throws IllegalStateException if the service is closed
+     */
+    public CompletableFuture<Void> finishMatchAsync(String homeTeamName, String awayTeamName) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        enqueue(Kind.FINISH, homeTeamName, awayTeamName, 0, 0, null, future);
+        return future;
+    }
+
+    /**
+     * Queues a command without waiting for or reporting its outcome.
+     * <p>
+     * This is the cheapest way to feed changes: nothing is allocated for the
+     * command, and a command that fails, for example because the match does
+     * not exist, is silently skipped.
+     * </p>
+     *
+     * @param command the command to apply
+     * @throws IllegalArgumentException if the command is null
+     * @throws IllegalStateException    if the service is closed
+     */
+    public void submit(ScoreboardCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        Kind kind = command.getType() == ScoreboardCommand.Type.START ? Kind.START
+                : command.getType() == ScoreboardCommand.Type.UPDATE_SCORE ? Kind.UPDATE_SCORE : Kind.FINISH;
+        enqueue(kind, command.getHomeTeamName(), command.getAwayTeamName(), command.getHomeScore(),
+                command.getAwayScore(), null, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Match> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Named orderings are read from the wrapped service without waiting for
+     * the writer, so the wrapped repository must synchronize reads of its
+     * orderings, as {@link com.sportradar.repository.SortedMatchRepository}
+     * does.
+     * </p>
+     */
+    @Override
+    public List<Match> getSummary(String orderingName) {
+        return delegate.getSummary(orderingName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        return delegate.getSummarySnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The team is looked up in the wrapped service, without waiting for the
+     * writer thread.
+     * </p>
+     */
+    @Override
+    public Optional<Match> getMatchForTeam(String teamName) {
+        return delegate.getMatchForTeam(teamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSubscription subscribe(ScoreboardListener listener, Executor executor) {
+        return delegate.subscribe(listener, executor);
+    }
+
+    /**
+     * Stops accepting changes, waits until the writer thread has applied every
+     * change queued so far and stops it.
+     * <p>
+     * Summaries can still be read afterwards.
+     * </p>
+     */
+    @Override
+    public void close() {
+        claimSequence.getAndUpdate(sequence -> sequence | CLOSED);
+        LockSupport.unpark(writer);
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims a slot, fills it with a change and publishes it to the writer.
+     * <p>
+     * A change submitted from the writer thread itself, for example by an
+     * event listener running on it, is applied directly instead, because the
+     * writer could otherwise wait for itself.
+     * </p>
+     *
+     * @param kind         the kind of change
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @param homeScore    the new score for the home team
+     * @param awayScore    the new score for the away team
+     * @param commands     the commands of a batch
+     * @param future       the future to complete, or null
+     */
+    private void enqueue(Kind kind, String homeTeamName, String awayTeamName, int homeScore, int awayScore,
+            List<ScoreboardCommand> commands, CompletableFuture<?> future) {
+        if (Thread.currentThread() == writer) {
+            apply(kind, homeTeamName, awayTeamName, homeScore, awayScore, commands, future);
+            return;
+        }
+        long sequence = claim();
+        Slot slot = slots[(int) sequence & mask];
+        slot.kind = kind;
+        slot.homeTeamName = homeTeamName;
+        slot.awayTeamName = awayTeamName;
+        slot.homeScore = homeScore;
+        slot.awayScore = awayScore;
+        slot.commands = commands;
+        slot.future = future;
+        published.set((int) sequence & mask, sequence);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Claims the next sequence number and waits until its slot is free.
+     *
+     * @return the claimed sequence number
+     * @throws IllegalStateException if the service is closed
+     */
+    private long claim() {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if ((sequence & CLOSED) != 0) {
+                throw new IllegalStateException("Scoreboard is closed");
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+        int tries = 0;
+        while (sequence - consumedSequence >= slots.length) {
+            if (++tries < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Applies published changes in sequence order until the service is closed
+     * and every claimed change has been applied.
+     */
+    private void runWriter() {
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            int index = (int) next & mask;
+            if (published.get(index) == next) {
+                Slot slot = slots[index];
+                apply(slot.kind, slot.homeTeamName, slot.awayTeamName, slot.homeScore, slot.awayScore,
+                        slot.commands, slot.future);
+                slot.clear();
+                consumedSequence = ++next;
+                idle = 0;
+                continue;
+            }
+            long claimed = claimSequence.get();
+            if ((claimed & CLOSED) != 0 && (claimed & ~CLOSED) == next) {
+                return;
+            }
+            if (++idle < SPIN_TRIES) {
+                Thread.onSpinWait();
+                continue;
+            }
+            writerParked = true;
+            if (published.get(index) != next) {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+            writerParked = false;
+        }
+    }
+
+    /**
+     * Applies a single change to the wrapped service and completes its future.
+     *
+     * @param kind         the kind of change
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @param homeScore    the new score for the home team
+     * @param awayScore    the new score for the away team
+     * @param commands     the commands of a batch
+     * @param future       the future to complete, or null
+     */
+    @SuppressWarnings("unchecked")
+    private void apply(Kind kind, String homeTeamName, String awayTeamName, int homeScore, int awayScore,
+            List<ScoreboardCommand> commands, CompletableFuture<?> future) {
+        try {
+            Object result = null;
+            switch (kind) {
+                case START:
+                    result = delegate.startMatch(homeTeamName, awayTeamName);
+                    break;
+                case UPDATE_SCORE:
+                    delegate.updateScore(homeTeamName, awayTeamName, homeScore, awayScore);
+                    break;
+                case FINISH:
+                    delegate.finishMatch(homeTeamName, awayTeamName);
+                    break;
+                default:
+                    result = delegate.applyBatch(commands);
+                    break;
+            }
+            if (future != null) {
+                ((CompletableFuture<Object>) future).complete(result);
+            }
+        } catch (RuntimeException e) {
+            if (future != null) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Waits for a change to be applied, rethrowing the exception it failed
+     * with.
+     *
+     * @param <T>    the type of the result
+     * @param future the future of the change
+     * @return the result of the change
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The kinds of changes a slot can hold.
+     */
+    private enum Kind {
+        START, UPDATE_SCORE, FINISH, BATCH
+    }
+
+    /**
+     * A preallocated entry of the ring buffer. Its fields are written by the
+     * producer that claimed it and read by the writer after it is published.
+     */
+    private static final class Slot {
+        private Kind kind;
+        private String homeTeamName;
+        private String awayTeamName;
+        private int homeScore;
+        private int awayScore;
+        private List<ScoreboardCommand> commands;
+        private CompletableFuture<?> future;
+
+        void clear() {
+            homeTeamName = null;
+            awayTeamName = null;
+            commands = null;
+            future = null;
+        }
+    }
+}
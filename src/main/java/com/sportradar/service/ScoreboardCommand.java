@@ -0,0 +1,139 @@
+package com.sportradar.service;
+
+/**
+ * A single scoreboard operation that can be applied as part of a batch.
+ * <p>
+ * Commands are created with the static factory methods {@link #start},
+ * {@link #updateScore} and {@link #finish}, and applied with
+ * {@link ScoreboardService#applyBatch(java.util.List)}. Team names and scores
+ * are validated when the command is applied, not when it is created.
+ * </p>
+ *
+ */
+public final class ScoreboardCommand {
+
+    /**
+     * The kind of operation a command performs.
+     */
+    public enum Type {
+        /** Starts a new match. */
+        START,
+        /** Updates the score of a match in progress. */
+        UPDATE_SCORE,
+        /** Finishes a match in progress. */
+        FINISH
+    }
+
+    private final Type type;
+    private final String homeTeamName;
+    private final String awayTeamName;
+    private final int homeScore;
+    private final int awayScore;
+
+    private ScoreboardCommand(Type type, String homeTeamName, String awayTeamName, int homeScore, int awayScore) {
+        this.type = type;
+        this.homeTeamName = homeTeamName;
+        this.awayTeamName = awayTeamName;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    /**
+     * Creates a command that starts a new match.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return the start command
+     * @see ScoreboardService#startMatch(String, String)
+     */
+    public static ScoreboardCommand start(String homeTeamName, String awayTeamName) {
+        return new ScoreboardCommand(Type.START, homeTeamName, awayTeamName, 0, 0);
+    }
+
+    /**
+     * Creates a command that updates the score of a match.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @param homeScore    the new score for the home team
+     * @param awayScore    the new score for the away team
+     * @return the update command
+     * @see ScoreboardService#updateScore(String, String, int, int)
+     */
+    public static ScoreboardCommand updateScore(String homeTeamName, String awayTeamName, int homeScore,
+            int awayScore) {
+        return new ScoreboardCommand(Type.UPDATE_SCORE, homeTeamName, awayTeamName, homeScore, awayScore);
+    }
+
+    /**
+     * Creates a command that finishes a match.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return the finish command
+     * @see ScoreboardService#finishMatch(String, String)
+     */
+    public static ScoreboardCommand finish(String homeTeamName, String awayTeamName) {
+        return new ScoreboardCommand(Type.FINISH, homeTeamName, awayTeamName, 0, 0);
+    }
+
+    /**
+     * Returns the kind of operation this command performs.
+     *
+     * @return the command type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of the home team.
+     *
+     * @return the home team name
+     */
+    public String getHomeTeamName() {
+        return homeTeamName;
+    }
+
+    /**
+     * Returns the name of the away team.
+     *
+     * @return the away team name
+     */
+    public String getAwayTeamName() {
+        return awayTeamName;
+    }
+
+    /**
+     * Returns the new home score of an {@link Type#UPDATE_SCORE} command.
+     *
+     * @return the home score, or 0 for other command types
+     */
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    /**
+     * Returns the new away score of an {@link Type#UPDATE_SCORE} command.
+     *
+     * @return the away score, or 0 for other command types
+     */
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this command, such as
+     * "UPDATE_SCORE HomeTeam 1 - 0 AwayTeam".
+     * </p>
+     */
+    @Override
+    public String toString() {
+        if (type == Type.UPDATE_SCORE) {
+            return type + " " + homeTeamName + " " + homeScore + " - " + awayScore + " " + awayTeamName;
+        }
+        return type + " " + homeTeamName + " - " + awayTeamName;
+    }
+}
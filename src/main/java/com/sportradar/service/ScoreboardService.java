@@ -1,8 +1,14 @@
 package com.sportradar.service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.sportradar.domain.Match;
+import com.sportradar.domain.Team;
+import com.sportradar.event.ScoreboardListener;
+import com.sportradar.event.ScoreboardSubscription;
 import com.sportradar.exception.MatchNotFoundException;
 import com.sportradar.exception.TeamAlreadyPlayingException;
 
@@ -60,6 +66,21 @@ public interface ScoreboardService {
      */
     void finishMatch(String homeTeamName, String awayTeamName);
 
+    /**
+     * Applies a batch of start, update and finish commands in order.
+     * <p>
+     * Each command behaves like the corresponding single operation, but a
+     * failing command does not stop the batch: its exception is reported in
+     * its result and the remaining commands are still applied. Readers of the
+     * summary observe the effects of the batch at once.
+     * </p>
+     *
+     * @param commands the commands to apply, in order
+     * @return one result per command, in the same order as the commands
+     * @throws IllegalArgumentException if the list of commands is null
+     */
+    List<CommandResult> applyBatch(List<ScoreboardCommand> commands);
+
     /**
      * Gets a summary of matches in progress ordered according to the service's
      * configured sorting criteria.
@@ -71,7 +92,134 @@ public interface ScoreboardService {
      * <li>Start time (most recent first) - for matches with equal total score</li>
      * </ol>
      *
-     * @return a list of matches sorted according to the service's configuration
+     * @return an unmodifiable list of matches sorted according to the service's
+     *         configuration
      */
     List<Match> getSummary();
+
+    /**
+     * Gets the leading matches of the summary.
+     * <p>
+     * The matches are taken from the head of the published summary, so the
+     * cost depends on the limit and only logarithmically on the number of
+     * matches in progress.
+     * </p>
+     *
+     * @param limit the maximum number of matches to return
+     * @return an unmodifiable list of at most {@code limit} matches, in summary
+     *         order
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    default List<Match> getSummary(int limit) {
+        return getSummary(0, limit);
+    }
+
+    /**
+     * Gets a page of the summary.
+     * <p>
+     * The page is taken from a single published summary, so consecutive
+     * matches within a page are always consistent with each other.
+     * </p>
+     *
+     * @param offset the number of leading matches to skip
+     * @param limit  the maximum number of matches to return
+     * @return an unmodifiable list of at most {@code limit} matches, in summary
+     *         order
+     * @throws IllegalArgumentException if the offset or limit is negative
+     */
+    default List<Match> getSummary(int offset, int limit) {
+        return getSummarySnapshot().getMatches(offset, limit);
+    }
+
+    /**
+     * Gets a summary of matches in progress in a named ordering.
+     * <p>
+     * Named orderings are configured when the service is created, for example
+     * with {@code ScoreboardServiceFactory.createWithOrderings(Map)}, and are
+     * maintained next to the default ordering on the same matches. The
+     * default implementation knows no named orderings.
+     * </p>
+     *
+     * @param orderingName the name of the ordering
+     * @return an unmodifiable list of matches in the named ordering
+     * @throws IllegalArgumentException if the name is null or no ordering has
+     *                                  the name
+     */
+    default List<Match> getSummary(String orderingName) {
+        if (orderingName == null) {
+            throw new IllegalArgumentException("Ordering name cannot be null");
+        }
+        throw new IllegalArgumentException("Unknown ordering: " + orderingName);
+    }
+
+    /**
+     * Gets the currently published summary together with its version.
+     * <p>
+     * The snapshot holds the same ordered matches as {@link #getSummary()}. Its
+     * version increases every time a match is started, updated or finished,
+     * which lets callers detect changes without comparing the matches.
+     * </p>
+     *
+     * @return the current summary snapshot
+     */
+    SummarySnapshot getSummarySnapshot();
+
+    /**
+     * Finds the match in progress that a team is playing in, as either the
+     * home or away team.
+     * <p>
+     * The default implementation scans the published summary. Implementations
+     * backed by a {@link com.sportradar.repository.MatchRepository} look the
+     * team up in its index instead, without copying or scanning the matches.
+     * </p>
+     *
+     * @param teamName the name of the team
+     * @return an Optional containing the match if the team is playing, or empty
+     *         otherwise
+     * @throws IllegalArgumentException if the team name is null or empty
+     */
+    default Optional<Match> getMatchForTeam(String teamName) {
+        Team team = new Team(teamName);
+        for (Match match : getSummarySnapshot().getMatches()) {
+            if (match.getHomeTeam().equals(team) || match.getAwayTeam().equals(team)) {
+                return Optional.of(match);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Subscribes a listener to the changes of this scoreboard.
+     * <p>
+     * The listener receives one event for every match started, score changed
+     * and match finished after this call. Each event carries the position of
+     * the match in the summary before and after the change, so moves in the
+     * summary need no events of their own. Events are delivered on the common
+     * fork-join pool.
+     * </p>
+     *
+     * @param listener the listener to deliver events to
+     * @return the subscription, which can be used to stop the delivery
+     * @throws IllegalArgumentException if the listener is null
+     */
+    default ScoreboardSubscription subscribe(ScoreboardListener listener) {
+        return subscribe(listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Subscribes a listener to the changes of this scoreboard, delivering its
+     * events on the specified executor.
+     * <p>
+     * Each subscription buffers and conflates its own pending events, so a
+     * slow listener only receives the latest state of each match and never
+     * slows down the scoreboard.
+     * </p>
+     *
+     * @param listener the listener to deliver events to
+     * @param executor the executor that runs the delivery
+     * @return the subscription, which can be used to stop the delivery
+     * @throws IllegalArgumentException if either parameter is null
+     * @see ScoreboardSubscription
+     */
+    ScoreboardSubscription subscribe(ScoreboardListener listener, Executor executor);
 }
\ No newline at end of file
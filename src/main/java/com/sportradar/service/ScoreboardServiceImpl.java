@@ -1,12 +1,22 @@
 package com.sportradar.service;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.sportradar.domain.Match;
 import com.sportradar.domain.Score;
 import com.sportradar.domain.Team;
+import com.sportradar.domain.TeamRegistry;
+import com.sportradar.event.ScoreboardEvent;
+import com.sportradar.event.ScoreboardEventPublisher;
+import com.sportradar.event.ScoreboardListener;
+import com.sportradar.event.ScoreboardSubscription;
 import com.sportradar.exception.MatchNotFoundException;
 import com.sportradar.exception.TeamAlreadyPlayingException;
 import com.sportradar.repository.MatchRepository;
@@ -17,17 +27,56 @@ import com.sportradar.repository.MatchRepository;
  * This implementation uses a {@link MatchRepository} for data storage and
  * a custom comparator for sorting matches in the summary.
  * </p>
+ * <p>
+ * Every change is followed by publishing a new immutable
+ * {@link SummarySnapshot}, so reading the summary only returns the current
+ * snapshot reference and never copies or sorts matches. A new snapshot is
+ * derived from the previous one by replacing the copies of the changed matches
+ * in its persistent tree, which costs O(log n) per change instead of a copy or
+ * sort of the whole summary. Only this step is serialized; the repository is
+ * changed before it, so writers of a thread-safe repository run concurrently.
+ * It is guarded by a {@link ReentrantLock} rather than a monitor, so virtual
+ * threads waiting to publish do not pin their carrier threads.
+ * </p>
+ * <p>
+ * Events for subscribed listeners are built while publishing the snapshot.
+ * Each change becomes one event carrying the positions of the changed match
+ * in the previous and the new summary, which are looked up in the trees of
+ * the two snapshots in O(log n). The other matches between those positions
+ * shift by one, which listeners work out themselves, so no change costs a
+ * pass over the summary.
+ * </p>
+ * <p>
+ * Named orderings given to the constructor are served by
+ * {@link #getSummary(String)}. Every ordering is a persistent tree of the
+ * same match copies as the summary and is published together with it, so a
+ * change costs O(log n) more per ordering and reading an ordering never
+ * waits for writers.
+ * </p>
  *
  * @see ScoreboardService
  * @see MatchRepository
  */
 public class ScoreboardServiceImpl implements ScoreboardService {
+    private static final SummaryTree[] NO_TREES = new SummaryTree[0];
+
     private final MatchRepository repository;
-    private final Comparator<Match> matchComparator;
+    private final TeamRegistry teamRegistry;
+    private final ScoreboardEventPublisher eventPublisher = new ScoreboardEventPublisher();
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Comparator<Match> summaryOrder;
+    private final List<String> orderingNames = new ArrayList<>();
+    private final List<Comparator<Match>> orderingOrders = new ArrayList<>();
+    private final Map<Match, Match> summaryCopies = new HashMap<>();
+    private volatile Map<String, SummarySnapshot> orderedSummaries = Map.of();
+    private volatile SummarySnapshot snapshot;
 
     /**
      * Creates a new ScoreboardServiceImpl with the specified repository and match
      * comparator.
+     * <p>
+     * The service resolves team names through its own {@link TeamRegistry}.
+     * </p>
      *
      * @param repository      the repository to use for data storage
      * @param matchComparator the comparator to use for sorting matches in the
@@ -35,14 +84,66 @@ public class ScoreboardServiceImpl implements ScoreboardService {
      * @throws IllegalArgumentException if either parameter is null
      */
     public ScoreboardServiceImpl(MatchRepository repository, Comparator<Match> matchComparator) {
+        this(repository, matchComparator, new TeamRegistry());
+    }
+
+    /**
+     * Creates a new ScoreboardServiceImpl with the specified repository, match
+     * comparator and team registry.
+     *
+     * @param repository      the repository to use for data storage
+     * @param matchComparator the comparator to use for sorting matches in the
+     *                        summary
+     * @param teamRegistry    the registry used to resolve team names to
+     *                        canonical teams
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public ScoreboardServiceImpl(MatchRepository repository, Comparator<Match> matchComparator,
+            TeamRegistry teamRegistry) {
+        this(repository, matchComparator, teamRegistry, Map.of());
+    }
+
+    /**
+     * Creates a new ScoreboardServiceImpl with the specified repository, match
+     * comparator, team registry and named orderings.
+     *
+     * @param repository      the repository to use for data storage
+     * @param matchComparator the comparator to use for sorting matches in the
+     *                        summary
+     * @param teamRegistry    the registry used to resolve team names to
+     *                        canonical teams
+     * @param orderings       the comparators of the named orderings served by
+     *                        {@link #getSummary(String)}, by name
+     * @throws IllegalArgumentException if any parameter, ordering name or
+     *                                  ordering comparator is null
+     */
+    public ScoreboardServiceImpl(MatchRepository repository, Comparator<Match> matchComparator,
+            TeamRegistry teamRegistry, Map<String, Comparator<Match>> orderings) {
         if (repository == null) {
             throw new IllegalArgumentException("Repository cannot be null");
         }
         if (matchComparator == null) {
             throw new IllegalArgumentException("Match comparator cannot be null");
         }
+        if (teamRegistry == null) {
+            throw new IllegalArgumentException("Team registry cannot be null");
+        }
+        if (orderings == null) {
+            throw new IllegalArgumentException("Orderings cannot be null");
+        }
+        orderings.forEach((name, orderingComparator) -> {
+            if (name == null) {
+                throw new IllegalArgumentException("Ordering name cannot be null");
+            }
+            if (orderingComparator == null) {
+                throw new IllegalArgumentException("Match comparator cannot be null");
+            }
+            orderingNames.add(name);
+            orderingOrders.add(withoutTies(orderingComparator));
+        });
         this.repository = repository;
-        this.matchComparator = matchComparator;
+        this.teamRegistry = teamRegistry;
+        this.summaryOrder = withoutTies(matchComparator);
     }
 
     /**
@@ -50,14 +151,8 @@ public class ScoreboardServiceImpl implements ScoreboardService {
      */
     @Override
     public Match startMatch(String homeTeamName, String awayTeamName) {
-        Team homeTeam = new Team(homeTeamName);
-        Team awayTeam = new Team(awayTeamName);
-
-        checkTeamAvailability(homeTeam);
-        checkTeamAvailability(awayTeam);
-
-        Match match = new Match(homeTeam, awayTeam);
-        repository.save(match);
+        Match match = createMatch(homeTeamName, awayTeamName);
+        publishSummary(List.of(match), changeOf(ScoreboardEvent.Type.MATCH_STARTED, match));
         return match;
     }
 
@@ -66,14 +161,8 @@ public class ScoreboardServiceImpl implements ScoreboardService {
      */
     @Override
     public void updateScore(String homeTeamName, String awayTeamName, int homeScore, int awayScore) {
-        Team homeTeam = new Team(homeTeamName);
-        Team awayTeam = new Team(awayTeamName);
-        Score newScore = new Score(homeScore, awayScore);
-
-        Match match = findMatchOrThrow(homeTeam, awayTeam);
-        match.updateScore(newScore);
-
-        repository.save(match);
+        Match match = changeScore(homeTeamName, awayTeamName, homeScore, awayScore);
+        publishSummary(List.of(match), changeOf(ScoreboardEvent.Type.SCORE_CHANGED, match));
     }
 
     /**
@@ -81,11 +170,51 @@ public class ScoreboardServiceImpl implements ScoreboardService {
      */
     @Override
     public void finishMatch(String homeTeamName, String awayTeamName) {
-        Team homeTeam = new Team(homeTeamName);
-        Team awayTeam = new Team(awayTeamName);
+        Match match = removeMatch(homeTeamName, awayTeamName);
+        publishSummary(List.of(match), changeOf(ScoreboardEvent.Type.MATCH_FINISHED, match));
+    }
 
-        Match match = findMatchOrThrow(homeTeam, awayTeam);
-        repository.delete(match);
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole batch is applied while holding the summary publication lock,
+     * and at most one new summary snapshot is published after the last
+     * command. Each successful result holds a copy of its match as it was
+     * right after the command. If a command fails with an exception that is
+     * not reported in its result, such as a storage failure, the commands
+     * applied before it are still published before the exception is thrown.
+     * </p>
+     */
+    @Override
+    public List<CommandResult> applyBatch(List<ScoreboardCommand> commands) {
+        if (commands == null) {
+            throw new IllegalArgumentException("Commands cannot be null");
+        }
+        List<CommandResult> results = new ArrayList<>(commands.size());
+        List<Match> changed = new ArrayList<>();
+        List<MatchChange> changes = new ArrayList<>();
+        publishLock.lock();
+        try {
+            for (ScoreboardCommand command : commands) {
+                try {
+                    Match match = apply(command);
+                    results.add(CommandResult.success(command, match.copy()));
+                    changed.add(match);
+                    changes.addAll(changeOf(eventType(command.getType()), match));
+                } catch (TeamAlreadyPlayingException | MatchNotFoundException | IllegalArgumentException e) {
+                    results.add(CommandResult.failure(command, e));
+                }
+            }
+        } finally {
+            try {
+                if (!changed.isEmpty()) {
+                    publishSummary(changed, changes);
+                }
+            } finally {
+                publishLock.unlock();
+            }
+        }
+        return results;
     }
 
     /**
@@ -93,9 +222,399 @@ public class ScoreboardServiceImpl implements ScoreboardService {
      */
     @Override
     public List<Match> getSummary() {
-        return repository.findAll().stream()
-                .sorted(matchComparator)
-                .collect(Collectors.toList());
+        return getSummarySnapshot().getMatches();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The ordering is read from the snapshot published with the summary, so
+     * this never waits for writers, and its list is shared by all callers
+     * until the next change.
+     * </p>
+     */
+    @Override
+    public List<Match> getSummary(String orderingName) {
+        if (orderingName == null) {
+            throw new IllegalArgumentException("Ordering name cannot be null");
+        }
+        if (!orderingNames.contains(orderingName)) {
+            throw new IllegalArgumentException("Unknown ordering: " + orderingName);
+        }
+        // the orderings are published before the summary, so they exist once it does
+        getSummarySnapshot();
+        return orderedSummaries.get(orderingName).getMatches();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SummarySnapshot getSummarySnapshot() {
+        SummarySnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        publishLock.lock();
+        try {
+            return currentSnapshot();
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The team is looked up in the repository's team index, so this is as
+     * thread-safe as the repository.
+     * </p>
+     */
+    @Override
+    public Optional<Match> getMatchForTeam(String teamName) {
+        return repository.findByTeam(teamRegistry.resolve(teamName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSubscription subscribe(ScoreboardListener listener, Executor executor) {
+        return eventPublisher.subscribe(listener, executor);
+    }
+
+    /**
+     * Publishes a new summary snapshot that reflects the current state of the
+     * changed matches, together with the events of the changes it includes.
+     * <p>
+     * The new snapshot is derived from the previous one: for every changed
+     * match, its previous copy is removed from the tree and, if the repository
+     * still stores the match, a fresh copy is inserted. Reading the state from
+     * the repository rather than from the caller means that when writers of
+     * the same match race, whichever publishes last publishes the latest state,
+     * and a finished match is never brought back by a late publication of an
+     * earlier change.
+     * </p>
+     * <p>
+     * The trees of the named orderings are updated with the same copies, and
+     * their snapshots are published right before the summary snapshot.
+     * Publication is serialized so that snapshots are published in version
+     * order and each one reflects every change made before it.
+     * </p>
+     *
+     * @param changed the matches changed since the previous snapshot
+     * @param changes the changes made since the previous snapshot, recorded
+     *                only while listeners are subscribed
+     * @return the published snapshot
+     */
+    private SummarySnapshot publishSummary(List<Match> changed, List<MatchChange> changes) {
+        publishLock.lock();
+        try {
+            SummarySnapshot previous = currentSnapshot();
+            SummaryTree tree = previous.getTree();
+            SummaryTree[] orderedTrees = orderedTrees();
+            int[] previousPositions = positions(tree, changes);
+            for (Match match : changed) {
+                Match copy = summaryCopies.remove(match);
+                if (copy != null) {
+                    tree = tree.remove(copy, summaryOrder);
+                    for (int i = 0; i < orderedTrees.length; i++) {
+                        orderedTrees[i] = orderedTrees[i].remove(copy, orderingOrders.get(i));
+                    }
+                }
+                Optional<Match> stored = repository.findByTeams(match.getHomeTeam(), match.getAwayTeam());
+                if (stored.isPresent()) {
+                    copy = stored.get().copy();
+                    summaryCopies.put(copy, copy);
+                    tree = tree.insert(copy, summaryOrder);
+                    for (int i = 0; i < orderedTrees.length; i++) {
+                        orderedTrees[i] = orderedTrees[i].insert(copy, orderingOrders.get(i));
+                    }
+                }
+            }
+            long version = previous.getVersion() + 1;
+            publishOrderings(version, orderedTrees);
+            SummarySnapshot published = new SummarySnapshot(version, tree);
+            snapshot = published;
+            if (!changes.isEmpty()) {
+                eventPublisher.publish(events(published, changes, previousPositions));
+            }
+            return published;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current snapshot, building the initial one, with version 0,
+     * from all matches of the repository if none has been published yet.
+     * <p>
+     * The initial snapshots of the named orderings are built from the same
+     * copies. Must be called while holding the publication lock.
+     * </p>
+     *
+     * @return the current snapshot
+     */
+    private SummarySnapshot currentSnapshot() {
+        SummarySnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        List<Match> copies = new ArrayList<>();
+        for (Match match : repository.findAll()) {
+            Match copy = match.copy();
+            summaryCopies.put(copy, copy);
+            copies.add(copy);
+        }
+        SummaryTree[] orderedTrees = new SummaryTree[orderingOrders.size()];
+        for (int i = 0; i < orderedTrees.length; i++) {
+            List<Match> ordered = new ArrayList<>(copies);
+            ordered.sort(orderingOrders.get(i));
+            orderedTrees[i] = SummaryTree.of(ordered);
+        }
+        publishOrderings(0, orderedTrees);
+        copies.sort(summaryOrder);
+        current = new SummarySnapshot(0, SummaryTree.of(copies));
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * Returns the trees of the current snapshots of the named orderings, in
+     * the order of their names.
+     * <p>
+     * Must be called while holding the publication lock.
+     * </p>
+     *
+     * @return the trees, empty if there are no named orderings
+     */
+    private SummaryTree[] orderedTrees() {
+        if (orderingNames.isEmpty()) {
+            return NO_TREES;
+        }
+        SummaryTree[] trees = new SummaryTree[orderingNames.size()];
+        Map<String, SummarySnapshot> current = orderedSummaries;
+        for (int i = 0; i < trees.length; i++) {
+            trees[i] = current.get(orderingNames.get(i)).getTree();
+        }
+        return trees;
+    }
+
+    /**
+     * Publishes new snapshots of the named orderings.
+     * <p>
+     * Must be called while holding the publication lock, before the summary
+     * snapshot of the same version is published.
+     * </p>
+     *
+     * @param version the version of the new snapshots
+     * @param trees   the trees of the orderings, in the order of their names
+     */
+    private void publishOrderings(long version, SummaryTree[] trees) {
+        if (trees.length == 0) {
+            return;
+        }
+        Map<String, SummarySnapshot> published = new HashMap<>();
+        for (int i = 0; i < trees.length; i++) {
+            published.put(orderingNames.get(i), new SummarySnapshot(version, trees[i]));
+        }
+        orderedSummaries = published;
+    }
+
+    /**
+     * Extends a comparator so that it never ties between two matches.
+     * <p>
+     * Matches the comparator considers equal keep their start order, so a
+     * tree ordered by the result never holds ties.
+     * </p>
+     *
+     * @param comparator the comparator to extend
+     * @return the extended comparator
+     */
+    private static Comparator<Match> withoutTies(Comparator<Match> comparator) {
+        return comparator.thenComparingLong(Match::getStartSequence)
+                .thenComparing(match -> match.getHomeTeam().getName())
+                .thenComparing(match -> match.getAwayTeam().getName());
+    }
+
+    /**
+     * Looks up the positions of the changed matches in a summary tree.
+     * <p>
+     * Must be called while holding the publication lock, before the copies of
+     * the changed matches are replaced.
+     * </p>
+     *
+     * @param tree    the tree of a summary snapshot
+     * @param changes the changes whose matches are looked up
+     * @return the position of the match of each change, or -1 if it is not on
+     *         the summary
+     */
+    private int[] positions(SummaryTree tree, List<MatchChange> changes) {
+        int[] positions = new int[changes.size()];
+        for (int i = 0; i < positions.length; i++) {
+            Match copy = summaryCopies.get(changes.get(i).match);
+            positions[i] = copy != null ? tree.indexOf(copy, summaryOrder) : -1;
+        }
+        return positions;
+    }
+
+    /**
+     * Builds the events for the changes included in a new snapshot.
+     * <p>
+     * Must be called while holding the publication lock, right after the
+     * snapshot was published.
+     * </p>
+     *
+     * @param published         the newly published snapshot
+     * @param changes           the changes included in the new snapshot
+     * @param previousPositions the positions of the changed matches in the
+     *                          previous snapshot
+     * @return one event per change, in the order of the changes
+     */
+    private List<ScoreboardEvent> events(SummarySnapshot published, List<MatchChange> changes,
+            int[] previousPositions) {
+        int[] positions = positions(published.getTree(), changes);
+        List<ScoreboardEvent> events = new ArrayList<>(changes.size());
+        for (int i = 0; i < positions.length; i++) {
+            MatchChange change = changes.get(i);
+            events.add(new ScoreboardEvent(change.type, published.getVersion(), change.match,
+                    previousPositions[i], positions[i]));
+        }
+        return events;
+    }
+
+    /**
+     * Records a change for the event listeners.
+     * <p>
+     * The state of the match is copied right away, so that an event reflects
+     * the match as it was after this change even if later changes of the same
+     * batch modify it.
+     * </p>
+     *
+     * @param type  the kind of change
+     * @param match the changed match
+     * @return a list with the change, or an empty list if no listener is
+     *         subscribed
+     */
+    private List<MatchChange> changeOf(ScoreboardEvent.Type type, Match match) {
+        if (!eventPublisher.hasSubscribers()) {
+            return List.of();
+        }
+        return List.of(new MatchChange(type, match.copy()));
+    }
+
+    /**
+     * Returns the event type that corresponds to a batch command type.
+     *
+     * @param type the command type
+     * @return the event type
+     */
+    private static ScoreboardEvent.Type eventType(ScoreboardCommand.Type type) {
+        switch (type) {
+            case START:
+                return ScoreboardEvent.Type.MATCH_STARTED;
+            case UPDATE_SCORE:
+                return ScoreboardEvent.Type.SCORE_CHANGED;
+            default:
+                return ScoreboardEvent.Type.MATCH_FINISHED;
+        }
+    }
+
+    /**
+     * Applies a single batch command without publishing the summary.
+     *
+     * @param command the command to apply
+     * @return the match the command was applied to
+     * @throws IllegalArgumentException    if the command is null or invalid
+     * @throws TeamAlreadyPlayingException if a started team is already playing
+     * @throws MatchNotFoundException      if an updated or finished match is
+     *                                     not found
+     */
+    private Match apply(ScoreboardCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        switch (command.getType()) {
+            case START:
+                return createMatch(command.getHomeTeamName(), command.getAwayTeamName());
+            case UPDATE_SCORE:
+                return changeScore(command.getHomeTeamName(), command.getAwayTeamName(),
+                        command.getHomeScore(), command.getAwayScore());
+            case FINISH:
+                return removeMatch(command.getHomeTeamName(), command.getAwayTeamName());
+            default:
+                throw new IllegalArgumentException("Unsupported command type: " + command.getType());
+        }
+    }
+
+    /**
+     * Creates and saves a new match without publishing the summary.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return the new match
+     * @throws TeamAlreadyPlayingException if either team is already playing
+     * @throws IllegalArgumentException    if team names are invalid
+     */
+    private Match createMatch(String homeTeamName, String awayTeamName) {
+        Team homeTeam = teamRegistry.intern(homeTeamName);
+        Team awayTeam = teamRegistry.intern(awayTeamName);
+
+        checkTeamAvailability(homeTeam);
+        checkTeamAvailability(awayTeam);
+
+        Match match = new Match(homeTeam, awayTeam);
+        repository.save(match);
+        return match;
+    }
+
+    /**
+     * Updates and saves the score of a match without publishing the summary.
+     * <p>
+     * The new score is set on a copy of the stored match, which the
+     * repository stores in its place. The stored match is therefore never
+     * changed before the repository accepts the update, and a repository that
+     * journals its changes records the update before it is applied.
+     * </p>
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @param homeScore    the new score for the home team
+     * @param awayScore    the new score for the away team
+     * @return the updated match
+     * @throws MatchNotFoundException   if the match is not found, or is
+     *                                  finished before the update is saved
+     * @throws IllegalArgumentException if scores are invalid
+     */
+    private Match changeScore(String homeTeamName, String awayTeamName, int homeScore, int awayScore) {
+        Team homeTeam = teamRegistry.resolve(homeTeamName);
+        Team awayTeam = teamRegistry.resolve(awayTeamName);
+        Score newScore = new Score(homeScore, awayScore);
+
+        Match updated = findMatchOrThrow(homeTeam, awayTeam).copy();
+        updated.updateScore(newScore);
+
+        if (!repository.update(updated)) {
+            throw new MatchNotFoundException(homeTeam, awayTeam);
+        }
+        return updated;
+    }
+
+    /**
+     * Deletes a match without publishing the summary.
+     *
+     * @param homeTeamName the name of the home team
+     * @param awayTeamName the name of the away team
+     * @return the finished match
+     * @throws MatchNotFoundException if the match is not found
+     */
+    private Match removeMatch(String homeTeamName, String awayTeamName) {
+        Team homeTeam = teamRegistry.resolve(homeTeamName);
+        Team awayTeam = teamRegistry.resolve(awayTeamName);
+
+        Match match = findMatchOrThrow(homeTeam, awayTeam);
+        repository.delete(match);
+        return match;
     }
 
     /**
@@ -126,4 +645,17 @@ public class ScoreboardServiceImpl implements ScoreboardService {
         return repository.findByTeams(homeTeam, awayTeam)
                 .orElseThrow(() -> new MatchNotFoundException(homeTeam, awayTeam));
     }
+
+    /**
+     * A change recorded for the event listeners until the next publication.
+     */
+    private static final class MatchChange {
+        private final ScoreboardEvent.Type type;
+        private final Match match;
+
+        MatchChange(ScoreboardEvent.Type type, Match match) {
+            this.type = type;
+            this.match = match;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.sportradar.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.sportradar.domain.Match;
+
+/**
+ * Immutable, versioned summary of the matches in progress.
+ * <p>
+ * A snapshot is published by the scoreboard service every time its matches
+ * change. The version increases with every published snapshot, so two
+ * snapshots with the same version always hold the same ordered matches.
+ * </p>
+ * <p>
+ * The matches of a snapshot are detached copies taken when it was published,
+ * so neither the list nor the scores it shows change when the scoreboard
+ * changes later. The copies must not be modified.
+ * </p>
+ * <p>
+ * The matches are kept in a persistent tree shared with the neighbouring
+ * snapshots, which lets the service publish a new snapshot by changing only
+ * the changed match. The list returned by {@link #getMatches()} is built from
+ * the tree once, the first time it is requested; pages returned by
+ * {@link #getMatches(int, int)} are read from the tree directly.
+ * </p>
+ *
+ */
+public final class SummarySnapshot {
+    private final long version;
+    private final SummaryTree tree;
+    private volatile List<Match> matches;
+
+    /**
+     * Creates a new snapshot with the specified version and ordered matches.
+     * <p>
+     * The snapshot holds copies of the matches, taken by this constructor.
+     * </p>
+     *
+     * @param version the version of this snapshot
+     * @param matches the ordered matches
+     * @throws IllegalArgumentException if the matches are null
+     */
+    public SummarySnapshot(long version, List<Match> matches) {
+        if (matches == null) {
+            throw new IllegalArgumentException("Matches cannot be null");
+        }
+        List<Match> copies = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            copies.add(match.copy());
+        }
+        this.version = version;
+        this.tree = SummaryTree.of(copies);
+        this.matches = Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * Creates a new snapshot of a tree of match copies.
+     *
+     * @param version the version of this snapshot
+     * @param tree    the ordered match copies
+     */
+    SummarySnapshot(long version, SummaryTree tree) {
+        this.version = version;
+        this.tree = tree;
+    }
+
+    /**
+     * Returns the version of this snapshot.
+     *
+     * @return the monotonically increasing snapshot version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ordered matches of this snapshot.
+     *
+     * @return an unmodifiable list of the matches in progress
+     */
+    public List<Match> getMatches() {
+        List<Match> current = matches;
+        if (current == null) {
+            current = tree.range(0, tree.size());
+            matches = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns a page of the ordered matches of this snapshot.
+     * <p>
+     * The page is read from the tree of the snapshot, so its cost depends only
+     * on the requested range and, logarithmically, on the number of matches in
+     * progress. An offset beyond the last match returns an empty list.
+     * </p>
+     *
+     * @param offset the number of leading matches to skip
+     * @param limit  the maximum number of matches to return
+     * @return an unmodifiable list of at most {@code limit} matches
+     * @throws IllegalArgumentException if the offset or limit is negative
+     */
+    public List<Match> getMatches(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        int size = tree.size();
+        int from = Math.min(offset, size);
+        int to = (int) Math.min(size, (long) from + limit);
+        return tree.range(from, to);
+    }
+
+    /**
+     * Returns the tree holding the matches of this snapshot.
+     *
+     * @return the ordered match copies
+     */
+    SummaryTree getTree() {
+        return tree;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a string representation of this snapshot in the format
+     * "vVersion [Match, ...]".
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "v" + version + " " + getMatches();
+    }
+}
@@ -0,0 +1,298 @@
+package com.sportradar.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.sportradar.domain.Match;
+
+/**
+ * Persistent balanced search tree holding the ordered matches of a summary.
+ * <p>
+ * The tree is never modified. Inserting or removing a match copies only the
+ * O(log n) nodes on the path to it and shares every other node with the
+ * previous tree, so each published summary snapshot can be derived from the
+ * previous one at the cost of a single change. Every node also counts the
+ * matches below it, which finds the position of a match and the matches
+ * of a page in O(log n) plus the size of the page.
+ * </p>
+ * <p>
+ * The order is supplied by the caller with every lookup and change. It must
+ * be the same for all operations on a tree and never treat two different
+ * matches as equal, and the matches must not change while they are in the
+ * tree; the scoreboard service therefore only stores detached copies.
+ * </p>
+ *
+ */
+final class SummaryTree {
+    static final SummaryTree EMPTY = new SummaryTree(null);
+
+    private final Node root;
+
+    /**
+     * Creates a tree with the given root.
+     *
+     * @param root the root node, or null for an empty tree
+     */
+    private SummaryTree(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Builds a balanced tree of matches that are already ordered.
+     *
+     * @param ordered the matches in summary order
+     * @return a tree holding the matches
+     */
+    static SummaryTree of(List<Match> ordered) {
+        return ordered.isEmpty() ? EMPTY : new SummaryTree(build(ordered, 0, ordered.size()));
+    }
+
+    /**
+     * Returns the number of matches in this tree.
+     *
+     * @return the number of matches
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the position of a match.
+     *
+     * @param match the match to look up
+     * @param order the order of the tree
+     * @return the zero-based position, or -1 if the match is not in the tree
+     */
+    int indexOf(Match match, Comparator<Match> order) {
+        int index = 0;
+        Node node = root;
+        while (node != null) {
+            int result = order.compare(match, node.match);
+            if (result < 0) {
+                node = node.left;
+            } else if (result > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a tree that additionally holds a match.
+     *
+     * @param match the match to insert
+     * @param order the order of the tree
+     * @return the new tree; a match equal in the order is replaced
+     */
+    SummaryTree insert(Match match, Comparator<Match> order) {
+        return new SummaryTree(insert(root, match, order));
+    }
+
+    /**
+     * Returns a tree without a match.
+     *
+     * @param match the match to remove
+     * @param order the order of the tree
+     * @return the new tree, or this tree if the match is not in it
+     */
+    SummaryTree remove(Match match, Comparator<Match> order) {
+        Node removed = remove(root, match, order);
+        return removed == root ? this : new SummaryTree(removed);
+    }
+
+    /**
+     * Returns the matches in a range of positions.
+     *
+     * @param from the first position, inclusive
+     * @param to   the last position, exclusive
+     * @return an unmodifiable list of the matches in order
+     */
+    List<Match> range(int from, int to) {
+        List<Match> matches = new ArrayList<>(Math.max(0, to - from));
+        collect(root, 0, from, to, matches);
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Builds a balanced subtree of a range of ordered matches.
+     *
+     * @param ordered the matches in summary order
+     * @param from    the first position, inclusive
+     * @param to      the last position, exclusive
+     * @return the root of the subtree, or null if the range is empty
+     */
+    private static Node build(List<Match> ordered, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node(build(ordered, from, middle), ordered.get(middle), build(ordered, middle + 1, to));
+    }
+
+    /**
+     * Inserts a match into a subtree.
+     *
+     * @param node  the root of the subtree, or null
+     * @param match the match to insert
+     * @param order the order of the tree
+     * @return the root of the new subtree
+     */
+    private static Node insert(Node node, Match match, Comparator<Match> order) {
+        if (node == null) {
+            return new Node(null, match, null);
+        }
+        int result = order.compare(match, node.match);
+        if (result < 0) {
+            return balance(insert(node.left, match, order), node.match, node.right);
+        }
+        if (result > 0) {
+            return balance(node.left, node.match, insert(node.right, match, order));
+        }
+        return new Node(node.left, match, node.right);
+    }
+
+    /**
+     * Removes a match from a subtree.
+     *
+     * @param node  the root of the subtree, or null
+     * @param match the match to remove
+     * @param order the order of the tree
+     * @return the root of the new subtree, or the same node if the match is
+     *         not in it
+     */
+    private static Node remove(Node node, Match match, Comparator<Match> order) {
+        if (node == null) {
+            return null;
+        }
+        int result = order.compare(match, node.match);
+        if (result < 0) {
+            Node left = remove(node.left, match, order);
+            return left == node.left ? node : balance(left, node.match, node.right);
+        }
+        if (result > 0) {
+            Node right = remove(node.right, match, order);
+            return right == node.right ? node : balance(node.left, node.match, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(node.left, first.match, removeFirst(node.right));
+    }
+
+    /**
+     * Removes the first match of a non-empty subtree.
+     *
+     * @param node the root of the subtree
+     * @return the root of the new subtree
+     */
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(removeFirst(node.left), node.match, node.right);
+    }
+
+    /**
+     * Joins two subtrees and a match between them, rotating once or twice to
+     * restore the AVL balance if their heights differ by two.
+     *
+     * @param left  the subtree before the match, or null
+     * @param match the match
+     * @param right the subtree after the match, or null
+     * @return the root of the joined subtree
+     */
+    private static Node balance(Node left, Match match, Node right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.left, left.match, new Node(left.right, match, right));
+            }
+            Node pivot = left.right;
+            return new Node(new Node(left.left, left.match, pivot.left), pivot.match,
+                    new Node(pivot.right, match, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(new Node(left, match, right.left), right.match, right.right);
+            }
+            Node pivot = right.left;
+            return new Node(new Node(left, match, pivot.left), pivot.match,
+                    new Node(pivot.right, right.match, right.right));
+        }
+        return new Node(left, match, right);
+    }
+
+    /**
+     * Adds the matches of a subtree that fall into a range of positions to a
+     * list, in order.
+     *
+     * @param node   the root of the subtree, or null
+     * @param offset the position of the first match of the subtree
+     * @param from   the first position, inclusive
+     * @param to     the last position, exclusive
+     * @param target the list to add the matches to
+     */
+    private static void collect(Node node, int offset, int from, int to, List<Match> target) {
+        if (node == null || offset >= to || offset + node.size <= from) {
+            return;
+        }
+        collect(node.left, offset, from, to, target);
+        int index = offset + size(node.left);
+        if (index >= from && index < to) {
+            target.add(node.match);
+        }
+        collect(node.right, index + 1, from, to, target);
+    }
+
+    /**
+     * Returns the number of matches in a subtree.
+     *
+     * @param node the root of the subtree, or null
+     * @return the number of matches
+     */
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    /**
+     * Returns the height of a subtree.
+     *
+     * @param node the root of the subtree, or null
+     * @return the height, 0 for an empty subtree
+     */
+    private static int height(Node node) {
+        return node != null ? node.height : 0;
+    }
+
+    /**
+     * An immutable node of the tree.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Match match;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(Node left, Match match, Node right) {
+            this.left = left;
+            this.match = match;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.sportradar.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.repository.ArchivingMatchRepository;
+import com.sportradar.repository.ConcurrentMatchRepository;
+import com.sportradar.repository.InMemoryMatchRepository;
+import com.sportradar.repository.MatchRepository;
+import com.sportradar.service.ScoreboardService;
+
+@DisplayName("MatchArchive")
+class MatchArchiveTest {
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2026, 6, 11, 18, 0);
+
+    private MatchArchive archive;
+    private Team mexico;
+    private Team canada;
+    private Team spain;
+
+    @BeforeEach
+    void setUp() {
+        archive = new MatchArchive();
+        mexico = new Team("Mexico");
+        canada = new Team("Canada");
+        spain = new Team("Spain");
+    }
+
+    @AfterEach
+    void tearDown() {
+        archive.close();
+    }
+
+    /**
+     * Creates a match with a final score.
+     *
+     * @param homeTeam  the home team
+     * @param awayTeam  the away team
+     * @param homeScore the home score
+     * @param awayScore the away score
+     * @return the match
+     */
+    private static Match finished(Team homeTeam, Team awayTeam, int homeScore, int awayScore) {
+        return Match.restore(homeTeam, awayTeam, new Score(homeScore, awayScore), KICK_OFF);
+    }
+
+    @Nested
+    @DisplayName("archive operation")
+    class ArchiveOperation {
+        @Test
+        @DisplayName("stores the final state of the match")
+        void shouldStoreFinalState() {
+            // Given
+            Match match = finished(mexico, canada, 0, 5);
+
+            // When
+            archive.archive(match, KICK_OFF.plusMinutes(105));
+            match.updateScore(new Score(1, 5));
+            archive.flush();
+
+            // Then
+            List<FinishedMatch> results = archive.findByTeam(mexico);
+            assertEquals(1, results.size());
+            FinishedMatch result = results.get(0);
+            assertEquals(mexico, result.getHomeTeam());
+            assertEquals(canada, result.getAwayTeam());
+            assertEquals(new Score(0, 5), result.getFinalScore());
+            assertEquals(KICK_OFF, result.getStartTime());
+            assertEquals(KICK_OFF.plusMinutes(105), result.getFinishTime());
+            assertEquals("Mexico 0 - 5 Canada", result.toString());
+        }
+
+        @Test
+        @DisplayName("rejects null parameters")
+        void shouldRejectNullParameters() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> archive.archive(null, KICK_OFF));
+            assertThrows(IllegalArgumentException.class,
+                    () -> archive.archive(finished(mexico, canada, 0, 0), null));
+        }
+
+        @Test
+        @DisplayName("rejects matches after the archive is closed")
+        void shouldRejectMatchesAfterClose() {
+            // Given
+            archive.archive(finished(mexico, canada, 1, 0), KICK_OFF);
+
+            // When
+            archive.close();
+
+            // Then
+            assertEquals(1, archive.size());
+            assertThrows(IllegalStateException.class,
+                    () -> archive.archive(finished(spain, canada, 1, 0), KICK_OFF));
+        }
+    }
+
+    @Nested
+    @DisplayName("queries")
+    class Queries {
+        @BeforeEach
+        void archiveMatches() {
+            archive.archive(finished(mexico, canada, 0, 5), KICK_OFF.plusHours(2));
+            archive.archive(finished(spain, new Team("Brazil"), 10, 2), KICK_OFF.plusHours(4));
+            archive.archive(finished(canada, spain, 1, 1), KICK_OFF.plusHours(6));
+            archive.archive(finished(mexico, spain, 3, 2), KICK_OFF.plusHours(8));
+            archive.flush();
+        }
+
+        @Test
+        @DisplayName("finds home and away matches of a team in finish order")
+        void shouldFindMatchesOfTeam() {
+            // When
+            List<FinishedMatch> results = archive.findByTeam(new Team("Spain"));
+
+            // Then
+            assertEquals(3, results.size());
+            assertEquals("Spain 10 - 2 Brazil", results.get(0).toString());
+            assertEquals("Canada 1 - 1 Spain", results.get(1).toString());
+            assertEquals("Mexico 3 - 2 Spain", results.get(2).toString());
+        }
+
+        @Test
+        @DisplayName("finds matches of a team finished in a time range")
+        void shouldFindMatchesOfTeamInRange() {
+            // When
+            List<FinishedMatch> results = archive.findByTeam(spain, KICK_OFF.plusHours(4), KICK_OFF.plusHours(8));
+
+            // Then
+            assertEquals(2, results.size());
+            assertEquals("Spain 10 - 2 Brazil", results.get(0).toString());
+            assertEquals("Canada 1 - 1 Spain", results.get(1).toString());
+        }
+
+        @Test
+        @DisplayName("finds all matches finished in a time range")
+        void shouldFindMatchesInRange() {
+            // When
+            List<FinishedMatch> results = archive.findFinishedBetween(KICK_OFF.plusHours(3), KICK_OFF.plusHours(7));
+
+            // Then
+            assertEquals(2, results.size());
+            assertEquals("Spain 10 - 2 Brazil", results.get(0).toString());
+            assertEquals("Canada 1 - 1 Spain", results.get(1).toString());
+        }
+
+        @Test
+        @DisplayName("returns nothing for unknown teams and empty ranges")
+        void shouldReturnNothingForUnknownTeamsAndEmptyRanges() {
+            // When/Then
+            assertTrue(archive.findByTeam(new Team("Italy")).isEmpty());
+            assertTrue(archive.findFinishedBetween(KICK_OFF, KICK_OFF.plusHours(1)).isEmpty());
+            assertTrue(archive.findFinishedBetween(KICK_OFF.plusHours(9), KICK_OFF.plusHours(10)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("rejects reversed ranges")
+        void shouldRejectReversedRanges() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> archive.findFinishedBetween(KICK_OFF.plusHours(1), KICK_OFF));
+            assertThrows(IllegalArgumentException.class, () -> archive.findByTeam(spain, null, KICK_OFF));
+        }
+    }
+
+    @Test
+    @DisplayName("keeps the real finish times in order when the clock is set back")
+    void shouldKeepFinishTimesInOrder() {
+        // Given
+        archive.archive(finished(mexico, canada, 1, 0), KICK_OFF.plusHours(2));
+        archive.archive(finished(spain, mexico, 3, 0), KICK_OFF.plusHours(3));
+
+        // When
+        archive.archive(finished(spain, canada, 2, 0), KICK_OFF.plusHours(1));
+        archive.flush();
+
+        // Then
+        List<FinishedMatch> results = archive.findByTeam(canada);
+        assertEquals(spain, results.get(0).getHomeTeam());
+        assertEquals(KICK_OFF.plusHours(1), results.get(0).getFinishTime());
+        assertEquals(KICK_OFF.plusHours(2), results.get(1).getFinishTime());
+        List<FinishedMatch> all = archive.findFinishedBetween(LocalDateTime.MIN, LocalDateTime.MAX);
+        assertEquals(List.of(KICK_OFF.plusHours(1), KICK_OFF.plusHours(2), KICK_OFF.plusHours(3)),
+                List.of(all.get(0).getFinishTime(), all.get(1).getFinishTime(), all.get(2).getFinishTime()));
+        List<FinishedMatch> early = archive.findFinishedBetween(KICK_OFF, KICK_OFF.plusMinutes(90));
+        assertEquals(1, early.size());
+        assertEquals(new Score(2, 0), early.get(0).getFinalScore());
+        assertEquals(1, archive.findByTeam(spain, KICK_OFF.plusHours(2), KICK_OFF.plusHours(4)).size());
+    }
+
+    @Test
+    @DisplayName("keeps matches finished at the same time in archive order")
+    void shouldKeepEqualFinishTimesInArchiveOrder() {
+        // Given
+        archive.archive(finished(mexico, canada, 1, 0), KICK_OFF.plusHours(2));
+        archive.archive(finished(spain, canada, 2, 0), KICK_OFF.plusHours(2));
+
+        // When
+        archive.archive(finished(spain, mexico, 3, 0), KICK_OFF.plusHours(1));
+        archive.flush();
+
+        // Then
+        List<FinishedMatch> results = archive.findByTeam(canada);
+        assertEquals(mexico, results.get(0).getHomeTeam());
+        assertEquals(spain, results.get(1).getHomeTeam());
+        assertEquals(new Score(3, 0), archive.findFinishedBetween(LocalDateTime.MIN, LocalDateTime.MAX).get(0)
+                .getFinalScore());
+    }
+
+    @Test
+    @DisplayName("grows beyond its initial capacity")
+    void shouldGrowBeyondInitialCapacity() {
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            archive.archive(finished(new Team("Home " + i), i % 2 == 0 ? mexico : canada, i % 7, 0),
+                    KICK_OFF.plusMinutes(i));
+        }
+        archive.flush();
+
+        // Then
+        assertEquals(5_000, archive.size());
+        assertEquals(2_500, archive.findByTeam(mexico).size());
+        assertEquals(100, archive.findFinishedBetween(KICK_OFF.plusMinutes(1_000), KICK_OFF.plusMinutes(1_100))
+                .size());
+    }
+
+    @Nested
+    @DisplayName("archiving repository")
+    class ArchivingRepository {
+        @Test
+        @DisplayName("archives deleted matches with the time of deletion")
+        void shouldArchiveDeletedMatches() {
+            // Given
+            Instant finish = KICK_OFF.plusHours(2).toInstant(ZoneOffset.UTC);
+            MatchRepository repository = new ArchivingMatchRepository(new InMemoryMatchRepository(), archive,
+                    Clock.fixed(finish, ZoneOffset.UTC));
+            Match match = finished(mexico, canada, 2, 1);
+            repository.save(match);
+
+            // When
+            repository.delete(match);
+            repository.delete(match);
+            archive.flush();
+
+            // Then
+            assertFalse(repository.findByTeams(mexico, canada).isPresent());
+            List<FinishedMatch> results = archive.findByTeam(canada);
+            assertEquals(1, results.size());
+            assertEquals(KICK_OFF.plusHours(2), results.get(0).getFinishTime());
+        }
+
+        @Test
+        @DisplayName("archives a match once when it is deleted concurrently")
+        void shouldArchiveConcurrentlyDeletedMatchOnce() throws Exception {
+            // Given
+            MatchRepository repository = new ArchivingMatchRepository(new ConcurrentMatchRepository(), archive);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            int matches = 200;
+
+            // When
+            try {
+                for (int i = 0; i < matches; i++) {
+                    Match match = new Match(new Team("Home " + i), new Team("Away " + i));
+                    repository.save(match);
+                    CountDownLatch start = new CountDownLatch(1);
+                    List<Future<?>> deletions = new ArrayList<>();
+                    for (int thread = 0; thread < 4; thread++) {
+                        deletions.add(executor.submit(() -> {
+                            start.await();
+                            repository.delete(match);
+                            return null;
+                        }));
+                    }
+                    start.countDown();
+                    for (Future<?> deletion : deletions) {
+                        deletion.get();
+                    }
+                }
+            } finally {
+                executor.shutdown();
+            }
+            archive.flush();
+
+            // Then
+            assertEquals(matches, archive.size());
+            assertTrue(repository.findAll().isEmpty());
+        }
+
+        @Test
+        @DisplayName("does not archive a match that could not be deleted")
+        void shouldNotArchiveMatchWhenDeletionFails() {
+            // Given
+            MatchRepository failing = new InMemoryMatchRepository() {
+                @Override
+                public Optional<Match> remove(Match match) {
+                    throw new IllegalStateException("Storage is unavailable");
+                }
+            };
+            MatchRepository repository = new ArchivingMatchRepository(failing, archive);
+            Match match = finished(mexico, canada, 2, 1);
+            repository.save(match);
+
+            // When
+            assertThrows(IllegalStateException.class, () -> repository.delete(match));
+            archive.flush();
+
+            // Then
+            assertTrue(repository.findByTeams(mexico, canada).isPresent());
+            assertEquals(0, archive.size());
+        }
+
+        @Test
+        @DisplayName("keeps the results of matches finished on the scoreboard")
+        void shouldKeepResultsOfFinishedMatches() {
+            // Given
+            ScoreboardService service = ScoreboardServiceFactory.createArchived(archive);
+            service.startMatch("Mexico", "Canada");
+            service.updateScore("Mexico", "Canada", 0, 5);
+
+            // When
+            service.finishMatch("Mexico", "Canada");
+            archive.flush();
+
+            // Then
+            assertTrue(service.getSummary().isEmpty());
+            assertEquals("Mexico 0 - 5 Canada", archive.findByTeam(mexico).get(0).toString());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.sportradar.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.ScoreboardService;
+
+@DisplayName("SummaryEncoder")
+class SummaryEncoderTest {
+
+    private ScoreboardService scoreboard;
+    private SummaryEncoder encoder;
+    private SummaryDecoder decoder;
+    private ByteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardServiceFactory.createDefault();
+        encoder = new SummaryEncoder();
+        decoder = new SummaryDecoder();
+        buffer = ByteBuffer.allocate(1024);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+    }
+
+    @Nested
+    @DisplayName("full frames")
+    class FullFrames {
+        @Test
+        @DisplayName("round-trips the summary with its version")
+        void shouldRoundTripSummary() {
+            // When
+            encoder.encodeFull(scoreboard.getSummarySnapshot(), buffer);
+
+            // Then
+            assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 0"), decode());
+            assertEquals(scoreboard.getSummarySnapshot().getVersion(), decoder.getVersion());
+            assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        @DisplayName("resynchronizes a new decoder")
+        void shouldResynchronizeNewDecoder() {
+            // Given
+            encoder.encodeFull(scoreboard.getSummarySnapshot(), buffer);
+            buffer.clear();
+            decoder = new SummaryDecoder();
+
+            // When
+            encoder.encodeFull(scoreboard.getSummarySnapshot(), buffer);
+
+            // Then
+            assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 0"), decode());
+        }
+
+        @Test
+        @DisplayName("leaves the buffer and encoder unchanged when the buffer is too small")
+        void shouldLeaveStateUnchangedOnOverflow() {
+            // Given
+            ByteBuffer small = ByteBuffer.allocate(8);
+
+            // When
+            assertThrows(BufferOverflowException.class,
+                    () -> encoder.encodeFull(scoreboard.getSummarySnapshot(), small));
+            encoder.encodeDelta(scoreboard.getSummarySnapshot(), buffer);
+
+            // Then
+            assertEquals(0, small.position());
+            assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 0"), decode());
+        }
+    }
+
+    @Nested
+    @DisplayName("delta frames")
+    class DeltaFrames {
+        @Test
+        @DisplayName("expand to the complete summary")
+        void shouldExpandToCompleteSummary() {
+            // Given
+            encoder.encodeDelta(scoreboard.getSummarySnapshot(), buffer);
+            decode();
+            buffer.clear();
+            scoreboard.updateScore("Mexico", "Canada", 0, 5);
+            scoreboard.finishMatch("Spain", "Brazil");
+            scoreboard.startMatch("Germany", "France");
+
+            // When
+            encoder.encodeDelta(scoreboard.getSummarySnapshot(), buffer);
+
+            // Then
+            assertEquals(List.of("Mexico 0 - Canada 5", "Germany 0 - France 0"), decode());
+        }
+
+        @Test
+        @DisplayName("omit unchanged scores and known team names")
+        void shouldOmitUnchangedScoresAndKnownNames() {
+            // Given
+            encoder.encodeFull(scoreboard.getSummarySnapshot(), buffer);
+            int fullSize = buffer.position();
+            decode();
+            buffer.clear();
+
+            // When
+            encoder.encodeDelta(scoreboard.getSummarySnapshot(), buffer);
+            int deltaSize = buffer.position();
+
+            // Then
+            assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 0"), decode());
+            // header and base version, empty dictionary, match count, two bytes per match
+            assertEquals(4 + 1 + 1 + 2 * 2, deltaSize);
+            assertTrue(deltaSize < fullSize);
+        }
+
+        @Test
+        @DisplayName("are rejected when the decoder missed a frame")
+        void shouldRejectDeltaAfterMissedFrame() {
+            // Given
+            encoder.encodeFull(scoreboard.getSummarySnapshot(), buffer);
+            buffer.clear();
+            scoreboard.updateScore("Mexico", "Canada", 1, 0);
+
+            // When
+            encoder.encodeDelta(scoreboard.getSummarySnapshot(), buffer);
+
+            // Then
+            buffer.flip();
+            assertThrows(IllegalStateException.class, () -> decoder.decode(buffer, (p, h, a, hs, as) -> {
+            }));
+        }
+    }
+
+    @Test
+    @DisplayName("decoder should reject an unsupported format version")
+    void shouldRejectUnsupportedFormatVersion() {
+        // Given
+        ByteBuffer frame = ByteBuffer.wrap(new byte[] { 99, 0, 0, 0, 0 });
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(frame, (p, h, a, hs, as) -> {
+        }));
+    }
+
+    /**
+     * Decodes the frames written to the buffer into readable match lines.
+     *
+     * @return the decoded matches in summary order
+     */
+    private List<String> decode() {
+        buffer.flip();
+        List<String> matches = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            matches.clear();
+            decoder.decode(buffer, (position, homeTeamId, awayTeamId, homeScore, awayScore) -> matches
+                    .add(decoder.getTeamName(homeTeamId) + " " + homeScore + " - " + decoder.getTeamName(awayTeamId)
+                            + " " + awayScore));
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportradar.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.event.ScoreboardEvent;
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.ScoreboardService;
+import com.sportradar.service.SummarySnapshot;
+
+@DisplayName("SummaryJsonWriter")
+class SummaryJsonWriterTest {
+
+    private ScoreboardService scoreboard;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardServiceFactory.createDefault();
+        output = new ByteArrayOutputStream();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+    }
+
+    @Test
+    @DisplayName("should write the summary to a stream")
+    void shouldWriteSummaryToStream() throws Exception {
+        // When
+        new SummaryJsonWriter().write(scoreboard.getSummarySnapshot(), output);
+
+        // Then
+        assertEquals("{\"version\":3,\"matches\":["
+                + "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\",\"homeScore\":10,\"awayScore\":2},"
+                + "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":0}]}",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should write the same JSON to a channel with a small buffer")
+    void shouldWriteSummaryToChannel() throws Exception {
+        // Given
+        for (int i = 0; i < 100; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        SummarySnapshot snapshot = scoreboard.getSummarySnapshot();
+        new SummaryJsonWriter().write(snapshot, output);
+        ByteArrayOutputStream channelOutput = new ByteArrayOutputStream();
+
+        // When
+        new SummaryJsonWriter(64).write(snapshot, Channels.newChannel(channelOutput));
+
+        // Then
+        assertEquals(output.toString(StandardCharsets.UTF_8), channelOutput.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should escape team names and keep non-ASCII characters")
+    void shouldEscapeTeamNames() throws Exception {
+        // Given
+        Match match = Match.restore(new Team("Côte d'Ivoire \"A\""), new Team("Back\\slash\n"), new Score(1, 0),
+                LocalDateTime.now());
+
+        // When
+        new SummaryJsonWriter().write(new SummarySnapshot(7, List.of(match)), output);
+
+        // Then
+        assertEquals("{\"version\":7,\"matches\":[{\"homeTeam\":\"Côte d'Ivoire \\\"A\\\"\","
+                + "\"awayTeam\":\"Back\\\\slash\\u000a\",\"homeScore\":1,\"awayScore\":0}]}",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should write an event with its match and positions")
+    void shouldWriteEvent() throws Exception {
+        // Given
+        Match match = scoreboard.getSummary().get(1);
+        ScoreboardEvent event = new ScoreboardEvent(ScoreboardEvent.Type.MATCH_FINISHED, 4, match, 1, -1);
+
+        // When
+        new SummaryJsonWriter().write(event, output);
+
+        // Then
+        assertEquals("{\"type\":\"MATCH_FINISHED\",\"version\":4,\"match\":"
+                + "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":0},"
+                + "\"previousPosition\":1,\"position\":-1}", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("should reject a buffer smaller than 64 bytes")
+    void shouldRejectSmallBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> new SummaryJsonWriter(16));
+    }
+}
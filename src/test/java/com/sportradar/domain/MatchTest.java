@@ -142,6 +142,75 @@ class MatchTest {
         }
     }
 
+    @Test
+    @DisplayName("copies state without sharing later updates")
+    void shouldCopyStateWithoutSharingUpdates() {
+        // Given
+        var match = new Match(new Team("Brazil"), new Team("Germany"));
+        match.updateScore(new Score(2, 1));
+
+        // When
+        var copy = match.copy();
+        match.updateScore(new Score(3, 1));
+
+        // Then
+        assertAll(
+                () -> assertEquals(match, copy),
+                () -> assertEquals(match.getStartTime(), copy.getStartTime()),
+                () -> assertEquals(match.getStartSequence(), copy.getStartSequence()),
+                () -> assertEquals(2, copy.getHomeScore()),
+                () -> assertEquals(1, copy.getAwayScore()));
+    }
+
+    @Nested
+    @DisplayName("ordering key")
+    class OrderingKey {
+        @Test
+        @DisplayName("orders later starts higher when totals are equal")
+        void shouldOrderLaterStartsHigherWhenTotalsAreEqual() {
+            // Given
+            var earlier = new Match(new Team("Brazil"), new Team("Germany"));
+            var later = new Match(new Team("Spain"), new Team("Italy"));
+
+            // Then
+            assertTrue(later.getStartSequence() > earlier.getStartSequence());
+            assertTrue(later.getOrderingKey() > earlier.getOrderingKey());
+        }
+
+        @Test
+        @DisplayName("orders higher totals higher regardless of start order")
+        void shouldOrderHigherTotalsHigher() {
+            // Given
+            var earlier = new Match(new Team("Brazil"), new Team("Germany"));
+            var later = new Match(new Team("Spain"), new Team("Italy"));
+
+            // When
+            earlier.updateScore(new Score(1, 0));
+
+            // Then
+            assertTrue(earlier.getOrderingKey() > later.getOrderingKey());
+        }
+
+        @Test
+        @DisplayName("keeps start sequence when restored and continues after it")
+        void shouldKeepStartSequenceWhenRestored() {
+            // Given
+            var original = new Match(new Team("Brazil"), new Team("Germany"));
+            long sequence = original.getStartSequence() + 1000;
+
+            // When
+            var restored = Match.restore(new Team("Spain"), new Team("Italy"), new Score(2, 2),
+                    original.getStartTime(), sequence);
+            var started = new Match(new Team("France"), new Team("Mexico"));
+
+            // Then
+            assertEquals(sequence, restored.getStartSequence());
+            assertTrue(started.getStartSequence() > sequence);
+            assertThrows(IllegalArgumentException.class, () -> Match.restore(new Team("Spain"),
+                    new Team("Italy"), Score.initial(), original.getStartTime(), 0));
+        }
+    }
+
     @Test
     @DisplayName("formats match correctly in toString()")
     void shouldFormatToStringCorrectly() {
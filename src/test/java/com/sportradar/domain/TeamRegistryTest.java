@@ -0,0 +1,139 @@
+package com.sportradar.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TeamRegistry")
+class TeamRegistryTest {
+
+    private TeamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TeamRegistry();
+    }
+
+    @Nested
+    @DisplayName("intern operation")
+    class InternOperation {
+        @Test
+        @DisplayName("returns the same instance for the same name")
+        void shouldReturnSameInstanceForSameName() {
+            // When
+            var first = registry.intern("Brazil");
+            var second = registry.intern(new String("Brazil"));
+
+            // Then
+            assertSame(first, second);
+            assertEquals(1, registry.size());
+        }
+
+        @Test
+        @DisplayName("returns teams equal to teams created directly")
+        void shouldReturnTeamsEqualToTeamsCreatedDirectly() {
+            // When
+            var interned = registry.intern("Brazil");
+
+            // Then
+            assertEquals(new Team("Brazil"), interned);
+            assertEquals(new Team("Brazil").hashCode(), interned.hashCode());
+        }
+
+        @Test
+        @DisplayName("fails with invalid name")
+        void shouldThrowExceptionForInvalidName() {
+            assertThrows(IllegalArgumentException.class, () -> registry.intern(null));
+            assertThrows(IllegalArgumentException.class, () -> registry.intern(" "));
+            assertEquals(0, registry.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("resolve operation")
+    class ResolveOperation {
+        @Test
+        @DisplayName("returns canonical instance for registered name")
+        void shouldReturnCanonicalInstanceForRegisteredName() {
+            // Given
+            var interned = registry.intern("Brazil");
+
+            // When/Then
+            assertSame(interned, registry.resolve("Brazil"));
+        }
+
+        @Test
+        @DisplayName("does not register unknown names")
+        void shouldNotRegisterUnknownNames() {
+            // When
+            var team = registry.resolve("Germany");
+
+            // Then
+            assertEquals("Germany", team.getName());
+            assertEquals(0, registry.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("team ids")
+    class TeamIds {
+        @Test
+        @DisplayName("assigns dense ids in registration order")
+        void shouldAssignDenseIdsInRegistrationOrder() {
+            // When
+            var brazil = registry.intern("Brazil");
+            var germany = registry.intern("Germany");
+            registry.intern("Brazil");
+            var spain = registry.intern("Spain");
+
+            // Then
+            assertAll(
+                    () -> assertEquals(0, brazil.getId()),
+                    () -> assertEquals(1, germany.getId()),
+                    () -> assertEquals(2, spain.getId()),
+                    () -> assertSame(germany, registry.getById(1)),
+                    () -> assertNull(registry.getById(3)));
+        }
+
+        @Test
+        @DisplayName("resolves ids of equal teams created elsewhere")
+        void shouldResolveIdsOfEqualTeams() {
+            // Given
+            var brazil = registry.intern("Brazil");
+
+            // When/Then
+            assertEquals(brazil.getId(), registry.idOf(new Team("Brazil")));
+            assertEquals(-1, registry.idOf(new Team("Germany")));
+            assertEquals(-1, new Team("Germany").getId());
+        }
+
+        @Test
+        @DisplayName("does not trust ids assigned by another registry")
+        void shouldNotTrustIdsAssignedByAnotherRegistry() {
+            // Given
+            registry.intern("Brazil");
+            var foreign = new TeamRegistry().intern("Germany");
+
+            // When/Then
+            assertEquals(0, foreign.getId());
+            assertEquals(-1, registry.idOf(foreign));
+        }
+
+        @Test
+        @DisplayName("keeps ids unique under concurrent registration")
+        void shouldKeepIdsUniqueUnderConcurrentRegistration() {
+            // When
+            java.util.stream.IntStream.range(0, 1_000).parallel()
+                    .forEach(i -> registry.intern("Team " + (i % 500)));
+
+            // Then
+            assertEquals(500, registry.size());
+            for (int id = 0; id < 500; id++) {
+                assertEquals(id, registry.getById(id).getId());
+            }
+        }
+    }
+}
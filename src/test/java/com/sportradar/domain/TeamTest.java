@@ -1,5 +1,7 @@
 package com.sportradar.domain;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -76,4 +78,21 @@ class TeamTest {
         // Then
         assertEquals("Spain", team.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("caches the name as read-only UTF-8 bytes")
+    void shouldCacheUtf8Name() {
+        // Given
+        var team = new Team("Côte d'Ivoire");
+
+        // When
+        var name = team.getUtf8Name();
+
+        // Then
+        byte[] bytes = new byte[name.limit()];
+        name.get(0, bytes);
+        assertArrayEquals("Côte d'Ivoire".getBytes(StandardCharsets.UTF_8), bytes);
+        assertTrue(name.isReadOnly());
+        assertSame(name, team.getUtf8Name());
+    }
+}
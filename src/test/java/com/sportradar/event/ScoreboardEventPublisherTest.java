@@ -0,0 +1,198 @@
+package com.sportradar.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+
+@DisplayName("ScoreboardEventPublisher")
+class ScoreboardEventPublisherTest {
+
+    private ScoreboardEventPublisher publisher;
+    private ManualExecutor executor;
+    private List<ScoreboardEvent> received;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new ScoreboardEventPublisher();
+        executor = new ManualExecutor();
+        received = new ArrayList<>();
+        match = new Match(new Team("Germany"), new Team("Brazil"));
+    }
+
+    private ScoreboardEvent event(ScoreboardEvent.Type type, long version, int previousPosition, int position) {
+        return new ScoreboardEvent(type, version, match.copy(), previousPosition, position);
+    }
+
+    @Nested
+    @DisplayName("delivery")
+    class Delivery {
+        @Test
+        @DisplayName("delivers published events in order on the executor")
+        void shouldDeliverEventsInOrderOnExecutor() {
+            // Given
+            publisher.subscribe(received::add, executor);
+            ScoreboardEvent started = event(ScoreboardEvent.Type.MATCH_STARTED, 1, -1, 0);
+            ScoreboardEvent finished = event(ScoreboardEvent.Type.MATCH_FINISHED, 2, 0, -1);
+
+            // When
+            publisher.publish(List.of(started));
+            executor.runAll();
+            publisher.publish(List.of(finished));
+
+            // Then
+            assertEquals(List.of(started), received);
+            executor.runAll();
+            assertEquals(List.of(started, finished), received);
+        }
+
+        @Test
+        @DisplayName("stops delivery after cancel")
+        void shouldStopDeliveryAfterCancel() {
+            // Given
+            ScoreboardSubscription subscription = publisher.subscribe(received::add, executor);
+            publisher.publish(List.of(event(ScoreboardEvent.Type.MATCH_STARTED, 1, -1, 0)));
+
+            // When
+            subscription.cancel();
+            executor.runAll();
+
+            // Then
+            assertTrue(received.isEmpty());
+            assertTrue(subscription.isCancelled());
+            assertFalse(publisher.hasSubscribers());
+        }
+
+        @Test
+        @DisplayName("cancels the subscription when the listener fails")
+        void shouldCancelSubscriptionWhenListenerFails() {
+            // Given
+            ScoreboardSubscription subscription = publisher.subscribe(event -> {
+                throw new IllegalStateException("listener failure");
+            }, executor);
+
+            // When
+            publisher.publish(List.of(event(ScoreboardEvent.Type.MATCH_STARTED, 1, -1, 0)));
+            executor.runAll();
+
+            // Then
+            assertTrue(subscription.isCancelled());
+            assertFalse(publisher.hasSubscribers());
+        }
+
+        @Test
+        @DisplayName("fails with null listener or executor")
+        void shouldFailWithNullListenerOrExecutor() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> publisher.subscribe(null, executor));
+            assertThrows(IllegalArgumentException.class, () -> publisher.subscribe(received::add, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("conflation")
+    class Conflation {
+        @Test
+        @DisplayName("keeps only the latest pending score of a match")
+        void shouldKeepOnlyLatestPendingScore() {
+            // Given
+            publisher.subscribe(received::add, executor);
+            match.updateScore(new Score(1, 0));
+            ScoreboardEvent first = event(ScoreboardEvent.Type.SCORE_CHANGED, 1, 3, 2);
+            match.updateScore(new Score(2, 0));
+            ScoreboardEvent second = event(ScoreboardEvent.Type.SCORE_CHANGED, 2, 2, 0);
+
+            // When
+            publisher.publish(List.of(first));
+            publisher.publish(List.of(second));
+            executor.runAll();
+
+            // Then
+            assertEquals(1, received.size());
+            assertEquals(2, received.get(0).getVersion());
+            assertEquals(2, received.get(0).getMatch().getHomeScore());
+            assertEquals(3, received.get(0).getPreviousPosition());
+            assertEquals(0, received.get(0).getPosition());
+        }
+
+        @Test
+        @DisplayName("skips matches that are started and finished before delivery")
+        void shouldSkipMatchesStartedAndFinishedBeforeDelivery() {
+            // Given
+            publisher.subscribe(received::add, executor);
+
+            // When
+            publisher.publish(List.of(event(ScoreboardEvent.Type.MATCH_STARTED, 1, -1, 0)));
+            publisher.publish(List.of(event(ScoreboardEvent.Type.SCORE_CHANGED, 2, 0, 0)));
+            publisher.publish(List.of(event(ScoreboardEvent.Type.MATCH_FINISHED, 3, 0, -1)));
+            executor.runAll();
+
+            // Then
+            assertTrue(received.isEmpty());
+        }
+
+        @Test
+        @DisplayName("delivers the finish of a match whose start was delivered")
+        void shouldDeliverFinishOfDeliveredMatch() {
+            // Given
+            publisher.subscribe(received::add, executor);
+            publisher.publish(List.of(event(ScoreboardEvent.Type.MATCH_STARTED, 1, -1, 0)));
+            executor.runAll();
+
+            // When
+            publisher.publish(List.of(event(ScoreboardEvent.Type.SCORE_CHANGED, 2, 0, 0)));
+            publisher.publish(List.of(event(ScoreboardEvent.Type.MATCH_FINISHED, 3, 0, -1)));
+            executor.runAll();
+
+            // Then
+            assertEquals(2, received.size());
+            assertEquals(ScoreboardEvent.Type.MATCH_FINISHED, received.get(1).getType());
+        }
+
+        @Test
+        @DisplayName("buffers events for each subscriber separately")
+        void shouldBufferEventsPerSubscriber() {
+            // Given
+            List<ScoreboardEvent> fastReceived = new ArrayList<>();
+            publisher.subscribe(fastReceived::add, Runnable::run);
+            publisher.subscribe(received::add, executor);
+
+            // When
+            publisher.publish(List.of(event(ScoreboardEvent.Type.SCORE_CHANGED, 1, 0, 0)));
+            publisher.publish(List.of(event(ScoreboardEvent.Type.SCORE_CHANGED, 2, 0, 0)));
+            executor.runAll();
+
+            // Then
+            assertEquals(2, fastReceived.size());
+            assertEquals(1, received.size());
+        }
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.sportradar.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.ScoreboardService;
+
+@DisplayName("ScoreboardHttpServer")
+class ScoreboardHttpServerTest {
+
+    private ScoreboardService scoreboard;
+    private ScoreboardHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = spy(ScoreboardServiceFactory.createDefault());
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        server = new ScoreboardHttpServer(scoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("should return the summary as JSON with an ETag")
+    void shouldReturnSummaryWithEtag() throws Exception {
+        // When
+        HttpResponse<String> response = get("/summary", null);
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals("{\"version\":2,\"matches\":["
+                + "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\",\"homeScore\":10,\"awayScore\":2}]}",
+                response.body());
+        assertTrue(response.headers().firstValue("ETag").isPresent());
+    }
+
+    @Test
+    @DisplayName("should answer an unchanged poll with 304 without reading the summary")
+    void shouldReturnNotModifiedForCurrentEtag() throws Exception {
+        // Given
+        String etag = get("/summary", null).headers().firstValue("ETag").orElseThrow();
+
+        // When
+        HttpResponse<String> response = get("/summary", etag);
+
+        // Then
+        assertEquals(304, response.statusCode());
+        assertEquals(etag, response.headers().firstValue("ETag").orElseThrow());
+        verify(scoreboard, never()).getSummary();
+    }
+
+    @Test
+    @DisplayName("should return the new summary after a change")
+    void shouldReturnNewSummaryAfterChange() throws Exception {
+        // Given
+        String etag = get("/summary", null).headers().firstValue("ETag").orElseThrow();
+        scoreboard.updateScore("Spain", "Brazil", 10, 3);
+
+        // When
+        HttpResponse<String> response = get("/summary", etag);
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertNotEquals(etag, response.headers().firstValue("ETag").orElseThrow());
+        assertTrue(response.body().contains("\"awayScore\":3"));
+    }
+
+    @Test
+    @DisplayName("should serialize the read version when a score changes during serialization")
+    void shouldSerializeReadVersionWhenScoreChanges() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Object snapshot = invocation.callRealMethod();
+            scoreboard.updateScore("Spain", "Brazil", 10, 3);
+            return snapshot;
+        }).doCallRealMethod().when(scoreboard).getSummarySnapshot();
+
+        // When
+        HttpResponse<String> changed = get("/summary", null);
+        HttpResponse<String> next = get("/summary", null);
+
+        // Then
+        assertEquals("{\"version\":2,\"matches\":["
+                + "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\",\"homeScore\":10,\"awayScore\":2}]}",
+                changed.body());
+        assertTrue(changed.headers().firstValue("ETag").orElseThrow().endsWith("-2\""));
+        assertEquals("{\"version\":3,\"matches\":["
+                + "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\",\"homeScore\":10,\"awayScore\":3}]}",
+                next.body());
+        assertTrue(next.headers().firstValue("ETag").orElseThrow().endsWith("-3\""));
+    }
+
+    @Test
+    @DisplayName("should reject methods other than GET")
+    void shouldRejectOtherMethods() throws Exception {
+        // When
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/summary"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(405, response.statusCode());
+    }
+
+    @Test
+    @DisplayName("should return 404 for unknown paths")
+    void shouldReturnNotFoundForUnknownPath() throws Exception {
+        assertEquals(404, get("/summary/unknown", null).statusCode());
+    }
+
+    @Nested
+    @DisplayName("event stream")
+    class EventStream {
+        @Test
+        @DisplayName("does not listen to the scoreboard until a client connects")
+        void shouldNotSubscribeBeforeFirstClient() throws Exception {
+            // When
+            scoreboard.updateScore("Spain", "Brazil", 10, 3);
+            get("/summary", null);
+
+            // Then
+            verify(scoreboard, never()).subscribe(any(), any());
+        }
+
+        @Test
+        @DisplayName("sends the summary on connect and then the changes")
+        void shouldSendSummaryThenChanges() throws Exception {
+            try (Stream<String> body = stream(null)) {
+                // Given
+                Iterator<String> lines = body.iterator();
+                List<String> summary = readEvent(lines);
+
+                // When
+                scoreboard.updateScore("Spain", "Brazil", 10, 3);
+                scoreboard.startMatch("Mexico", "Canada");
+
+                // Then
+                assertEquals("event: summary", summary.get(0));
+                assertTrue(summary.get(1).startsWith("id: ") && summary.get(1).endsWith("-2"));
+                assertTrue(summary.get(2).startsWith("data: {\"version\":2,\"matches\":["));
+                List<String> scoreChanged = readEvent(lines);
+                assertEquals("event: score-changed", scoreChanged.get(0));
+                assertTrue(scoreChanged.get(1).endsWith("-3"));
+                assertTrue(scoreChanged.get(2).contains("\"awayScore\":3"));
+                assertEquals("event: match-started", readEvent(lines).get(0));
+            }
+        }
+
+        @Test
+        @DisplayName("replays only the missed changes to a resuming client")
+        void shouldReplayMissedChanges() throws Exception {
+            // Given
+            String lastEventId;
+            try (Stream<String> body = stream(null)) {
+                lastEventId = readEvent(body.iterator()).get(1).substring("id: ".length());
+            }
+            scoreboard.startMatch("Mexico", "Canada");
+            scoreboard.finishMatch("Spain", "Brazil");
+
+            // When
+            try (Stream<String> body = stream(lastEventId)) {
+                Iterator<String> lines = body.iterator();
+
+                // Then
+                assertEquals("event: match-started", readEvent(lines).get(0));
+                assertEquals("event: match-finished", readEvent(lines).get(0));
+                scoreboard.updateScore("Mexico", "Canada", 1, 0);
+                assertEquals("event: score-changed", readEvent(lines).get(0));
+            }
+        }
+
+        @Test
+        @DisplayName("sends the summary to a client resuming from an unknown event")
+        void shouldSendSummaryForUnknownLastEventId() throws Exception {
+            try (Stream<String> body = stream("other-instance-1")) {
+                assertEquals("event: summary", readEvent(body.iterator()).get(0));
+            }
+        }
+    }
+
+    /**
+     * Sends a GET request to the server.
+     *
+     * @param path        the request path
+     * @param ifNoneMatch the If-None-Match header, or null
+     * @return the response
+     */
+    private HttpResponse<String> get(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Returns the URI of a path on the server.
+     *
+     * @param path the request path
+     * @return the URI
+     */
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+
+    /**
+     * Opens the event stream.
+     *
+     * @param lastEventId the Last-Event-ID header, or null
+     * @return the lines of the stream
+     */
+    private Stream<String> stream(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/summary/stream")).GET();
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        assertEquals("text/event-stream; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+        return response.body();
+    }
+
+    /**
+     * Reads the lines of the next event from a stream.
+     *
+     * @param lines the lines of the stream
+     * @return the lines of the event, without the terminating blank line
+     */
+    private static List<String> readEvent(Iterator<String> lines) {
+        return assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            List<String> event = new ArrayList<>();
+            for (String line = lines.next(); !line.isEmpty(); line = lines.next()) {
+                event.add(line);
+            }
+            return event;
+        });
+    }
+}
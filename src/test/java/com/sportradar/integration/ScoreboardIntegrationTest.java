@@ -2,17 +2,25 @@ package com.sportradar.integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.sportradar.domain.Match;
+import com.sportradar.event.ScoreboardEvent;
 import com.sportradar.exception.MatchNotFoundException;
 import com.sportradar.exception.TeamAlreadyPlayingException;
 import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.CommandResult;
+import com.sportradar.service.JournaledScoreboardService;
+import com.sportradar.service.ScoreboardCommand;
 import com.sportradar.service.ScoreboardService;
 
 @DisplayName("Scoreboard Integration")
@@ -64,6 +72,80 @@ class ScoreboardIntegrationTest {
         assertMatchEquals(summary.get(4), "Germany", "France", 2, 2);
     }
 
+    @Test
+    @DisplayName("orders matches the same way with packed key storage")
+    void shouldOrderMatchesTheSameWayWithPackedKeyStorage() {
+        // Given
+        ScoreboardService packed = ScoreboardServiceFactory.createWithPackedKeys();
+        packed.startMatch("Mexico", "Canada");
+        packed.startMatch("Spain", "Brazil");
+        packed.startMatch("Germany", "France");
+        packed.updateScore("Mexico", "Canada", 0, 5);
+        packed.updateScore("Spain", "Brazil", 10, 2);
+        packed.finishMatch("Germany", "France");
+
+        // When
+        List<Match> summary = packed.getSummary();
+
+        // Then
+        assertEquals(2, summary.size());
+        assertMatchEquals(summary.get(0), "Spain", "Brazil", 10, 2);
+        assertMatchEquals(summary.get(1), "Mexico", "Canada", 0, 5);
+        assertThrows(TeamAlreadyPlayingException.class, () -> packed.startMatch("Brazil", "Germany"));
+    }
+
+    @Test
+    @DisplayName("applies a batch of feed events")
+    void shouldApplyBatchOfFeedEvents() {
+        // Given
+        scoreboard.startMatch("Mexico", "Canada");
+
+        // When
+        List<CommandResult> results = scoreboard.applyBatch(List.of(
+                ScoreboardCommand.start("Spain", "Brazil"),
+                ScoreboardCommand.updateScore("Spain", "Brazil", 10, 2),
+                ScoreboardCommand.start("Brazil", "Italy"),
+                ScoreboardCommand.updateScore("Mexico", "Canada", 0, 5),
+                ScoreboardCommand.finish("Germany", "France")));
+
+        // Then
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertInstanceOf(TeamAlreadyPlayingException.class, results.get(2).getError().get());
+        assertTrue(results.get(3).isSuccess());
+        assertInstanceOf(MatchNotFoundException.class, results.get(4).getError().get());
+
+        List<Match> summary = scoreboard.getSummary();
+        assertEquals(2, summary.size());
+        assertMatchEquals(summary.get(0), "Spain", "Brazil", 10, 2);
+        assertMatchEquals(summary.get(1), "Mexico", "Canada", 0, 5);
+    }
+
+    @Test
+    @DisplayName("restores live matches from the journal after a restart")
+    void shouldRestoreLiveMatchesFromJournal(@TempDir Path directory) {
+        // Given
+        Path journalFile = directory.resolve("scoreboard.journal");
+        try (JournaledScoreboardService journaled = ScoreboardServiceFactory.createJournaled(journalFile)) {
+            journaled.startMatch("Mexico", "Canada");
+            journaled.startMatch("Spain", "Brazil");
+            journaled.startMatch("Germany", "France");
+            journaled.updateScore("Mexico", "Canada", 0, 5);
+            journaled.updateScore("Spain", "Brazil", 1, 0);
+            journaled.finishMatch("Germany", "France");
+        }
+
+        // When
+        try (JournaledScoreboardService restarted = ScoreboardServiceFactory.createJournaled(journalFile)) {
+            // Then
+            List<Match> summary = restarted.getSummary();
+            assertEquals(2, summary.size());
+            assertMatchEquals(summary.get(0), "Mexico", "Canada", 0, 5);
+            assertMatchEquals(summary.get(1), "Spain", "Brazil", 1, 0);
+            assertThrows(TeamAlreadyPlayingException.class, () -> restarted.startMatch("Brazil", "Italy"));
+        }
+    }
+
     @Nested
     @DisplayName("team availability")
     class TeamAvailability {
@@ -91,6 +173,43 @@ class ScoreboardIntegrationTest {
         }
     }
 
+    @Test
+    @DisplayName("notifies subscribed listeners of changes with the positions of the changed match")
+    void shouldNotifySubscribedListenersOfChanges() {
+        // Given
+        List<ScoreboardEvent> events = new ArrayList<>();
+        scoreboard.subscribe(events::add, Runnable::run);
+
+        // When
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.finishMatch("Spain", "Brazil");
+
+        // Then
+        assertEquals(List.of(
+                ScoreboardEvent.Type.MATCH_STARTED,
+                ScoreboardEvent.Type.MATCH_STARTED,
+                ScoreboardEvent.Type.SCORE_CHANGED,
+                ScoreboardEvent.Type.MATCH_FINISHED),
+                events.stream().map(ScoreboardEvent::getType).collect(Collectors.toList()));
+
+        ScoreboardEvent secondStarted = events.get(1);
+        assertEquals(-1, secondStarted.getPreviousPosition());
+        assertEquals(0, secondStarted.getPosition());
+
+        ScoreboardEvent scoreChanged = events.get(2);
+        assertMatchEquals(scoreChanged.getMatch(), "Mexico", "Canada", 1, 0);
+        assertEquals(1, scoreChanged.getPreviousPosition());
+        assertEquals(0, scoreChanged.getPosition());
+
+        ScoreboardEvent finished = events.get(3);
+        assertMatchEquals(finished.getMatch(), "Spain", "Brazil", 0, 0);
+        assertEquals(1, finished.getPreviousPosition());
+        assertEquals(-1, finished.getPosition());
+        assertEquals(scoreboard.getSummarySnapshot().getVersion(), finished.getVersion());
+    }
+
     @Nested
     @DisplayName("match operations")
     class MatchOperations {
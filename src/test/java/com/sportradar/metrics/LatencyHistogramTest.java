@@ -0,0 +1,94 @@
+package com.sportradar.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencyHistogram")
+class LatencyHistogramTest {
+
+    @Nested
+    @DisplayName("buckets")
+    class Buckets {
+        @Test
+        @DisplayName("places every value in a bucket whose range contains it")
+        void shouldPlaceValueInContainingBucket() {
+            // Given
+            long[] values = {0, 1, 31, 32, 63, 64, 65, 1_000, 123_456, 1L << 40, Long.MAX_VALUE};
+
+            for (long value : values) {
+                // When
+                int index = LatencyHistogram.bucketIndex(value);
+
+                // Then
+                long lowest = index == 0 ? 0 : LatencyHistogram.highestValueOf(index - 1) + 1;
+                assertTrue(lowest <= value && value <= LatencyHistogram.highestValueOf(index),
+                        "Value " + value + " outside bucket " + index);
+            }
+        }
+
+        @Test
+        @DisplayName("bounds the relative error of a bucket")
+        void shouldBoundRelativeError() {
+            for (int index = 33; index < LatencyHistogram.bucketIndex(Long.MAX_VALUE); index++) {
+                // When
+                long lowest = LatencyHistogram.highestValueOf(index - 1) + 1;
+                long highest = LatencyHistogram.highestValueOf(index);
+
+                // Then
+                assertTrue((double) (highest - lowest) / lowest < 0.033, "Bucket " + index + " too wide");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot")
+    class Snapshot {
+        @Test
+        @DisplayName("reports percentiles, mean and maximum")
+        void shouldReportStatistics() {
+            // Given
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int value = 1; value <= 1_000; value++) {
+                histogram.record(value * 1_000L);
+            }
+
+            // When
+            HistogramSnapshot snapshot = histogram.snapshot();
+
+            // Then
+            assertEquals(1_000, snapshot.getCount());
+            assertEquals(500_500, snapshot.getMeanNanos(), 0.001);
+            assertEquals(1_000_000, snapshot.getMaxNanos());
+            assertEquals(500_000, snapshot.getValueAtPercentile(50), 500_000 * 0.033);
+            assertEquals(990_000, snapshot.getValueAtPercentile(99), 990_000 * 0.033);
+            assertEquals(1_000_000, snapshot.getValueAtPercentile(100));
+            assertTrue(snapshot.getValueAtPercentile(50) >= 500_000);
+        }
+
+        @Test
+        @DisplayName("reports zero when nothing was recorded")
+        void shouldReportZeroWhenEmpty() {
+            // When
+            HistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+
+            // Then
+            assertEquals(0, snapshot.getCount());
+            assertEquals(0, snapshot.getMeanNanos());
+            assertEquals(0, snapshot.getValueAtPercentile(99));
+        }
+
+        @Test
+        @DisplayName("rejects percentiles outside 0 to 100")
+        void shouldRejectInvalidPercentile() {
+            // Given
+            HistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(-1));
+            assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(100.1));
+        }
+    }
+}
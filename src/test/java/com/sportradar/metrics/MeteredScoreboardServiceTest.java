@@ -0,0 +1,125 @@
+package com.sportradar.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.ScoreboardCommand;
+
+@DisplayName("MeteredScoreboardService")
+class MeteredScoreboardServiceTest {
+
+    private static final long TICK_NANOS = 1_000;
+
+    private AtomicLong clock;
+    private MeteredScoreboardService scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        scoreboard = new MeteredScoreboardService(ScoreboardServiceFactory.createDefault(),
+                () -> clock.getAndAdd(TICK_NANOS));
+    }
+
+    @Test
+    @DisplayName("should throw exception when delegate is null")
+    void shouldThrowExceptionWhenDelegateIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new MeteredScoreboardService(null));
+    }
+
+    @Nested
+    @DisplayName("calls")
+    class Calls {
+        @Test
+        @DisplayName("counts the calls and latencies of every operation")
+        void shouldCountCallsAndLatencies() {
+            // Given
+            scoreboard.startMatch("Mexico", "Canada");
+            scoreboard.updateScore("Mexico", "Canada", 0, 5);
+            scoreboard.getSummary();
+            scoreboard.getSummary(10);
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary("unknown"));
+            scoreboard.getMatchForTeam("Canada");
+            scoreboard.finishMatch("Mexico", "Canada");
+
+            // When
+            MetricsSnapshot metrics = scoreboard.getMetrics();
+
+            // Then
+            assertEquals(1, metrics.get(ScoreboardOperation.START_MATCH).getCount());
+            assertEquals(1, metrics.get(ScoreboardOperation.UPDATE_SCORE).getCount());
+            assertEquals(1, metrics.get(ScoreboardOperation.FINISH_MATCH).getCount());
+            assertEquals(3, metrics.get(ScoreboardOperation.GET_SUMMARY).getCount());
+            assertEquals(1, metrics.get(ScoreboardOperation.GET_SUMMARY).getFailureCount());
+            assertEquals(1, metrics.get(ScoreboardOperation.GET_MATCH_FOR_TEAM).getCount());
+            assertEquals(0, metrics.get(ScoreboardOperation.APPLY_BATCH).getCount());
+            assertEquals(TICK_NANOS, metrics.get(ScoreboardOperation.START_MATCH).getLatency().getMaxNanos());
+            assertEquals(0, metrics.get(ScoreboardOperation.START_MATCH).getFailureCount());
+        }
+
+        @Test
+        @DisplayName("computes the throughput over the elapsed time")
+        void shouldComputeThroughput() {
+            // Given
+            scoreboard.startMatch("Mexico", "Canada");
+
+            // When
+            MetricsSnapshot metrics = scoreboard.getMetrics();
+
+            // Then
+            assertEquals(3 * TICK_NANOS, metrics.getElapsedNanos());
+            assertEquals(1e9 / (3 * TICK_NANOS), metrics.get(ScoreboardOperation.START_MATCH).getThroughput(),
+                    0.001);
+        }
+    }
+
+    @Nested
+    @DisplayName("failures")
+    class Failures {
+        @Test
+        @DisplayName("counts exceptions by type and rethrows them")
+        void shouldCountExceptionsByType() {
+            // Given
+            scoreboard.startMatch("Mexico", "Canada");
+
+            // When
+            assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.startMatch("Mexico", "Spain"));
+            assertThrows(MatchNotFoundException.class, () -> scoreboard.updateScore("Spain", "Brazil", 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "Canada", -1, 0));
+
+            // Then
+            MetricsSnapshot metrics = scoreboard.getMetrics();
+            OperationSnapshot start = metrics.get(ScoreboardOperation.START_MATCH);
+            OperationSnapshot update = metrics.get(ScoreboardOperation.UPDATE_SCORE);
+            assertEquals(2, start.getCount());
+            assertEquals(1, start.getTeamAlreadyPlayingCount());
+            assertEquals(2, update.getCount());
+            assertEquals(1, update.getMatchNotFoundCount());
+            assertEquals(1, update.getOtherFailureCount());
+            assertEquals(2, update.getFailureCount());
+        }
+
+        @Test
+        @DisplayName("counts the failed commands of a batch")
+        void shouldCountFailedBatchCommands() {
+            // When
+            scoreboard.applyBatch(List.of(ScoreboardCommand.start("Mexico", "Canada"),
+                    ScoreboardCommand.start("Mexico", "Spain"), ScoreboardCommand.finish("Spain", "Brazil")));
+
+            // Then
+            OperationSnapshot batch = scoreboard.getMetrics().get(ScoreboardOperation.APPLY_BATCH);
+            assertEquals(1, batch.getCount());
+            assertEquals(1, batch.getTeamAlreadyPlayingCount());
+            assertEquals(1, batch.getMatchNotFoundCount());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.sportradar.registry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.exception.CompetitionNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.factory.ScoreboardServiceFactory;
+
+@DisplayName("ScoreboardRegistry")
+class ScoreboardRegistryTest {
+
+    private ScoreboardRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ScoreboardRegistry(2, ScoreboardServiceFactory.TOTAL_SCORE_AND_TIME_COMPARATOR);
+        registry.addCompetition("World Cup");
+        registry.addCompetition("Copa America");
+        registry.addCompetition("Euro");
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    private <T> T await(CompletableFuture<T> future) throws Exception {
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("competitions")
+    class Competitions {
+        @Test
+        @DisplayName("keeps team uniqueness per competition")
+        void shouldKeepTeamUniquenessPerCompetition() throws Exception {
+            // Given
+            await(registry.startMatch("World Cup", "Brazil", "Germany"));
+
+            // When
+            await(registry.startMatch("Copa America", "Brazil", "Argentina"));
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> await(registry.startMatch("World Cup", "Brazil", "Spain")));
+
+            // Then
+            assertInstanceOf(TeamAlreadyPlayingException.class, exception.getCause());
+            assertEquals(1, registry.getSummary("World Cup").size());
+            assertEquals(1, registry.getSummary("Copa America").size());
+        }
+
+        @Test
+        @DisplayName("rejects unknown and duplicate competitions")
+        void shouldRejectUnknownAndDuplicateCompetitions() {
+            // When/Then
+            assertThrows(CompetitionNotFoundException.class, () -> registry.startMatch("Olympics", "Brazil", "Spain"));
+            assertThrows(CompetitionNotFoundException.class, () -> registry.getSummary("Olympics"));
+            assertThrows(IllegalArgumentException.class, () -> registry.addCompetition("Euro"));
+            assertThrows(IllegalArgumentException.class, () -> registry.addCompetition(" "));
+        }
+
+        @Test
+        @DisplayName("removes a competition")
+        void shouldRemoveCompetition() {
+            // When
+            registry.removeCompetition("Euro");
+
+            // Then
+            assertEquals(Set.of("World Cup", "Copa America"), registry.getCompetitions());
+            assertThrows(CompetitionNotFoundException.class, () -> registry.removeCompetition("Euro"));
+        }
+
+        @Test
+        @DisplayName("applies changes of one competition in submission order")
+        void shouldApplyChangesInSubmissionOrder() throws Exception {
+            // Given
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            futures.add(registry.startMatch("Euro", "Spain", "Italy"));
+            for (int goals = 1; goals <= 50; goals++) {
+                futures.add(registry.updateScore("Euro", "Spain", "Italy", goals, 0));
+            }
+
+            // When
+            await(CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])));
+
+            // Then
+            assertEquals(50, registry.getSummary("Euro").get(0).getHomeScore());
+        }
+
+        @Test
+        @DisplayName("rejects changes after close")
+        void shouldRejectChangesAfterClose() {
+            // When
+            registry.close();
+
+            // Then
+            assertThrows(IllegalStateException.class, () -> registry.startMatch("Euro", "Spain", "Italy"));
+            assertTrue(registry.getSummary("Euro").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("global summary")
+    class GlobalSummary {
+        @Test
+        @DisplayName("merges all competitions in summary order")
+        void shouldMergeAllCompetitionsInSummaryOrder() throws Exception {
+            // Given
+            await(registry.startMatch("World Cup", "Brazil", "Germany"));
+            await(registry.startMatch("Copa America", "Uruguay", "Chile"));
+            await(registry.startMatch("Euro", "Spain", "Italy"));
+            await(registry.startMatch("World Cup", "Mexico", "Canada"));
+            await(registry.updateScore("World Cup", "Brazil", "Germany", 3, 1));
+            await(registry.updateScore("Euro", "Spain", "Italy", 2, 0));
+            await(registry.updateScore("Copa America", "Uruguay", "Chile", 2, 2));
+
+            // When
+            List<CompetitionMatch> summary = registry.getGlobalSummary();
+
+            // Then
+            assertEquals(4, summary.size());
+            assertEntry(summary.get(0), "Copa America", "Uruguay");
+            assertEntry(summary.get(1), "World Cup", "Brazil");
+            assertEntry(summary.get(2), "Euro", "Spain");
+            assertEntry(summary.get(3), "World Cup", "Mexico");
+        }
+
+        @Test
+        @DisplayName("returns only the leading matches up to the limit")
+        void shouldReturnLeadingMatchesUpToLimit() throws Exception {
+            // Given
+            await(registry.startMatch("World Cup", "Brazil", "Germany"));
+            await(registry.startMatch("Euro", "Spain", "Italy"));
+            await(registry.updateScore("Euro", "Spain", "Italy", 1, 0));
+
+            // When
+            List<CompetitionMatch> summary = registry.getGlobalSummary(1);
+
+            // Then
+            assertEquals(1, summary.size());
+            assertEntry(summary.get(0), "Euro", "Spain");
+            assertTrue(registry.getGlobalSummary(0).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> registry.getGlobalSummary(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("global summary under concurrent changes")
+    class GlobalSummaryUnderChanges {
+        @Test
+        @DisplayName("merges copies that the shards do not change afterwards")
+        void shouldMergeCopiesThatShardsDoNotChange() throws Exception {
+            // Given
+            for (int i = 0; i < 10; i++) {
+                await(registry.startMatch("World Cup", "Home " + i, "Away " + i));
+                await(registry.startMatch("Euro", "Home " + i, "Away " + i));
+            }
+            List<CompletableFuture<Void>> updates = new ArrayList<>();
+            for (int goals = 1; goals <= 200; goals++) {
+                updates.add(registry.updateScore("World Cup", "Home " + goals % 10, "Away " + goals % 10, goals, 0));
+                updates.add(registry.updateScore("Euro", "Home " + goals % 10, "Away " + goals % 10, 0, goals));
+            }
+
+            // When
+            List<List<CompetitionMatch>> summaries = new ArrayList<>();
+            List<List<Integer>> totals = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                List<CompetitionMatch> summary = registry.getGlobalSummary();
+                summaries.add(summary);
+                totals.add(totalScores(summary));
+            }
+            await(CompletableFuture.allOf(updates.toArray(new CompletableFuture<?>[0])));
+
+            // Then
+            for (int i = 0; i < summaries.size(); i++) {
+                List<CompetitionMatch> summary = summaries.get(i);
+                assertEquals(20, summary.size());
+                assertEquals(totals.get(i), totalScores(summary));
+                for (int j = 1; j < summary.size(); j++) {
+                    assertTrue(ScoreboardServiceFactory.TOTAL_SCORE_AND_TIME_COMPARATOR
+                            .compare(summary.get(j - 1).getMatch(), summary.get(j).getMatch()) <= 0);
+                }
+            }
+        }
+
+        private List<Integer> totalScores(List<CompetitionMatch> summary) {
+            List<Integer> totals = new ArrayList<>(summary.size());
+            for (CompetitionMatch entry : summary) {
+                totals.add(entry.getMatch().getTotalScore());
+            }
+            return totals;
+        }
+    }
+
+    private void assertEntry(CompetitionMatch entry, String competition, String homeTeamName) {
+        Match match = entry.getMatch();
+        assertEquals(competition, entry.getCompetition());
+        assertEquals(homeTeamName, match.getHomeTeam().getName());
+    }
+}
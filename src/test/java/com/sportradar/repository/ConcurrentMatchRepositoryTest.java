@@ -0,0 +1,256 @@
+package com.sportradar.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+
+@DisplayName("ConcurrentMatchRepository")
+class ConcurrentMatchRepositoryTest extends MatchRepositoryContractTest {
+
+    @Override
+    MatchRepository createRepository() {
+        return new ConcurrentMatchRepository();
+    }
+
+    @Nested
+    @DisplayName("save operation")
+    class SaveOperation {
+        @Test
+        @DisplayName("stores match correctly")
+        void shouldStoreMatch() {
+            // When
+            repository.save(match);
+
+            // Then
+            Optional<Match> found = repository.findByTeams(homeTeam, awayTeam);
+            assertTrue(found.isPresent());
+            assertEquals(match, found.get());
+        }
+
+        @Test
+        @DisplayName("updates existing match")
+        void shouldUpdateExistingMatch() {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(2, 1));
+
+            // When
+            repository.save(match);
+
+            // Then
+            Optional<Match> found = repository.findByTeams(homeTeam, awayTeam);
+            assertTrue(found.isPresent());
+            assertEquals(2, found.get().getHomeScore());
+            assertEquals(1, found.get().getAwayScore());
+        }
+
+        @Test
+        @DisplayName("rejects new match with a team that is already playing")
+        void shouldRejectNewMatchWithPlayingTeam() {
+            // Given
+            repository.save(match);
+            Team thirdTeam = new Team("France");
+
+            // When/Then
+            TeamAlreadyPlayingException exception = assertThrows(TeamAlreadyPlayingException.class,
+                    () -> repository.save(new Match(thirdTeam, awayTeam)));
+
+            assertEquals(awayTeam, exception.getTeam());
+            assertFalse(repository.existsByTeam(thirdTeam));
+            assertEquals(1, repository.findAll().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("update operation")
+    class UpdateOperation {
+        @Test
+        @DisplayName("replaces a stored match")
+        void shouldReplaceStoredMatch() {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(1, 0));
+
+            // When
+            boolean updated = repository.update(match);
+
+            // Then
+            assertTrue(updated);
+            assertEquals(1, repository.findByTeams(homeTeam, awayTeam).get().getHomeScore());
+        }
+
+        @Test
+        @DisplayName("never adds a match that is not stored")
+        void shouldNeverAddMatchThatIsNotStored() {
+            // Given
+            repository.save(match);
+            repository.delete(match);
+
+            // When
+            boolean updated = repository.update(match);
+
+            // Then
+            assertFalse(updated);
+            assertFalse(repository.findByTeams(homeTeam, awayTeam).isPresent());
+            assertFalse(repository.existsByTeam(homeTeam));
+            assertFalse(repository.existsByTeam(awayTeam));
+        }
+    }
+
+    @Nested
+    @DisplayName("delete operation")
+    class DeleteOperation {
+        @Test
+        @DisplayName("removes match and releases its teams")
+        void shouldRemoveMatch() {
+            // Given
+            repository.save(match);
+
+            // When
+            repository.delete(match);
+
+            // Then
+            assertFalse(repository.findByTeams(homeTeam, awayTeam).isPresent());
+            assertFalse(repository.existsByTeam(homeTeam));
+            assertFalse(repository.existsByTeam(awayTeam));
+        }
+
+        @Test
+        @DisplayName("handles deletion of non-existent match")
+        void shouldHandleNonExistentMatchDeletion() {
+            // When/Then - should not throw
+            assertDoesNotThrow(() -> repository.delete(match));
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrent access")
+    class ConcurrentAccess {
+        @Test
+        @DisplayName("allows only one match per team when started concurrently")
+        void shouldAllowOnlyOneMatchPerTeamWhenStartedConcurrently() throws Exception {
+            // Given
+            int threads = 16;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                Match contender = new Match(homeTeam, new Team("Opponent " + i));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        repository.save(contender);
+                        return true;
+                    } catch (TeamAlreadyPlayingException e) {
+                        return false;
+                    }
+                }));
+            }
+
+            // When
+            start.countDown();
+            int saved = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    saved++;
+                }
+            }
+            executor.shutdown();
+
+            // Then
+            assertEquals(1, saved);
+            assertEquals(1, repository.findAll().size());
+        }
+
+        @Test
+        @DisplayName("never brings back a match finished during concurrent updates")
+        void shouldNeverBringBackMatchFinishedDuringConcurrentUpdates() throws Exception {
+            // Given
+            int rounds = 500;
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                for (int round = 0; round < rounds; round++) {
+                    Match live = new Match(new Team("Home " + round), new Team("Away " + round));
+                    repository.save(live);
+                    CountDownLatch start = new CountDownLatch(1);
+
+                    // When
+                    Future<?> updates = executor.submit(() -> {
+                        start.await();
+                        for (int goals = 1; goals <= 50; goals++) {
+                            live.updateScore(new Score(goals, 0));
+                            repository.update(live);
+                        }
+                        return null;
+                    });
+                    Future<?> finish = executor.submit(() -> {
+                        start.await();
+                        repository.delete(live);
+                        return null;
+                    });
+                    start.countDown();
+                    updates.get(10, TimeUnit.SECONDS);
+                    finish.get(10, TimeUnit.SECONDS);
+
+                    // Then
+                    assertFalse(repository.findByTeams(live.getHomeTeam(), live.getAwayTeam()).isPresent());
+                    assertFalse(repository.existsByTeam(live.getHomeTeam()));
+                    assertFalse(repository.existsByTeam(live.getAwayTeam()));
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertTrue(repository.findAll().isEmpty());
+        }
+
+        @Test
+        @DisplayName("keeps all matches from concurrent writers")
+        void shouldKeepAllMatchesFromConcurrentWriters() throws Exception {
+            // Given
+            int threads = 8;
+            int matchesPerThread = 500;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> results = new ArrayList<>();
+
+            // When
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < matchesPerThread; i++) {
+                        Match started = new Match(new Team("Home " + thread + "-" + i),
+                                new Team("Away " + thread + "-" + i));
+                        repository.save(started);
+                        if (i % 2 == 0) {
+                            repository.delete(started);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then
+            assertEquals(threads * matchesPerThread / 2, repository.findAll().size());
+        }
+    }
+}
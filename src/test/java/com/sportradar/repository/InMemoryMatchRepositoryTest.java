@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.util.List;
 import java.util.Optional;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,19 +14,11 @@ import com.sportradar.domain.Score;
 import com.sportradar.domain.Team;
 
 @DisplayName("InMemoryMatchRepository")
-class InMemoryMatchRepositoryTest {
-
-    private MatchRepository repository;
-    private Team homeTeam;
-    private Team awayTeam;
-    private Match match;
-
-    @BeforeEach
-    void setUp() {
-        repository = new InMemoryMatchRepository();
-        homeTeam = new Team("Germany");
-        awayTeam = new Team("Brazil");
-        match = new Match(homeTeam, awayTeam);
+class InMemoryMatchRepositoryTest extends MatchRepositoryContractTest {
+
+    @Override
+    MatchRepository createRepository() {
+        return new InMemoryMatchRepository();
     }
 
     @Nested
@@ -198,5 +189,43 @@ class InMemoryMatchRepositoryTest {
             assertFalse(repository.existsByTeam(awayTeam));
             assertTrue(repository.existsByTeam(thirdTeam));
         }
+
+        @Test
+        @DisplayName("releases teams of a match saved several times")
+        void shouldReleaseTeamsOfMatchSavedSeveralTimes() {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(1, 0));
+            repository.save(match);
+
+            // When
+            repository.delete(match);
+
+            // Then
+            assertFalse(repository.existsByTeam(homeTeam));
+            assertFalse(repository.existsByTeam(awayTeam));
+        }
+
+        @Test
+        @DisplayName("releases every team when many matches are finished")
+        void shouldReleaseEveryTeamWhenManyMatchesAreFinished() {
+            // Given
+            int matchCount = 10_000;
+            Match[] started = new Match[matchCount];
+            for (int i = 0; i < matchCount; i++) {
+                started[i] = new Match(new Team("Home " + i), new Team("Away " + i));
+                repository.save(started[i]);
+            }
+
+            // When
+            for (Match finished : started) {
+                repository.delete(finished);
+            }
+
+            // Then
+            assertTrue(repository.findAll().isEmpty());
+            assertFalse(repository.existsByTeam(new Team("Home 0")));
+            assertFalse(repository.existsByTeam(new Team("Away " + (matchCount - 1))));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,463 @@
+package com.sportradar.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.ScoreboardService;
+import com.sportradar.service.ScoreboardServiceImpl;
+
+@DisplayName("JournaledMatchRepository")
+class JournaledMatchRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private Path journalFile;
+    private JournaledMatchRepository repository;
+    private Team homeTeam;
+    private Team awayTeam;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+        journalFile = directory.resolve("scoreboard.journal");
+        repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile);
+        homeTeam = new Team("Germany");
+        awayTeam = new Team("Brazil");
+        match = new Match(homeTeam, awayTeam);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    private MatchRepository reopen() {
+        repository.close();
+        repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile);
+        return repository;
+    }
+
+    @Nested
+    @DisplayName("recovery")
+    class Recovery {
+        @Test
+        @DisplayName("restores started matches with their scores and start times")
+        void shouldRestoreStartedMatches() {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(2, 1));
+            repository.save(match);
+
+            // When
+            MatchRepository restored = reopen();
+
+            // Then
+            Optional<Match> found = restored.findByTeams(homeTeam, awayTeam);
+            assertTrue(found.isPresent());
+            assertEquals(2, found.get().getHomeScore());
+            assertEquals(1, found.get().getAwayScore());
+            assertEquals(match.getStartTime(), found.get().getStartTime());
+            assertEquals(match.getStartSequence(), found.get().getStartSequence());
+            assertTrue(restored.existsByTeam(homeTeam));
+        }
+
+        @Test
+        @DisplayName("does not restore finished matches")
+        void shouldNotRestoreFinishedMatches() {
+            // Given
+            repository.save(match);
+            Match another = new Match(new Team("Spain"), new Team("Italy"));
+            repository.save(another);
+            repository.delete(match);
+
+            // When
+            MatchRepository restored = reopen();
+
+            // Then
+            assertEquals(List.of(another), restored.findAll());
+            assertFalse(restored.existsByTeam(homeTeam));
+        }
+
+        @Test
+        @DisplayName("keeps appending after a restart")
+        void shouldKeepAppendingAfterRestart() {
+            // Given
+            repository.save(match);
+            MatchRepository restored = reopen();
+
+            // When
+            Match restoredMatch = restored.findByTeams(homeTeam, awayTeam).get();
+            restoredMatch.updateScore(new Score(0, 3));
+            restored.save(restoredMatch);
+            restored.save(new Match(new Team("Spain"), new Team("Italy")));
+            MatchRepository restoredTwice = reopen();
+
+            // Then
+            assertEquals(2, restoredTwice.findAll().size());
+            assertEquals(3, restoredTwice.findByTeams(homeTeam, awayTeam).get().getAwayScore());
+        }
+
+        @Test
+        @DisplayName("ignores a damaged record at the end of the journal")
+        void shouldIgnoreDamagedRecordAtEnd() throws IOException {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(1, 0));
+            repository.save(match);
+            repository.close();
+            corruptLastByteBeforeZeroTail();
+
+            // When
+            repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile);
+
+            // Then
+            Match restored = repository.findByTeams(homeTeam, awayTeam).get();
+            assertEquals(0, restored.getHomeScore());
+            repository.save(restored);
+            assertEquals(1, reopen().findAll().size());
+        }
+
+        @Test
+        @DisplayName("rejects files that are not journals")
+        void shouldRejectFilesThatAreNotJournals() throws IOException {
+            // Given
+            Path other = directory.resolve("other.txt");
+            Files.writeString(other, "not a journal");
+
+            // When/Then
+            assertThrows(IllegalStateException.class,
+                    () -> new JournaledMatchRepository(new InMemoryMatchRepository(), other));
+        }
+    }
+
+    @Nested
+    @DisplayName("journal file")
+    class JournalFile {
+        @Test
+        @DisplayName("grows beyond its initial mapping")
+        void shouldGrowBeyondInitialMapping() {
+            // Given
+            repository.close();
+            repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile,
+                    Duration.ofMillis(5), JournaledMatchRepository.DEFAULT_SNAPSHOT_INTERVAL, 256);
+
+            // When
+            for (int i = 0; i < 200; i++) {
+                Match started = new Match(new Team("Home " + i), new Team("Away " + i));
+                repository.save(started);
+                started.updateScore(new Score(i % 4, 1));
+                repository.save(started);
+            }
+            MatchRepository restored = reopen();
+
+            // Then
+            assertEquals(200, restored.findAll().size());
+            assertEquals(3, restored.findByTeams(new Team("Home 199"), new Team("Away 199")).get().getHomeScore());
+        }
+
+        @Test
+        @DisplayName("rejects changes after close")
+        void shouldRejectChangesAfterClose() {
+            // Given
+            repository.close();
+
+            // When/Then
+            assertThrows(IllegalStateException.class, () -> repository.save(match));
+            assertDoesNotThrow(() -> repository.close());
+        }
+    }
+
+    @Nested
+    @DisplayName("write order")
+    class WriteOrder {
+        @Test
+        @DisplayName("removes the records of a change the wrapped repository rejects")
+        void shouldRemoveRecordsOfRejectedChange() {
+            // Given
+            repository.close();
+            repository = new JournaledMatchRepository(new RejectingMatchRepository(), journalFile);
+            Match rejected = new Match(new Team("Spain"), new Team("Italy"));
+
+            // When
+            assertThrows(IllegalStateException.class, () -> repository.save(rejected));
+            repository.save(match);
+            MatchRepository restored = reopen();
+
+            // Then
+            assertEquals(List.of(match), restored.findAll());
+            restored.save(new Match(new Team("Italy"), new Team("France")));
+            assertEquals(2, reopen().findAll().size());
+        }
+
+        @Test
+        @DisplayName("leaves the wrapped repository unchanged when a change cannot be journaled")
+        void shouldLeaveRepositoryUnchangedWhenChangeCannotBeJournaled() {
+            // Given
+            repository.close();
+            InMemoryMatchRepository delegate = new InMemoryMatchRepository();
+            repository = new JournaledMatchRepository(delegate, journalFile);
+            repository.save(match);
+            Match unjournaled = new Match(new Team("Spain"), new Team("x".repeat(Short.MAX_VALUE + 1)));
+
+            // When
+            assertThrows(IllegalArgumentException.class, () -> repository.save(unjournaled));
+
+            // Then
+            assertEquals(List.of(match), delegate.findAll());
+            assertEquals(List.of(match), reopen().findAll());
+        }
+
+        @Test
+        @DisplayName("keeps the stored score when a score update of the scoreboard cannot be journaled")
+        void shouldKeepStoredScoreWhenUpdateCannotBeJournaled() {
+            // Given
+            repository.close();
+            InMemoryMatchRepository delegate = new InMemoryMatchRepository();
+            repository = new JournaledMatchRepository(delegate, journalFile);
+            ScoreboardService scoreboard = new ScoreboardServiceImpl(repository,
+                    ScoreboardServiceFactory.TOTAL_SCORE_AND_TIME_COMPARATOR);
+            scoreboard.startMatch("Germany", "Brazil");
+            repository.close();
+
+            // When
+            assertThrows(IllegalStateException.class, () -> scoreboard.updateScore("Germany", "Brazil", 1, 0));
+
+            // Then
+            assertEquals(0, delegate.findByTeams(homeTeam, awayTeam).orElseThrow().getTotalScore());
+            assertEquals("[Germany 0 - 0 Brazil]", scoreboard.getSummary().toString());
+        }
+
+        @Test
+        @DisplayName("does not journal score updates of matches that are not stored")
+        void shouldNotJournalUpdatesOfMissingMatches() {
+            // Given
+            repository.save(match);
+            Match missing = new Match(new Team("Spain"), new Team("Italy"));
+
+            // When
+            boolean updated = repository.update(missing);
+
+            // Then
+            assertFalse(updated);
+            assertEquals(List.of(match), reopen().findAll());
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshots")
+    class Snapshots {
+        @Test
+        @DisplayName("restores matches from the snapshot and the journal tail")
+        void shouldRestoreFromSnapshotAndTail() {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(1, 0));
+            repository.save(match);
+            repository.snapshot();
+            match.updateScore(new Score(2, 0));
+            repository.save(match);
+            Match another = new Match(new Team("Spain"), new Team("Italy"));
+            repository.save(another);
+
+            // When
+            MatchRepository restored = reopen();
+
+            // Then
+            assertEquals(2, restored.findAll().size());
+            Match found = restored.findByTeams(homeTeam, awayTeam).get();
+            assertEquals(2, found.getHomeScore());
+            assertEquals(match.getStartTime(), found.getStartTime());
+            assertEquals(match.getStartSequence(), found.getStartSequence());
+            assertTrue(restored.existsByTeam(new Team("Italy")));
+        }
+
+        @Test
+        @DisplayName("replays only the records after the snapshot of a journal that was not yet replaced")
+        void shouldReplayOnlyRecordsAfterSnapshot() throws IOException {
+            // Given
+            repository.save(match);
+            Path previousSegment = directory.resolve("previous.journal");
+            Files.copy(journalFile, previousSegment);
+            repository.snapshot();
+            repository.save(new Match(new Team("Spain"), new Team("Italy")));
+            repository.close();
+            Files.move(previousSegment, journalFile, StandardCopyOption.REPLACE_EXISTING);
+            corruptJournalByte(28);
+
+            // When
+            repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile);
+
+            // Then
+            assertEquals(List.of(match), repository.findAll());
+        }
+
+        @Test
+        @DisplayName("falls back to the full journal when the snapshot of the first segment is damaged")
+        void shouldFallBackToJournalWhenSnapshotIsDamaged() throws IOException {
+            // Given
+            repository.save(match);
+            Path firstSegment = directory.resolve("first.journal");
+            Files.copy(journalFile, firstSegment);
+            repository.snapshot();
+            repository.close();
+            Files.move(firstSegment, journalFile, StandardCopyOption.REPLACE_EXISTING);
+            damageSnapshot();
+
+            // When
+            repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile);
+
+            // Then
+            assertEquals(List.of(match), repository.findAll());
+        }
+
+        @Test
+        @DisplayName("rejects a later segment whose snapshot is damaged")
+        void shouldRejectLaterSegmentWithoutSnapshot() throws IOException {
+            // Given
+            repository.save(match);
+            repository.snapshot();
+            repository.close();
+            damageSnapshot();
+
+            // When/Then
+            assertThrows(IllegalStateException.class,
+                    () -> new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile));
+        }
+
+        @Test
+        @DisplayName("drops the records covered by a snapshot from the journal")
+        void shouldDropRecordsCoveredBySnapshot() throws IOException {
+            // Given
+            repository.close();
+            repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile,
+                    JournaledMatchRepository.DEFAULT_SYNC_INTERVAL, JournaledMatchRepository.DEFAULT_SNAPSHOT_INTERVAL,
+                    256);
+            repository.save(match);
+
+            // When
+            for (int i = 0; i < 1_000; i++) {
+                Match started = new Match(new Team("Home " + i), new Team("Away " + i));
+                repository.save(started);
+                started.updateScore(new Score(1, 0));
+                repository.save(started);
+                repository.delete(started);
+                if (i % 10 == 0) {
+                    repository.snapshot();
+                }
+            }
+            match.updateScore(new Score(0, 2));
+            repository.save(match);
+            long journalSize = Files.size(journalFile);
+            MatchRepository restored = reopen();
+
+            // Then
+            assertTrue(journalSize < 16 * 1024, "journal size " + journalSize);
+            assertEquals(List.of(match), restored.findAll());
+            assertEquals(2, restored.findAll().get(0).getAwayScore());
+        }
+
+        @Test
+        @DisplayName("ignores a snapshot of another journal")
+        void shouldIgnoreSnapshotOfAnotherJournal() throws IOException {
+            // Given
+            repository.save(match);
+            repository.snapshot();
+            Path otherJournal = directory.resolve("other.journal");
+            Files.copy(directory.resolve("scoreboard.journal.snapshot"),
+                    directory.resolve("other.journal.snapshot"));
+
+            // When
+            try (JournaledMatchRepository other = new JournaledMatchRepository(new InMemoryMatchRepository(),
+                    otherJournal)) {
+                // Then
+                assertTrue(other.findAll().isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("writes snapshots periodically")
+        void shouldWriteSnapshotsPeriodically() throws InterruptedException {
+            // Given
+            repository.close();
+            repository = new JournaledMatchRepository(new InMemoryMatchRepository(), journalFile,
+                    Duration.ofMillis(5), Duration.ofMillis(5));
+            Path snapshotFile = directory.resolve("scoreboard.journal.snapshot");
+
+            // When
+            repository.save(match);
+
+            // Then
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!Files.exists(snapshotFile) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(Files.exists(snapshotFile));
+        }
+    }
+
+    /**
+     * Repository that rejects every match of Spain.
+     */
+    private static final class RejectingMatchRepository extends InMemoryMatchRepository {
+        @Override
+        public void save(Match match) {
+            if (match.getHomeTeam().getName().equals("Spain")) {
+                throw new IllegalStateException("Rejected");
+            }
+            super.save(match);
+        }
+    }
+
+    private void damageSnapshot() throws IOException {
+        Path snapshotFile = directory.resolve("scoreboard.journal.snapshot");
+        byte[] contents = Files.readAllBytes(snapshotFile);
+        contents[contents.length / 2] ^= 0xFF;
+        Files.write(snapshotFile, contents);
+    }
+
+    private void corruptJournalByte(long position) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+    }
+
+    private void corruptLastByteBeforeZeroTail() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            long position = file.length() - 1;
+            while (position > 0) {
+                file.seek(position);
+                if (file.read() != 0) {
+                    break;
+                }
+                position--;
+            }
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+    }
+}
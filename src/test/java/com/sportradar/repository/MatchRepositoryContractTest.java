@@ -0,0 +1,91 @@
+package com.sportradar.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Team;
+
+/**
+ * Behaviour every {@link MatchRepository} implementation shares.
+ * <p>
+ * Each implementation's test extends this class, creates its repository in
+ * {@link #createRepository()} and adds the tests of its own behaviour.
+ * </p>
+ */
+abstract class MatchRepositoryContractTest {
+
+    protected MatchRepository repository;
+    protected Team homeTeam;
+    protected Team awayTeam;
+    protected Match match;
+
+    @BeforeEach
+    void setUpRepository() {
+        repository = createRepository();
+        homeTeam = team("Germany");
+        awayTeam = team("Brazil");
+        match = new Match(homeTeam, awayTeam);
+    }
+
+    /**
+     * Creates the empty repository under test.
+     *
+     * @return the repository
+     */
+    abstract MatchRepository createRepository();
+
+    /**
+     * Returns the team with the given name, as the repository under test
+     * expects its teams.
+     *
+     * @param name the name of the team
+     * @return the team
+     */
+    Team team(String name) {
+        return new Team(name);
+    }
+
+    @Nested
+    @DisplayName("findByTeam operation")
+    class FindByTeamOperation {
+        @Test
+        @DisplayName("finds the match of a home or away team")
+        void shouldFindMatchOfHomeOrAwayTeam() {
+            // Given
+            repository.save(match);
+
+            // When/Then
+            assertEquals(match, repository.findByTeam(homeTeam).get());
+            assertEquals(match, repository.findByTeam(new Team("Brazil")).get());
+            assertFalse(repository.findByTeam(new Team("Spain")).isPresent());
+        }
+
+        @Test
+        @DisplayName("forgets the teams of a deleted match")
+        void shouldForgetTeamsOfDeletedMatch() {
+            // Given
+            repository.save(match);
+            Match next = new Match(team("France"), awayTeam);
+
+            // When
+            repository.delete(match);
+            repository.save(next);
+
+            // Then
+            assertFalse(repository.findByTeam(homeTeam).isPresent());
+            assertEquals(next, repository.findByTeam(awayTeam).get());
+        }
+
+        @Test
+        @DisplayName("rejects a null team")
+        void shouldRejectNullTeam() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> repository.findByTeam(null));
+        }
+    }
+}
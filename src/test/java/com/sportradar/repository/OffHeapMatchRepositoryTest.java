@@ -0,0 +1,248 @@
+package com.sportradar.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.domain.TeamRegistry;
+import com.sportradar.factory.ScoreboardServiceFactory;
+import com.sportradar.service.ScoreboardService;
+
+@DisplayName("OffHeapMatchRepository")
+class OffHeapMatchRepositoryTest extends MatchRepositoryContractTest {
+
+    private TeamRegistry teamRegistry;
+
+    @Override
+    MatchRepository createRepository() {
+        teamRegistry = new TeamRegistry();
+        return new OffHeapMatchRepository(teamRegistry, 2);
+    }
+
+    @Override
+    Team team(String name) {
+        return teamRegistry.intern(name);
+    }
+
+    @Test
+    @DisplayName("rejects a capacity that is not positive")
+    void shouldRejectNonPositiveCapacity() {
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMatchRepository(teamRegistry, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMatchRepository(null));
+    }
+
+    @Nested
+    @DisplayName("save operation")
+    class SaveOperation {
+        @Test
+        @DisplayName("stores a view with the state of the match")
+        void shouldStoreViewOfMatch() {
+            // Given
+            match.updateScore(new Score(3, 1));
+
+            // When
+            repository.save(match);
+
+            // Then
+            Match stored = repository.findByTeams(homeTeam, awayTeam).get();
+            assertEquals(match, stored);
+            assertSame(homeTeam, stored.getHomeTeam());
+            assertSame(awayTeam, stored.getAwayTeam());
+            assertEquals(new Score(3, 1), stored.getScore());
+            assertEquals(4, stored.getTotalScore());
+            assertEquals(match.getStartTime(), stored.getStartTime());
+            assertEquals(match.getStartSequence(), stored.getStartSequence());
+            assertEquals(match.getOrderingKey(), stored.getOrderingKey());
+            assertEquals(match.toString(), stored.toString());
+        }
+
+        @Test
+        @DisplayName("writes score updates of the view in place")
+        void shouldWriteScoreUpdatesInPlace() {
+            // Given
+            repository.save(match);
+            Match stored = repository.findByTeams(homeTeam, awayTeam).get();
+
+            // When
+            stored.updateScore(new Score(2, 2));
+            repository.save(stored);
+
+            // Then
+            assertSame(stored, repository.findByTeams(homeTeam, awayTeam).get());
+            assertEquals(new Score(2, 2), repository.findAll().get(0).getScore());
+            assertEquals(0, match.getTotalScore());
+        }
+
+        @Test
+        @DisplayName("hands out the same score and start time while the record is unchanged")
+        void shouldReuseScoreAndStartTimeOfView() {
+            // Given
+            repository.save(match);
+            Match stored = repository.findByTeams(homeTeam, awayTeam).get();
+            Score updated = new Score(1, 0);
+
+            // When
+            stored.updateScore(updated);
+
+            // Then
+            assertSame(updated, stored.getScore());
+            assertSame(stored.getScore(), stored.getScore());
+            assertSame(stored.getStartTime(), stored.getStartTime());
+            assertEquals(match.getStartTime(), stored.getStartTime());
+        }
+
+        @Test
+        @DisplayName("overwrites the stored state when another object is saved")
+        void shouldOverwriteStoredState() {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(2, 1));
+
+            // When
+            repository.save(match);
+
+            // Then
+            assertEquals(1, repository.findAll().size());
+            assertEquals(2, repository.findByTeams(homeTeam, awayTeam).get().getHomeScore());
+        }
+
+        @Test
+        @DisplayName("registers teams that were not interned")
+        void shouldRegisterTeamsThatWereNotInterned() {
+            // Given
+            Match unregistered = new Match(new Team("Spain"), new Team("Italy"));
+
+            // When
+            repository.save(unregistered);
+
+            // Then
+            assertTrue(repository.findByTeams(teamRegistry.intern("Spain"), new Team("Italy")).isPresent());
+            assertTrue(repository.existsByTeam(new Team("Spain")));
+        }
+    }
+
+    @Nested
+    @DisplayName("delete operation")
+    class DeleteOperation {
+        @Test
+        @DisplayName("removes match and releases its teams")
+        void shouldRemoveMatch() {
+            // Given
+            repository.save(match);
+
+            // When
+            repository.delete(match);
+
+            // Then
+            assertFalse(repository.findByTeams(homeTeam, awayTeam).isPresent());
+            assertFalse(repository.existsByTeam(homeTeam));
+            assertFalse(repository.existsByTeam(awayTeam));
+        }
+
+        @Test
+        @DisplayName("keeps the last state of a deleted view after its record is reused")
+        void shouldKeepStateOfDeletedView() {
+            // Given
+            repository.save(match);
+            Match stored = repository.findByTeams(homeTeam, awayTeam).get();
+            stored.updateScore(new Score(1, 0));
+
+            // When
+            repository.delete(stored);
+            Match next = new Match(teamRegistry.intern("Spain"), teamRegistry.intern("Italy"));
+            next.updateScore(new Score(5, 5));
+            repository.save(next);
+
+            // Then
+            assertEquals("Germany 1 - 0 Brazil", stored.toString());
+            assertEquals("Spain 5 - 5 Italy", repository.findAll().get(0).toString());
+        }
+
+        @Test
+        @DisplayName("handles deletion of non-existent match")
+        void shouldHandleNonExistentMatchDeletion() {
+            // When/Then - should not throw
+            assertDoesNotThrow(() -> repository.delete(match));
+            assertDoesNotThrow(() -> repository.delete(new Match(new Team("Spain"), new Team("Italy"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("findByTeams operation")
+    class FindByTeamsOperation {
+        @Test
+        @DisplayName("distinguishes home and away order")
+        void shouldDistinguishHomeAndAwayOrder() {
+            // Given
+            repository.save(match);
+
+            // When/Then
+            assertFalse(repository.findByTeams(awayTeam, homeTeam).isPresent());
+        }
+
+        @Test
+        @DisplayName("returns empty for unknown teams")
+        void shouldReturnEmptyForUnknownTeams() {
+            // When/Then
+            assertEquals(Optional.empty(), repository.findByTeams(new Team("Spain"), awayTeam));
+        }
+    }
+
+    @Test
+    @DisplayName("stays consistent while growing under heavy start and finish churn")
+    void shouldStayConsistentUnderChurn() {
+        // Given
+        Random random = new Random(42);
+        List<Match> live = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            if (live.isEmpty() || random.nextInt(3) > 0) {
+                Match started = new Match(teamRegistry.intern("Home " + i), teamRegistry.intern("Away " + i));
+                started.updateScore(new Score(i % 7, i % 5));
+                repository.save(started);
+                live.add(started);
+            } else {
+                repository.delete(live.remove(random.nextInt(live.size())));
+            }
+        }
+
+        // Then
+        assertEquals(live.size(), repository.findAll().size());
+        for (Match expected : live) {
+            Match stored = repository.findByTeams(expected.getHomeTeam(), expected.getAwayTeam()).get();
+            assertEquals(expected.getScore(), stored.getScore());
+            assertEquals(expected.getStartSequence(), stored.getStartSequence());
+        }
+    }
+
+    @Test
+    @DisplayName("backs a scoreboard service created by the factory")
+    void shouldBackScoreboardService() {
+        // Given
+        ScoreboardService service = ScoreboardServiceFactory.createOffHeap();
+        service.startMatch("Mexico", "Canada");
+        service.startMatch("Spain", "Brazil");
+
+        // When
+        service.updateScore("Mexico", "Canada", 0, 5);
+        service.updateScore("Spain", "Brazil", 10, 2);
+        service.finishMatch("Mexico", "Canada");
+
+        // Then
+        List<Match> summary = service.getSummary();
+        assertEquals(1, summary.size());
+        assertEquals("Spain 10 - 2 Brazil", summary.get(0).toString());
+    }
+}
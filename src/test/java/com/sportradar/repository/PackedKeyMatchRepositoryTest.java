@@ -0,0 +1,173 @@
+package com.sportradar.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+import com.sportradar.domain.TeamRegistry;
+
+@DisplayName("PackedKeyMatchRepository")
+class PackedKeyMatchRepositoryTest extends MatchRepositoryContractTest {
+
+    private TeamRegistry teamRegistry;
+
+    @Override
+    MatchRepository createRepository() {
+        teamRegistry = new TeamRegistry();
+        return new PackedKeyMatchRepository(teamRegistry);
+    }
+
+    @Override
+    Team team(String name) {
+        return teamRegistry.intern(name);
+    }
+
+    @Nested
+    @DisplayName("save operation")
+    class SaveOperation {
+        @Test
+        @DisplayName("stores match correctly")
+        void shouldStoreMatch() {
+            // When
+            repository.save(match);
+
+            // Then
+            Optional<Match> found = repository.findByTeams(homeTeam, awayTeam);
+            assertTrue(found.isPresent());
+            assertSame(match, found.get());
+        }
+
+        @Test
+        @DisplayName("updates existing match")
+        void shouldUpdateExistingMatch() {
+            // Given
+            repository.save(match);
+            match.updateScore(new Score(2, 1));
+
+            // When
+            repository.save(match);
+
+            // Then
+            assertEquals(1, repository.findAll().size());
+            assertEquals(2, repository.findByTeams(homeTeam, awayTeam).get().getHomeScore());
+        }
+
+        @Test
+        @DisplayName("registers teams that were not interned")
+        void shouldRegisterTeamsThatWereNotInterned() {
+            // Given
+            Match unregistered = new Match(new Team("Spain"), new Team("Italy"));
+
+            // When
+            repository.save(unregistered);
+
+            // Then
+            assertTrue(repository.findByTeams(teamRegistry.intern("Spain"), new Team("Italy")).isPresent());
+            assertTrue(repository.existsByTeam(new Team("Spain")));
+        }
+    }
+
+    @Nested
+    @DisplayName("delete operation")
+    class DeleteOperation {
+        @Test
+        @DisplayName("removes match and releases its teams")
+        void shouldRemoveMatch() {
+            // Given
+            repository.save(match);
+
+            // When
+            repository.delete(match);
+
+            // Then
+            assertFalse(repository.findByTeams(homeTeam, awayTeam).isPresent());
+            assertFalse(repository.existsByTeam(homeTeam));
+            assertFalse(repository.existsByTeam(awayTeam));
+        }
+
+        @Test
+        @DisplayName("handles deletion of non-existent match")
+        void shouldHandleNonExistentMatchDeletion() {
+            // When/Then - should not throw
+            assertDoesNotThrow(() -> repository.delete(match));
+            assertDoesNotThrow(() -> repository.delete(new Match(new Team("Spain"), new Team("Italy"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("findByTeams operation")
+    class FindByTeamsOperation {
+        @Test
+        @DisplayName("distinguishes home and away order")
+        void shouldDistinguishHomeAndAwayOrder() {
+            // Given
+            repository.save(match);
+
+            // When/Then
+            assertFalse(repository.findByTeams(awayTeam, homeTeam).isPresent());
+        }
+
+        @Test
+        @DisplayName("returns empty for unknown teams")
+        void shouldReturnEmptyForUnknownTeams() {
+            // When/Then
+            assertFalse(repository.findByTeams(new Team("Spain"), awayTeam).isPresent());
+        }
+    }
+
+    @Nested
+    @DisplayName("existsByTeam operation")
+    class ExistsByTeamOperation {
+        @Test
+        @DisplayName("tracks teams in multiple matches correctly")
+        void shouldTrackTeamsInMultipleMatchesCorrectly() {
+            // Given
+            repository.save(match);
+            Team thirdTeam = teamRegistry.intern("France");
+            repository.save(new Match(homeTeam, thirdTeam));
+
+            // When
+            repository.delete(match);
+
+            // Then
+            assertTrue(repository.existsByTeam(homeTeam));
+            assertFalse(repository.existsByTeam(awayTeam));
+            assertTrue(repository.existsByTeam(thirdTeam));
+        }
+    }
+
+    @Test
+    @DisplayName("stays consistent under heavy start and finish churn")
+    void shouldStayConsistentUnderChurn() {
+        // Given
+        Random random = new Random(42);
+        List<Match> live = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            if (live.isEmpty() || random.nextInt(3) > 0) {
+                Match started = new Match(teamRegistry.intern("Home " + i), teamRegistry.intern("Away " + i));
+                repository.save(started);
+                live.add(started);
+            } else {
+                repository.delete(live.remove(random.nextInt(live.size())));
+            }
+        }
+
+        // Then
+        assertEquals(live.size(), repository.findAll().size());
+        for (Match expected : live) {
+            assertSame(expected, repository.findByTeams(expected.getHomeTeam(), expected.getAwayTeam()).get());
+        }
+    }
+}
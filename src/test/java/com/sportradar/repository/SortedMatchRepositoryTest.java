@@ -0,0 +1,185 @@
+package com.sportradar.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+
+@DisplayName("SortedMatchRepository")
+class SortedMatchRepositoryTest {
+
+    private static final Comparator<Match> BY_TOTAL_SCORE = Comparator.comparing(Match::getTotalScore,
+            Comparator.reverseOrder());
+
+    private SortedMatchRepository repository;
+    private Match germanyBrazil;
+    private Match spainItaly;
+    private Match franceMexico;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SortedMatchRepository(new InMemoryMatchRepository(), BY_TOTAL_SCORE);
+        germanyBrazil = new Match(new Team("Germany"), new Team("Brazil"));
+        spainItaly = new Match(new Team("Spain"), new Team("Italy"));
+        franceMexico = new Match(new Team("France"), new Team("Mexico"));
+    }
+
+    @Nested
+    @DisplayName("findAllOrdered operation")
+    class FindAllOrderedOperation {
+        @Test
+        @DisplayName("returns matches in comparator order")
+        void shouldReturnMatchesInComparatorOrder() {
+            // Given
+            germanyBrazil.updateScore(new Score(1, 0));
+            spainItaly.updateScore(new Score(3, 2));
+            franceMexico.updateScore(new Score(2, 0));
+
+            // When
+            repository.save(germanyBrazil);
+            repository.save(spainItaly);
+            repository.save(franceMexico);
+
+            // Then
+            assertEquals(List.of(spainItaly, franceMexico, germanyBrazil), repository.findAllOrdered());
+        }
+
+        @Test
+        @DisplayName("repositions match when an updated score is saved")
+        void shouldRepositionMatchWhenUpdatedScoreIsSaved() {
+            // Given
+            repository.save(germanyBrazil);
+            repository.save(spainItaly);
+            spainItaly.updateScore(new Score(1, 0));
+            repository.save(spainItaly);
+
+            // When
+            germanyBrazil.updateScore(new Score(4, 4));
+            repository.save(germanyBrazil);
+
+            // Then
+            assertEquals(List.of(germanyBrazil, spainItaly), repository.findAllOrdered());
+        }
+
+        @Test
+        @DisplayName("keeps first-saved order for equal matches")
+        void shouldKeepFirstSavedOrderForEqualMatches() {
+            // Given
+            repository.save(germanyBrazil);
+            repository.save(spainItaly);
+            repository.save(franceMexico);
+
+            // When
+            repository.save(germanyBrazil);
+
+            // Then
+            assertEquals(List.of(germanyBrazil, spainItaly, franceMexico), repository.findAllOrdered());
+        }
+
+        @Test
+        @DisplayName("drops deleted matches")
+        void shouldDropDeletedMatches() {
+            // Given
+            repository.save(germanyBrazil);
+            repository.save(spainItaly);
+
+            // When
+            repository.delete(germanyBrazil);
+
+            // Then
+            assertEquals(List.of(spainItaly), repository.findAllOrdered());
+            assertFalse(repository.existsByTeam(germanyBrazil.getHomeTeam()));
+        }
+
+        @Test
+        @DisplayName("indexes matches already stored in the wrapped repository")
+        void shouldIndexExistingMatches() {
+            // Given
+            MatchRepository delegate = new InMemoryMatchRepository();
+            spainItaly.updateScore(new Score(2, 2));
+            delegate.save(germanyBrazil);
+            delegate.save(spainItaly);
+
+            // When
+            SortedMatchRepository sorted = new SortedMatchRepository(delegate, BY_TOTAL_SCORE);
+
+            // Then
+            assertEquals(List.of(spainItaly, germanyBrazil), sorted.findAllOrdered());
+        }
+    }
+
+    @Nested
+    @DisplayName("named orderings")
+    class NamedOrderings {
+        private final Comparator<Match> byStartOrder = Comparator.comparingLong(Match::getStartSequence);
+
+        @BeforeEach
+        void setUp() {
+            repository = new SortedMatchRepository(new InMemoryMatchRepository(), BY_TOTAL_SCORE,
+                    Map.of("started", byStartOrder, "score", BY_TOTAL_SCORE));
+        }
+
+        @Test
+        @DisplayName("maintains every ordering across updates and deletions")
+        void shouldMaintainEveryOrdering() {
+            // Given
+            repository.save(germanyBrazil);
+            repository.save(spainItaly);
+            repository.save(franceMexico);
+
+            // When
+            spainItaly.updateScore(new Score(3, 0));
+            repository.save(spainItaly);
+            germanyBrazil.updateScore(new Score(1, 0));
+            repository.save(germanyBrazil);
+            repository.delete(franceMexico);
+
+            // Then
+            assertEquals(List.of(spainItaly, germanyBrazil), repository.findAllOrdered());
+            assertEquals(List.of(spainItaly, germanyBrazil), repository.findAllOrdered("score"));
+            assertEquals(List.of(germanyBrazil, spainItaly), repository.findAllOrdered("started"));
+        }
+
+        @Test
+        @DisplayName("lists the names of the orderings")
+        void shouldListOrderingNames() {
+            // When/Then
+            assertEquals(Set.of("started", "score"), repository.getOrderingNames());
+        }
+
+        @Test
+        @DisplayName("rejects unknown ordering names and null orderings")
+        void shouldRejectUnknownOrderings() {
+            // Given
+            Map<String, Comparator<Match>> withNullName = new HashMap<>();
+            withNullName.put(null, byStartOrder);
+
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> repository.findAllOrdered("unknown"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new SortedMatchRepository(new InMemoryMatchRepository(), BY_TOTAL_SCORE, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new SortedMatchRepository(new InMemoryMatchRepository(), BY_TOTAL_SCORE, withNullName));
+        }
+    }
+
+    @Test
+    @DisplayName("fails with null repository or comparator")
+    void shouldThrowExceptionForNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedMatchRepository(null, BY_TOTAL_SCORE));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SortedMatchRepository(new InMemoryMatchRepository(), null));
+    }
+}
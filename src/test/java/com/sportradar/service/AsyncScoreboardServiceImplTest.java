@@ -0,0 +1,181 @@
+package com.sportradar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.factory.ScoreboardServiceFactory;
+
+@DisplayName("AsyncScoreboardServiceImpl")
+class AsyncScoreboardServiceImplTest {
+
+    private AsyncScoreboardServiceImpl scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new AsyncScoreboardServiceImpl(ScoreboardServiceFactory.createConcurrent());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Nested
+    @DisplayName("changes")
+    class Changes {
+        @Test
+        @DisplayName("applies chained changes in order")
+        void shouldApplyChainedChangesInOrder() throws Exception {
+            // When
+            Match match = scoreboard.startMatch("Mexico", "Canada")
+                    .thenCompose(started -> scoreboard.updateScore("Mexico", "Canada", 0, 5)
+                            .thenApply(ignored -> started))
+                    .get(10, TimeUnit.SECONDS);
+
+            // Then
+            List<Match> summary = scoreboard.getSummary().get(10, TimeUnit.SECONDS);
+            assertEquals(List.of(match), summary);
+            assertEquals(5, summary.get(0).getAwayScore());
+        }
+
+        @Test
+        @DisplayName("completes exceptionally with the exception of the failed change")
+        void shouldCompleteExceptionallyWithFailure() {
+            // When
+            CompletableFuture<Void> future = scoreboard.finishMatch("Spain", "Brazil");
+
+            // Then
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> future.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(MatchNotFoundException.class, exception.getCause());
+        }
+
+        @Test
+        @DisplayName("applies unchained changes of one match in submission order")
+        void shouldApplyChangesOfOneMatchInSubmissionOrder() throws Exception {
+            // Given
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            futures.add(scoreboard.startMatch("Mexico", "Canada"));
+
+            // When
+            for (int goals = 1; goals <= 200; goals++) {
+                futures.add(scoreboard.updateScore("Mexico", "Canada", goals, 0));
+            }
+            futures.add(scoreboard.finishMatch("Mexico", "Canada"));
+            futures.add(scoreboard.startMatch("Mexico", "Canada"));
+            futures.add(scoreboard.updateScore("Mexico", "Canada", 0, 1));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+            // Then
+            List<Match> summary = scoreboard.getSummary().get(10, TimeUnit.SECONDS);
+            assertEquals(1, summary.size());
+            assertEquals("Mexico 0 - 1 Canada", summary.get(0).toString());
+        }
+
+        @Test
+        @DisplayName("keeps applying the changes of a match after one of them failed")
+        void shouldKeepApplyingChangesAfterFailure() throws Exception {
+            // When
+            CompletableFuture<Void> failed = scoreboard.updateScore("Spain", "Brazil", 1, 0);
+            CompletableFuture<Match> started = scoreboard.startMatch("Spain", "Brazil");
+
+            // Then
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> failed.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(MatchNotFoundException.class, exception.getCause());
+            assertEquals("Spain 0 - 0 Brazil", started.get(10, TimeUnit.SECONDS).toString());
+        }
+
+        @Test
+        @DisplayName("allows only one concurrent match per team")
+        void shouldAllowOnlyOneConcurrentMatchPerTeam() throws Exception {
+            // Given
+            List<CompletableFuture<Match>> futures = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 50; i++) {
+                futures.add(scoreboard.startMatch("Brazil", "Opponent " + i));
+            }
+
+            // Then
+            int started = 0;
+            for (CompletableFuture<Match> future : futures) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                    started++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(TeamAlreadyPlayingException.class, e.getCause());
+                }
+            }
+            assertEquals(1, started);
+        }
+    }
+
+    @Nested
+    @DisplayName("configuration")
+    class Configuration {
+        @Test
+        @DisplayName("runs changes on the given executor")
+        void shouldRunChangesOnGivenExecutor() throws Exception {
+            // Given
+            List<Runnable> tasks = new ArrayList<>();
+            AsyncScoreboardServiceImpl manual = new AsyncScoreboardServiceImpl(
+                    ScoreboardServiceFactory.createConcurrent(), tasks::add);
+
+            // When
+            CompletableFuture<Match> future = manual.startMatch("Spain", "Italy");
+
+            // Then
+            assertFalse(future.isDone());
+            tasks.forEach(Runnable::run);
+            assertTrue(future.isDone());
+            assertEquals(1, manual.getSummary().get().size());
+        }
+
+        @Test
+        @DisplayName("returns an already completed summary")
+        void shouldReturnCompletedSummary() {
+            // When/Then
+            assertTrue(scoreboard.getSummary().isDone());
+        }
+
+        @Test
+        @DisplayName("returns an already completed team lookup")
+        void shouldReturnCompletedTeamLookup() throws Exception {
+            // Given
+            scoreboard.startMatch("Mexico", "Canada").get(10, TimeUnit.SECONDS);
+
+            // When
+            CompletableFuture<Optional<Match>> found = scoreboard.getMatchForTeam("Canada");
+
+            // Then
+            assertTrue(found.isDone());
+            assertEquals("Mexico 0 - 0 Canada", found.get().get().toString());
+            assertTrue(scoreboard.getMatchForTeam(null).isCompletedExceptionally());
+        }
+
+        @Test
+        @DisplayName("fails with null delegate or executor")
+        void shouldFailWithNullDelegateOrExecutor() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> new AsyncScoreboardServiceImpl(null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new AsyncScoreboardServiceImpl(ScoreboardServiceFactory.createConcurrent(), null));
+        }
+    }
+}
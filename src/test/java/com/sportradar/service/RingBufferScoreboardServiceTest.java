@@ -0,0 +1,223 @@
+package com.sportradar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.factory.ScoreboardServiceFactory;
+
+@DisplayName("RingBufferScoreboardService")
+class RingBufferScoreboardServiceTest {
+
+    private RingBufferScoreboardService scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new RingBufferScoreboardService(ScoreboardServiceFactory.createConcurrent(), 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Nested
+    @DisplayName("synchronous operations")
+    class SynchronousOperations {
+        @Test
+        @DisplayName("applies changes before returning")
+        void shouldApplyChangesBeforeReturning() {
+            // When
+            Match match = scoreboard.startMatch("Mexico", "Canada");
+            scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+            // Then
+            assertEquals(List.of(match), scoreboard.getSummary());
+            assertEquals(5, scoreboard.getSummary().get(0).getAwayScore());
+        }
+
+        @Test
+        @DisplayName("finds the match of a team in the wrapped scoreboard")
+        void shouldFindMatchOfTeam() {
+            // Given
+            Match match = scoreboard.startMatch("Mexico", "Canada");
+
+            // When/Then
+            assertEquals(match, scoreboard.getMatchForTeam("Mexico").get());
+            assertEquals(match, scoreboard.getMatchForTeam("Canada").get());
+            assertTrue(scoreboard.getMatchForTeam("Spain").isEmpty());
+        }
+
+        @Test
+        @DisplayName("looks the team up in the wrapped scoreboard instead of scanning the summary")
+        void shouldDelegateMatchLookup() {
+            // Given
+            ScoreboardService delegate = spy(ScoreboardServiceFactory.createConcurrent());
+            try (RingBufferScoreboardService service = new RingBufferScoreboardService(delegate, 8)) {
+                service.startMatch("Mexico", "Canada");
+
+                // When
+                service.getMatchForTeam("Mexico");
+
+                // Then
+                verify(delegate).getMatchForTeam("Mexico");
+                verify(delegate, times(1)).getSummarySnapshot();
+            }
+        }
+
+        @Test
+        @DisplayName("rethrows the exception of a failed change")
+        void shouldRethrowExceptionOfFailedChange() {
+            // Given
+            scoreboard.startMatch("Mexico", "Canada");
+
+            // When/Then
+            assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.startMatch("Canada", "Spain"));
+            assertThrows(MatchNotFoundException.class, () -> scoreboard.finishMatch("Spain", "Brazil"));
+        }
+
+        @Test
+        @DisplayName("applies a batch")
+        void shouldApplyBatch() {
+            // When
+            List<CommandResult> results = scoreboard.applyBatch(List.of(
+                    ScoreboardCommand.start("Spain", "Brazil"),
+                    ScoreboardCommand.updateScore("Spain", "Brazil", 1, 0)));
+
+            // Then
+            assertTrue(results.get(1).isSuccess());
+            assertEquals(1, scoreboard.getSummary().get(0).getHomeScore());
+        }
+    }
+
+    @Nested
+    @DisplayName("asynchronous operations")
+    class AsynchronousOperations {
+        @Test
+        @DisplayName("completes futures in submission order")
+        void shouldCompleteFuturesInSubmissionOrder() throws Exception {
+            // When
+            CompletableFuture<Match> started = scoreboard.startMatchAsync("Spain", "Brazil");
+            CompletableFuture<Void> updated = scoreboard.updateScoreAsync("Spain", "Brazil", 2, 1);
+            CompletableFuture<Void> finished = scoreboard.finishMatchAsync("Spain", "Brazil");
+            finished.get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertTrue(started.isDone());
+            assertTrue(updated.isDone());
+            assertTrue(scoreboard.getSummary().isEmpty());
+        }
+
+        @Test
+        @DisplayName("completes the future exceptionally when the change fails")
+        void shouldCompleteFutureExceptionallyWhenChangeFails() {
+            // When
+            CompletableFuture<Void> future = scoreboard.updateScoreAsync("Spain", "Brazil", 1, 0);
+
+            // Then
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> future.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(MatchNotFoundException.class, exception.getCause());
+        }
+
+        @Test
+        @DisplayName("applies fire-and-forget commands and skips failing ones")
+        void shouldApplyFireAndForgetCommands() throws Exception {
+            // When
+            scoreboard.submit(ScoreboardCommand.start("Spain", "Brazil"));
+            scoreboard.submit(ScoreboardCommand.finish("Germany", "France"));
+            scoreboard.submit(ScoreboardCommand.updateScore("Spain", "Brazil", 3, 0));
+            scoreboard.updateScoreAsync("Spain", "Brazil", 3, 1).get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(4, scoreboard.getSummary().get(0).getTotalScore());
+        }
+    }
+
+    @Nested
+    @DisplayName("many producers")
+    class ManyProducers {
+        @Test
+        @DisplayName("applies every change from concurrent producers through a small ring")
+        void shouldApplyEveryChangeFromConcurrentProducers() throws Exception {
+            // Given
+            int producers = 8;
+            int matchesPerProducer = 200;
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> results = new ArrayList<>();
+
+            // When
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < matchesPerProducer; i++) {
+                        String home = "Home " + producer + "-" + i;
+                        String away = "Away " + producer + "-" + i;
+                        scoreboard.startMatch(home, away);
+                        scoreboard.submit(ScoreboardCommand.updateScore(home, away, 1, i % 3));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            scoreboard.close();
+
+            // Then
+            List<Match> summary = scoreboard.getSummary();
+            assertEquals(producers * matchesPerProducer, summary.size());
+            assertTrue(summary.stream().allMatch(match -> match.getHomeScore() == 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("lifecycle")
+    class Lifecycle {
+        @Test
+        @DisplayName("applies queued changes on close and rejects later ones")
+        void shouldApplyQueuedChangesOnCloseAndRejectLaterOnes() {
+            // Given
+            scoreboard.submit(ScoreboardCommand.start("Spain", "Brazil"));
+
+            // When
+            scoreboard.close();
+
+            // Then
+            assertEquals(1, scoreboard.getSummary().size());
+            assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Germany", "France"));
+            assertDoesNotThrow(() -> scoreboard.close());
+        }
+
+        @Test
+        @DisplayName("rejects invalid capacities")
+        void shouldRejectInvalidCapacities() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> new RingBufferScoreboardService(ScoreboardServiceFactory.createDefault(), 6));
+            assertThrows(IllegalArgumentException.class, () -> new RingBufferScoreboardService(null));
+        }
+    }
+}
@@ -4,11 +4,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +29,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
 import com.sportradar.domain.Team;
+import com.sportradar.domain.TeamRegistry;
 import com.sportradar.exception.MatchNotFoundException;
+import com.sportradar.factory.ScoreboardServiceFactory;
 import com.sportradar.exception.TeamAlreadyPlayingException;
+import com.sportradar.repository.InMemoryMatchRepository;
 import com.sportradar.repository.MatchRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -133,16 +146,36 @@ class ScoreboardServiceImplTest {
             Match match = new Match(homeTeam, awayTeam);
 
             when(repository.findByTeams(homeTeam, awayTeam)).thenReturn(Optional.of(match));
+            when(repository.update(match)).thenReturn(true);
 
             // When
             scoreboard.updateScore(homeTeamName, awayTeamName, 2, 3);
 
             // Then
-            assertEquals(2, match.getHomeScore());
-            assertEquals(3, match.getAwayScore());
+            ArgumentCaptor<Match> updated = ArgumentCaptor.forClass(Match.class);
+            verify(repository).update(updated.capture());
+            assertEquals(2, updated.getValue().getHomeScore());
+            assertEquals(3, updated.getValue().getAwayScore());
+            assertEquals(0, match.getTotalScore());
 
-            verify(repository).findByTeams(homeTeam, awayTeam);
-            verify(repository).save(match);
+            verify(repository, atLeastOnce()).findByTeams(homeTeam, awayTeam);
+            verify(repository, never()).save(any(Match.class));
+        }
+
+        @Test
+        @DisplayName("throws exception when match is finished before the update is saved")
+        void shouldThrowExceptionWhenMatchIsFinishedBeforeUpdateIsSaved() {
+            // Given
+            Team homeTeam = new Team("Germany");
+            Team awayTeam = new Team("Brazil");
+            Match match = new Match(homeTeam, awayTeam);
+
+            when(repository.findByTeams(homeTeam, awayTeam)).thenReturn(Optional.of(match));
+            when(repository.update(match)).thenReturn(false);
+
+            // When/Then
+            assertThrows(MatchNotFoundException.class, () -> scoreboard.updateScore("Germany", "Brazil", 1, 0));
+            verify(repository, never()).save(any(Match.class));
         }
 
         @Test
@@ -164,7 +197,7 @@ class ScoreboardServiceImplTest {
             assertEquals(awayTeam, exception.getAwayTeam());
 
             verify(repository).findByTeams(homeTeam, awayTeam);
-            verify(repository, never()).save(any(Match.class));
+            verify(repository, never()).update(any(Match.class));
         }
     }
 
@@ -187,7 +220,7 @@ class ScoreboardServiceImplTest {
             scoreboard.finishMatch(homeTeamName, awayTeamName);
 
             // Then
-            verify(repository).findByTeams(homeTeam, awayTeam);
+            verify(repository, atLeastOnce()).findByTeams(homeTeam, awayTeam);
             verify(repository).delete(match);
         }
 
@@ -221,49 +254,17 @@ class ScoreboardServiceImplTest {
         @DisplayName("returns matches sorted by total score and start time")
         void shouldReturnMatchesSortedByTotalScoreAndStartTime() {
             // Given
-            Match match1 = mock(Match.class);
-            Match match2 = mock(Match.class);
-            Match match3 = mock(Match.class);
-            Match match4 = mock(Match.class);
-            Match match5 = mock(Match.class);
-
-            lenient().when(match1.getTotalScore()).thenReturn(4);
-            lenient().when(match2.getTotalScore()).thenReturn(5);
-            lenient().when(match3.getTotalScore()).thenReturn(12);
-            lenient().when(match4.getTotalScore()).thenReturn(12);
-            lenient().when(match5.getTotalScore()).thenReturn(4);
-
             LocalDateTime baseTime = LocalDateTime.now();
-            lenient().when(match1.getStartTime()).thenReturn(baseTime.minusMinutes(5));
-            lenient().when(match3.getStartTime()).thenReturn(baseTime.minusMinutes(4));
-            lenient().when(match2.getStartTime()).thenReturn(baseTime.minusMinutes(3));
-            lenient().when(match4.getStartTime()).thenReturn(baseTime.minusMinutes(2));
-            lenient().when(match5.getStartTime()).thenReturn(baseTime.minusMinutes(1));
-
-            lenient().when(match1.getHomeTeam()).thenReturn(new Team("Germany"));
-            lenient().when(match1.getAwayTeam()).thenReturn(new Team("France"));
-            lenient().when(match1.getHomeScore()).thenReturn(2);
-            lenient().when(match1.getAwayScore()).thenReturn(2);
-
-            lenient().when(match2.getHomeTeam()).thenReturn(new Team("Mexico"));
-            lenient().when(match2.getAwayTeam()).thenReturn(new Team("Canada"));
-            lenient().when(match2.getHomeScore()).thenReturn(0);
-            lenient().when(match2.getAwayScore()).thenReturn(5);
-
-            lenient().when(match3.getHomeTeam()).thenReturn(new Team("Spain"));
-            lenient().when(match3.getAwayTeam()).thenReturn(new Team("Brazil"));
-            lenient().when(match3.getHomeScore()).thenReturn(10);
-            lenient().when(match3.getAwayScore()).thenReturn(2);
-
-            lenient().when(match4.getHomeTeam()).thenReturn(new Team("Uruguay"));
-            lenient().when(match4.getAwayTeam()).thenReturn(new Team("Italy"));
-            lenient().when(match4.getHomeScore()).thenReturn(6);
-            lenient().when(match4.getAwayScore()).thenReturn(6);
-
-            lenient().when(match5.getHomeTeam()).thenReturn(new Team("Argentina"));
-            lenient().when(match5.getAwayTeam()).thenReturn(new Team("Australia"));
-            lenient().when(match5.getHomeScore()).thenReturn(3);
-            lenient().when(match5.getAwayScore()).thenReturn(1);
+            Match match1 = Match.restore(new Team("Germany"), new Team("France"), new Score(2, 2),
+                    baseTime.minusMinutes(5));
+            Match match2 = Match.restore(new Team("Mexico"), new Team("Canada"), new Score(0, 5),
+                    baseTime.minusMinutes(3));
+            Match match3 = Match.restore(new Team("Spain"), new Team("Brazil"), new Score(10, 2),
+                    baseTime.minusMinutes(4));
+            Match match4 = Match.restore(new Team("Uruguay"), new Team("Italy"), new Score(6, 6),
+                    baseTime.minusMinutes(2));
+            Match match5 = Match.restore(new Team("Argentina"), new Team("Australia"), new Score(3, 1),
+                    baseTime.minusMinutes(1));
 
             when(repository.findAll()).thenReturn(Arrays.asList(match1, match2, match3, match4, match5));
 
@@ -271,14 +272,7 @@ class ScoreboardServiceImplTest {
             List<Match> summary = scoreboard.getSummary();
 
             // Then
-            assertEquals(5, summary.size());
-
-            assertSame(match4, summary.get(0));
-            assertSame(match3, summary.get(1));
-            assertSame(match2, summary.get(2));
-            assertSame(match5, summary.get(3));
-            assertSame(match1, summary.get(4));
-
+            assertEquals(List.of(match4, match3, match2, match5, match1), summary);
             verify(repository).findAll();
         }
 
@@ -295,5 +289,458 @@ class ScoreboardServiceImplTest {
             assertTrue(summary.isEmpty());
             verify(repository).findAll();
         }
+
+        @Test
+        @DisplayName("returns copies that later changes do not affect")
+        void shouldReturnCopiesThatLaterChangesDoNotAffect() {
+            // Given
+            ScoreboardService realScoreboard = ScoreboardServiceFactory.createDefault();
+            realScoreboard.startMatch("Mexico", "Canada");
+            realScoreboard.startMatch("Spain", "Brazil");
+            List<Match> before = realScoreboard.getSummary();
+
+            // When
+            realScoreboard.updateScore("Mexico", "Canada", 0, 5);
+            realScoreboard.finishMatch("Spain", "Brazil");
+
+            // Then
+            assertEquals("[Spain 0 - 0 Brazil, Mexico 0 - 0 Canada]", before.toString());
+            assertEquals("[Mexico 0 - 5 Canada]", realScoreboard.getSummary().toString());
+        }
+
+        @Test
+        @DisplayName("publishes a change without reading every match again")
+        void shouldPublishChangeWithoutReadingEveryMatchAgain() {
+            // Given
+            Team homeTeam = new Team("Germany");
+            Team awayTeam = new Team("Brazil");
+            Match match = new Match(homeTeam, awayTeam);
+            Match updated = Match.restore(homeTeam, awayTeam, new Score(1, 0), match.getStartTime(),
+                    match.getStartSequence());
+            when(repository.findAll()).thenReturn(List.of(match));
+            when(repository.findByTeams(homeTeam, awayTeam)).thenReturn(Optional.of(match), Optional.of(updated));
+            when(repository.update(match)).thenReturn(true);
+            scoreboard.getSummary();
+
+            // When
+            scoreboard.updateScore("Germany", "Brazil", 1, 0);
+
+            // Then
+            assertEquals("[Germany 1 - 0 Brazil]", scoreboard.getSummary().toString());
+            verify(repository, times(1)).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("getSummary with limit and offset")
+    class GetSummaryPageOperation {
+        private final Match first = new Match(new Team("Germany"), new Team("Brazil"));
+        private final Match second = new Match(new Team("Spain"), new Team("Italy"));
+        private final Match third = new Match(new Team("Mexico"), new Team("Canada"));
+
+        @BeforeEach
+        void setUp() {
+            first.updateScore(new Score(3, 0));
+            second.updateScore(new Score(2, 0));
+            third.updateScore(new Score(1, 0));
+            when(repository.findAll()).thenReturn(List.of(third, first, second));
+        }
+
+        @Test
+        @DisplayName("returns the leading matches up to the limit")
+        void shouldReturnLeadingMatchesUpToLimit() {
+            // When
+            List<Match> top = scoreboard.getSummary(2);
+
+            // Then
+            assertEquals(List.of(first, second), top);
+            assertEquals(List.of(first, second, third), scoreboard.getSummary(10));
+            assertTrue(scoreboard.getSummary(0).isEmpty());
+        }
+
+        @Test
+        @DisplayName("returns the page at the offset")
+        void shouldReturnPageAtOffset() {
+            // When
+            List<Match> page = scoreboard.getSummary(1, 1);
+
+            // Then
+            assertEquals(List.of(second), page);
+            assertEquals(List.of(third), scoreboard.getSummary(2, Integer.MAX_VALUE));
+            assertTrue(scoreboard.getSummary(5, 2).isEmpty());
+        }
+
+        @Test
+        @DisplayName("returns an unmodifiable page")
+        void shouldReturnUnmodifiablePage() {
+            // When
+            List<Match> page = scoreboard.getSummary(0, 2);
+
+            // Then
+            assertThrows(UnsupportedOperationException.class, () -> page.remove(0));
+        }
+
+        @Test
+        @DisplayName("rejects negative offset or limit")
+        void shouldRejectNegativeOffsetOrLimit() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(-1));
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(-1, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("getSummary by ordering name")
+    class GetSummaryByOrderingOperation {
+        private ScoreboardService orderedScoreboard;
+
+        @BeforeEach
+        void setUp() {
+            orderedScoreboard = ScoreboardServiceFactory.createWithOrderings(
+                    Map.of("recent", ScoreboardServiceFactory.MOST_RECENTLY_STARTED_COMPARATOR));
+            orderedScoreboard.startMatch("Mexico", "Canada");
+            orderedScoreboard.startMatch("Spain", "Brazil");
+        }
+
+        @Test
+        @DisplayName("returns matches in the named ordering")
+        void shouldReturnMatchesInNamedOrdering() {
+            // When
+            orderedScoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+            // Then
+            assertEquals("Mexico 0 - 5 Canada", orderedScoreboard.getSummary().get(0).toString());
+            List<Match> recent = orderedScoreboard.getSummary("recent");
+            assertEquals("Spain 0 - 0 Brazil", recent.get(0).toString());
+            assertEquals("Mexico 0 - 5 Canada", recent.get(1).toString());
+        }
+
+        @Test
+        @DisplayName("shares the list until the next change")
+        void shouldShareListUntilNextChange() {
+            // Given
+            List<Match> first = orderedScoreboard.getSummary("recent");
+
+            // When
+            List<Match> second = orderedScoreboard.getSummary("recent");
+            orderedScoreboard.finishMatch("Spain", "Brazil");
+            List<Match> third = orderedScoreboard.getSummary("recent");
+
+            // Then
+            assertSame(first, second);
+            assertEquals(2, first.size());
+            assertEquals(1, third.size());
+            assertThrows(UnsupportedOperationException.class, () -> third.clear());
+        }
+
+        @Test
+        @DisplayName("publishes orderings with every change without reading all matches again")
+        void shouldPublishOrderingsWithoutReadingAllMatches() {
+            // Given
+            MatchRepository storage = spy(new InMemoryMatchRepository());
+            ScoreboardService service = new ScoreboardServiceImpl(storage,
+                    ScoreboardServiceFactory.TOTAL_SCORE_AND_TIME_COMPARATOR, new TeamRegistry(),
+                    Map.of("recent", ScoreboardServiceFactory.MOST_RECENTLY_STARTED_COMPARATOR));
+            service.startMatch("Mexico", "Canada");
+            service.startMatch("Spain", "Brazil");
+
+            // When
+            service.updateScore("Mexico", "Canada", 0, 5);
+            List<Match> recent = service.getSummary("recent");
+
+            // Then
+            assertEquals("Spain 0 - 0 Brazil", recent.get(0).toString());
+            assertEquals("Mexico 0 - 5 Canada", recent.get(1).toString());
+            verify(storage, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("rejects null orderings")
+        void shouldRejectNullOrderings() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ScoreboardServiceImpl(repository, matchComparator, new TeamRegistry(), null));
+            Map<String, Comparator<Match>> nullComparator = new HashMap<>();
+            nullComparator.put("recent", null);
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ScoreboardServiceImpl(repository, matchComparator, new TeamRegistry(), nullComparator));
+        }
+
+        @Test
+        @DisplayName("rejects unknown and null ordering names")
+        void shouldRejectUnknownOrderingNames() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> orderedScoreboard.getSummary("unknown"));
+            assertThrows(IllegalArgumentException.class, () -> orderedScoreboard.getSummary((String) null));
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary("recent"));
+        }
+    }
+
+    @Nested
+    @DisplayName("getSummarySnapshot operation")
+    class GetSummarySnapshotOperation {
+        @Test
+        @DisplayName("returns published snapshot without querying repository again")
+        void shouldReturnPublishedSnapshotWithoutQueryingRepositoryAgain() {
+            // Given
+            Match match = new Match(new Team("Germany"), new Team("Brazil"));
+            when(repository.findAll()).thenReturn(List.of(match));
+
+            // When
+            SummarySnapshot first = scoreboard.getSummarySnapshot();
+            SummarySnapshot second = scoreboard.getSummarySnapshot();
+
+            // Then
+            assertSame(first, second);
+            assertSame(first.getMatches(), scoreboard.getSummary());
+            assertEquals(List.of(match), first.getMatches());
+            verify(repository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("publishes a newer version after every change")
+        void shouldPublishNewerVersionAfterEveryChange() {
+            // Given
+            Team homeTeam = new Team("Germany");
+            Team awayTeam = new Team("Brazil");
+            Match match = new Match(homeTeam, awayTeam);
+            lenient().when(repository.findByTeams(any(Team.class), any(Team.class))).thenReturn(Optional.empty());
+            when(repository.findByTeams(homeTeam, awayTeam)).thenReturn(Optional.of(match));
+            when(repository.update(match)).thenReturn(true);
+            long initialVersion = scoreboard.getSummarySnapshot().getVersion();
+
+            // When
+            scoreboard.startMatch("Spain", "Italy");
+            long afterStart = scoreboard.getSummarySnapshot().getVersion();
+            scoreboard.updateScore("Germany", "Brazil", 1, 0);
+            long afterUpdate = scoreboard.getSummarySnapshot().getVersion();
+            scoreboard.finishMatch("Germany", "Brazil");
+            long afterFinish = scoreboard.getSummarySnapshot().getVersion();
+
+            // Then
+            assertTrue(initialVersion < afterStart);
+            assertTrue(afterStart < afterUpdate);
+            assertTrue(afterUpdate < afterFinish);
+        }
+
+        @Test
+        @DisplayName("returns an unmodifiable summary")
+        void shouldReturnUnmodifiableSummary() {
+            // Given
+            when(repository.findAll()).thenReturn(List.of());
+
+            // When
+            List<Match> summary = scoreboard.getSummary();
+
+            // Then
+            assertThrows(UnsupportedOperationException.class,
+                    () -> summary.add(new Match(new Team("Germany"), new Team("Brazil"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrent writers")
+    class ConcurrentWriters {
+        @Test
+        @DisplayName("publish ordered snapshots that never change after publication")
+        void shouldPublishOrderedSnapshotsThatNeverChange() throws Exception {
+            // Given
+            ScoreboardService concurrentScoreboard = ScoreboardServiceFactory.createConcurrent();
+            int threads = 8;
+            for (int t = 0; t < threads; t++) {
+                concurrentScoreboard.startMatch("Home " + t, "Away " + t);
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> writers = new ArrayList<>();
+
+            // When
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    for (int goals = 1; goals <= 300; goals++) {
+                        concurrentScoreboard.updateScore("Home " + thread, "Away " + thread, goals, 0);
+                    }
+                }));
+            }
+            while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+                SummarySnapshot snapshot = concurrentScoreboard.getSummarySnapshot();
+                String published = snapshot.getMatches().toString();
+
+                // Then
+                List<Match> matches = snapshot.getMatches();
+                for (int i = 1; i < matches.size(); i++) {
+                    assertTrue(ScoreboardServiceFactory.TOTAL_SCORE_AND_TIME_COMPARATOR
+                            .compare(matches.get(i - 1), matches.get(i)) < 0);
+                }
+                assertEquals(published, snapshot.getMatches().toString());
+            }
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            for (Match match : concurrentScoreboard.getSummary()) {
+                assertEquals(300, match.getHomeScore());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getMatchForTeam operation")
+    class GetMatchForTeamOperation {
+        @Test
+        @DisplayName("looks the team up in the repository index")
+        void shouldLookUpTeamInRepositoryIndex() {
+            // Given
+            Team team = new Team("Brazil");
+            Match match = new Match(new Team("Germany"), team);
+            when(repository.findByTeam(team)).thenReturn(Optional.of(match));
+
+            // When
+            Optional<Match> found = scoreboard.getMatchForTeam("Brazil");
+
+            // Then
+            assertEquals(Optional.of(match), found);
+            verify(repository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("returns empty when the team is not playing")
+        void shouldReturnEmptyWhenTeamIsNotPlaying() {
+            // Given
+            when(repository.findByTeam(any(Team.class))).thenReturn(Optional.empty());
+
+            // When/Then
+            assertTrue(scoreboard.getMatchForTeam("Brazil").isEmpty());
+        }
+
+        @Test
+        @DisplayName("rejects invalid team names")
+        void shouldRejectInvalidTeamNames() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.getMatchForTeam(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("applyBatch operation")
+    class ApplyBatchOperation {
+        @Test
+        @DisplayName("applies commands in order and reports per-command results")
+        void shouldApplyCommandsInOrderAndReportResults() {
+            // Given
+            Team homeTeam = new Team("Germany");
+            Team awayTeam = new Team("Brazil");
+            Match match = new Match(homeTeam, awayTeam);
+            when(repository.findByTeams(homeTeam, awayTeam)).thenReturn(Optional.of(match));
+            when(repository.findByTeams(new Team("Spain"), new Team("Italy"))).thenReturn(Optional.empty());
+            when(repository.update(match)).thenReturn(true);
+
+            List<ScoreboardCommand> commands = List.of(
+                    ScoreboardCommand.start("France", "Mexico"),
+                    ScoreboardCommand.updateScore("Spain", "Italy", 1, 0),
+                    ScoreboardCommand.updateScore("Germany", "Brazil", 2, 1),
+                    ScoreboardCommand.finish("Germany", "Brazil"));
+
+            // When
+            List<CommandResult> results = scoreboard.applyBatch(commands);
+
+            // Then
+            assertEquals(4, results.size());
+            assertTrue(results.get(0).isSuccess());
+            assertEquals("France", results.get(0).getMatch().get().getHomeTeam().getName());
+            assertFalse(results.get(1).isSuccess());
+            assertInstanceOf(MatchNotFoundException.class, results.get(1).getError().get());
+            assertTrue(results.get(2).isSuccess());
+            assertEquals(2, results.get(2).getMatch().get().getHomeScore());
+            assertTrue(results.get(3).isSuccess());
+            assertSame(commands.get(3), results.get(3).getCommand());
+
+            ArgumentCaptor<Match> updated = ArgumentCaptor.forClass(Match.class);
+            verify(repository).update(updated.capture());
+            assertEquals(2, updated.getValue().getHomeScore());
+            verify(repository).delete(match);
+        }
+
+        @Test
+        @DisplayName("publishes a single snapshot for the whole batch")
+        void shouldPublishSingleSnapshotForWholeBatch() {
+            // Given
+            long initialVersion = scoreboard.getSummarySnapshot().getVersion();
+
+            // When
+            scoreboard.applyBatch(List.of(
+                    ScoreboardCommand.start("Germany", "Brazil"),
+                    ScoreboardCommand.start("Spain", "Italy"),
+                    ScoreboardCommand.start("France", "Mexico")));
+
+            // Then
+            assertEquals(initialVersion + 1, scoreboard.getSummarySnapshot().getVersion());
+            verify(repository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("does not publish when every command fails")
+        void shouldNotPublishWhenEveryCommandFails() {
+            // Given
+            long initialVersion = scoreboard.getSummarySnapshot().getVersion();
+            when(repository.existsByTeam(new Team("Germany"))).thenReturn(true);
+
+            // When
+            List<CommandResult> results = scoreboard.applyBatch(Arrays.asList(
+                    ScoreboardCommand.start("Germany", "Brazil"),
+                    ScoreboardCommand.updateScore("Spain", "Italy", -1, 0),
+                    null));
+
+            // Then
+            assertInstanceOf(TeamAlreadyPlayingException.class, results.get(0).getError().get());
+            assertInstanceOf(IllegalArgumentException.class, results.get(1).getError().get());
+            assertInstanceOf(IllegalArgumentException.class, results.get(2).getError().get());
+            assertEquals(initialVersion, scoreboard.getSummarySnapshot().getVersion());
+            verify(repository, never()).save(any(Match.class));
+        }
+
+        @Test
+        @DisplayName("reports the match as it was after each command")
+        void shouldReportMatchAfterEachCommand() {
+            // Given
+            ScoreboardService defaultScoreboard = ScoreboardServiceFactory.createDefault();
+            defaultScoreboard.startMatch("Spain", "Brazil");
+
+            // When
+            List<CommandResult> results = defaultScoreboard.applyBatch(List.of(
+                    ScoreboardCommand.updateScore("Spain", "Brazil", 1, 0),
+                    ScoreboardCommand.updateScore("Spain", "Brazil", 2, 0)));
+
+            // Then
+            assertEquals("Spain 1 - 0 Brazil", results.get(0).getMatch().get().toString());
+            assertEquals("Spain 2 - 0 Brazil", results.get(1).getMatch().get().toString());
+        }
+
+        @Test
+        @DisplayName("publishes the applied commands when a later command fails unexpectedly")
+        void shouldPublishAppliedCommandsWhenCommandFailsUnexpectedly() {
+            // Given
+            MatchRepository failingRepository = spy(new InMemoryMatchRepository());
+            doThrow(new UncheckedIOException(new IOException("Disk full"))).when(failingRepository)
+                    .update(any(Match.class));
+            ScoreboardService failingScoreboard = new ScoreboardServiceImpl(failingRepository, matchComparator);
+            failingScoreboard.startMatch("Germany", "Brazil");
+            long initialVersion = failingScoreboard.getSummarySnapshot().getVersion();
+
+            // When
+            assertThrows(UncheckedIOException.class, () -> failingScoreboard.applyBatch(List.of(
+                    ScoreboardCommand.start("France", "Mexico"),
+                    ScoreboardCommand.updateScore("Germany", "Brazil", 1, 0))));
+
+            // Then
+            assertEquals(initialVersion + 1, failingScoreboard.getSummarySnapshot().getVersion());
+            assertEquals(2, failingScoreboard.getSummary().size());
+        }
+
+        @Test
+        @DisplayName("fails with null command list")
+        void shouldThrowExceptionForNullCommandList() {
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.applyBatch(null));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.sportradar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.sportradar.domain.Match;
+import com.sportradar.domain.Score;
+import com.sportradar.domain.Team;
+
+@DisplayName("SummaryTree")
+class SummaryTreeTest {
+    private static final Comparator<Match> ORDER = Comparator.comparingLong(Match::getOrderingKey).reversed();
+
+    @Nested
+    @DisplayName("changes")
+    class Changes {
+        @Test
+        @DisplayName("keeps the order of a sorted list through random inserts and removals")
+        void shouldKeepOrderThroughRandomChanges() {
+            // Given
+            Random random = new Random(42);
+            List<Match> pool = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                pool.add(new Match(new Team("Home " + i), new Team("Away " + i)));
+            }
+            List<Match> expected = new ArrayList<>();
+            SummaryTree tree = SummaryTree.EMPTY;
+
+            for (int step = 0; step < 5_000; step++) {
+                // When
+                Match match = pool.get(random.nextInt(pool.size()));
+                int index = expected.indexOf(match);
+                if (index >= 0) {
+                    tree = tree.remove(expected.remove(index), ORDER);
+                }
+                if (random.nextBoolean()) {
+                    Match copy = Match.restore(match.getHomeTeam(), match.getAwayTeam(),
+                            new Score(random.nextInt(5), random.nextInt(5)), match.getStartTime(),
+                            match.getStartSequence());
+                    expected.add(copy);
+                    tree = tree.insert(copy, ORDER);
+                }
+
+                // Then
+                expected.sort(ORDER);
+                assertEquals(expected.size(), tree.size());
+            }
+            assertEquals(expected, tree.range(0, tree.size()));
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(i, tree.indexOf(expected.get(i), ORDER));
+            }
+        }
+
+        @Test
+        @DisplayName("leaves the previous tree unchanged")
+        void shouldLeavePreviousTreeUnchanged() {
+            // Given
+            Match first = new Match(new Team("Germany"), new Team("Brazil"));
+            Match second = new Match(new Team("Spain"), new Team("Italy"));
+            SummaryTree previous = SummaryTree.of(List.of(second, first));
+
+            // When
+            SummaryTree next = previous.remove(second, ORDER);
+
+            // Then
+            assertEquals(List.of(second, first), previous.range(0, 2));
+            assertEquals(List.of(first), next.range(0, 2));
+            assertSame(next, next.remove(second, ORDER));
+            assertEquals(-1, next.indexOf(second, ORDER));
+        }
+    }
+
+    @Nested
+    @DisplayName("range")
+    class Range {
+        @Test
+        @DisplayName("returns the matches between two positions")
+        void shouldReturnMatchesBetweenPositions() {
+            // Given
+            List<Match> ordered = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                ordered.add(0, new Match(new Team("Home " + i), new Team("Away " + i)));
+            }
+            SummaryTree tree = SummaryTree.of(ordered);
+
+            // When/Then
+            assertEquals(ordered.subList(3, 7), tree.range(3, 7));
+            assertTrue(tree.range(10, 10).isEmpty());
+            assertThrows(UnsupportedOperationException.class, () -> tree.range(0, 1).clear());
+        }
+    }
+}